@@ -0,0 +1,9 @@
+-- 특약 점검 작업(ContractCheckJob) 소유자: 조회(GET /api/contract/check/{jobId})·SSE는 등록한 사용자만
+-- 기존 작업은 소유자가 없어 더 이상 조회되지 않음 (결과는 계약서 점검 분석 테이블에 따로 저장됨)
+
+ALTER TABLE contract_check_jobs
+ADD COLUMN user_id INT NULL COMMENT '작업을 등록한 사용자 ID' AFTER id,
+ADD CONSTRAINT fk_contract_check_job_user FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE;
+
+-- 진행이 멈춘 작업 정리 (status, updated_at 범위)
+CREATE INDEX idx_contract_check_job_status_updated ON contract_check_jobs (status, updated_at);
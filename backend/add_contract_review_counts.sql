@@ -0,0 +1,15 @@
+-- contract_reviews 테이블에 목록 요약용 개수 컬럼 추가
+-- 목록 조회(/api/contract/review/summaries)에서 JSON 컬럼을 읽지 않도록 파일 수·특약 수를 따로 저장
+
+ALTER TABLE contract_reviews
+ADD COLUMN file_count INT NULL COMMENT '업로드 파일 수' AFTER special_terms,
+ADD COLUMN special_term_count INT NULL COMMENT '특약 수' AFTER file_count;
+
+-- 기존 데이터 채우기 (애플리케이션이 쓰는 컬럼은 엔티티 기준 file_path)
+UPDATE contract_reviews
+SET file_count = COALESCE(JSON_LENGTH(file_path), 0),
+    special_term_count = COALESCE(JSON_LENGTH(special_terms), 0)
+WHERE file_count IS NULL OR special_term_count IS NULL;
+
+-- 사용자별 최신순 페이지 조회용
+CREATE INDEX idx_user_created_at ON contract_reviews (user_id, created_at);
@@ -0,0 +1,15 @@
+-- 등기부등본 분석 결과 조회 권한 (DeedAnalysisLink)
+-- deed_analyses 는 같은 파일이면 사용자 간 공유하는 캐시라 소유자를 두지 않고, 업로드한 사용자마다 연결 1행
+-- 프론트 document_id 는 public_id(UUID). 기존 deed_analyses 행은 연결이 없으므로 같은 파일을 다시 올리면 OCR 없이 연결됨
+
+CREATE TABLE IF NOT EXISTS deed_analysis_links (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '연결 ID',
+    public_id CHAR(36) NOT NULL COMMENT '프론트 document_id (UUID)',  -- 순번 ID 대신 노출
+    user_id INT NOT NULL COMMENT '업로드한 사용자 ID',
+    analysis_id BIGINT NOT NULL COMMENT '분석 ID (deed_analyses.id)',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,
+    FOREIGN KEY (analysis_id) REFERENCES deed_analyses(id) ON DELETE CASCADE,
+    CONSTRAINT uk_deed_link_public_id UNIQUE (public_id),
+    CONSTRAINT uk_deed_link_user_analysis UNIQUE (user_id, analysis_id)  -- 사용자·분석당 1행
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자별 등기부등본 분석 연결 테이블';
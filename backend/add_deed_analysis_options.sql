@@ -0,0 +1,10 @@
+-- 등기부등본 분석 캐시를 파일 내용 + OCR 옵션 기준으로 구분 (DeedAnalysis)
+-- 옵션이 다른 업로드가 처음 결과를 받아 가지 않도록, 재업로드도 저장된 옵션으로 실행
+-- 기존 행은 프론트가 보내던 값(doc, false)으로 채움
+
+ALTER TABLE deed_analyses
+ADD COLUMN preprocess VARCHAR(20) NOT NULL DEFAULT 'doc' COMMENT 'OCR 전처리 옵션' AFTER content_hash,
+ADD COLUMN use_llm_correction BOOLEAN NOT NULL DEFAULT FALSE COMMENT 'LLM 보정 여부' AFTER preprocess;
+
+ALTER TABLE deed_analyses DROP INDEX uk_deed_content_hash;
+ALTER TABLE deed_analyses ADD CONSTRAINT uk_deed_content_options UNIQUE (content_hash, preprocess, use_llm_correction);
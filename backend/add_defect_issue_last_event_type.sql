@@ -0,0 +1,18 @@
+-- 하자 이슈 타임라인 연속 중복 방지를 타임라인 조회 없이 처리
+-- 1) 이슈에 마지막 이벤트 종류 저장 (조건부 UPDATE 1번으로 중복 판단)
+ALTER TABLE residency_defect_issues
+ADD COLUMN last_event_type VARCHAR(20) NULL;
+
+-- 2) 기존 이슈는 가장 최근 타임라인 이벤트로 채움
+UPDATE residency_defect_issues i
+SET i.last_event_type = (
+    SELECT t.event_type
+    FROM residency_issue_timelines t
+    WHERE t.defect_issue_id = i.id
+    ORDER BY t.created_at DESC, t.id DESC
+    LIMIT 1
+)
+WHERE i.last_event_type IS NULL;
+
+-- 3) 이슈별 타임라인 최신순 조회를 인덱스 순서로 처리 (filesort 없음)
+CREATE INDEX idx_issue_timeline_issue_created ON residency_issue_timelines (defect_issue_id, created_at, id);
@@ -0,0 +1,30 @@
+-- 증거 기록 통합 검색(EvidenceSearchService) 색인 테이블
+-- 기록 저장/삭제 시 같은 트랜잭션에서 갱신. 테이블이 비어 있으면 시작 시 EvidenceSearchBackfill 이 기존 기록을 색인
+-- (MariaDB FULLTEXT 는 한국어 n-gram 파서가 없어 2-gram 역색인을 직접 관리)
+
+CREATE TABLE IF NOT EXISTS evidence_documents (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '색인 문서 ID',
+    user_id INT NOT NULL COMMENT '사용자 ID',
+    source_type VARCHAR(30) NOT NULL COMMENT '원본 기록 종류 (DEFECT_ISSUE, ISSUE_TIMELINE, AGREEMENT_RECORD, DISPUTE_RECORD, ENTRY_STATUS_RECORD)',
+    source_id BIGINT NOT NULL COMMENT '원본 기록 ID',
+    parent_id BIGINT NULL COMMENT '상위 기록 ID (타임라인·협의 기록의 하자 이슈)',
+    title VARCHAR(200) NULL COMMENT '검색 결과 제목',
+    snippet VARCHAR(300) NULL COMMENT '검색 결과 미리보기 (본문 앞부분)',
+    doc_date DATE NULL COMMENT '기록 날짜',
+    term_count INT NOT NULL DEFAULT 0 COMMENT '문서 용어 수 (순위 길이 보정)',
+    updated_at DATETIME NULL COMMENT '색인 시각',
+    FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,
+    CONSTRAINT uk_evidence_source UNIQUE (source_type, source_id),  -- 원본 기록당 1행
+    INDEX idx_evidence_parent (parent_id)  -- 하자 이슈 삭제 시 타임라인 색인 제거
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='증거 검색 색인 문서 테이블';
+
+CREATE TABLE IF NOT EXISTS evidence_terms (
+    user_id INT NOT NULL COMMENT '사용자 ID',
+    term VARCHAR(8) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL COMMENT '2-gram 용어',  -- 정규화된 값 그대로 비교
+    doc_id BIGINT NOT NULL COMMENT '색인 문서 ID',
+    tf INT NOT NULL COMMENT '문서 안 등장 횟수',
+    PRIMARY KEY (user_id, term, doc_id),  -- 사용자·용어별 문서 목록을 인덱스 범위로 조회
+    FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,
+    FOREIGN KEY (doc_id) REFERENCES evidence_documents(id) ON DELETE CASCADE,
+    INDEX idx_evidence_term_doc (doc_id)  -- 문서 재색인·삭제 시 용어 제거
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='증거 검색 2-gram 역색인 테이블';
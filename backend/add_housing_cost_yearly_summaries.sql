@@ -0,0 +1,39 @@
+-- 연도별 주거비 합계(/api/residency/costs/summary) 테이블
+-- 월별 기록 저장/삭제 시 같은 트랜잭션에서 증감분으로 갱신됨
+
+CREATE TABLE IF NOT EXISTS housing_cost_yearly_summaries (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '합계 ID',
+    user_id INT NOT NULL COMMENT '사용자 ID',
+    year INT NOT NULL COMMENT '연도',
+    record_count INT NOT NULL DEFAULT 0 COMMENT '월별 기록 수',
+    paid_count INT NOT NULL DEFAULT 0 COMMENT '납부 완료 기록 수',
+    rent_total DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '월세 합계',
+    maintenance_total DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '관리비 합계',
+    utilities_total DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '공과금 합계',
+    paid_rent DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '납부 완료 월세 합계',
+    paid_maintenance DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '납부 완료 관리비 합계',
+    paid_utilities DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '납부 완료 공과금 합계',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각',
+    FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,
+    CONSTRAINT uk_cost_summary_user_year UNIQUE (user_id, year)  -- 사용자·연도당 1행
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='연도별 주거비 합계 테이블';
+
+-- 기존 월별 기록으로 초기 집계 (완료 표시가 없으면 애플리케이션 시작 시에도 자동 실행, 진행 위치는 monthly_record_generation_checkpoints 'SUMMARY' 행)
+-- 합계가 어긋났을 때 다시 실행해도 결과 같음
+INSERT INTO housing_cost_yearly_summaries
+    (user_id, year, record_count, paid_count, rent_total, maintenance_total, utilities_total,
+     paid_rent, paid_maintenance, paid_utilities, created_at, updated_at)
+SELECT m.user_id, m.year, COUNT(*), SUM(m.paid), SUM(m.rent), SUM(m.maintenance), SUM(m.utilities),
+       SUM(CASE WHEN m.paid THEN m.rent ELSE 0 END),
+       SUM(CASE WHEN m.paid THEN m.maintenance ELSE 0 END),
+       SUM(CASE WHEN m.paid THEN m.utilities ELSE 0 END), NOW(), NOW()
+FROM monthly_housing_records m
+GROUP BY m.user_id, m.year
+ON DUPLICATE KEY UPDATE
+    record_count = VALUES(record_count), paid_count = VALUES(paid_count),
+    rent_total = VALUES(rent_total), maintenance_total = VALUES(maintenance_total),
+    utilities_total = VALUES(utilities_total), paid_rent = VALUES(paid_rent),
+    paid_maintenance = VALUES(paid_maintenance), paid_utilities = VALUES(paid_utilities),
+    updated_at = NOW();
@@ -0,0 +1,20 @@
+-- 월별 주거비 자동 등록(MonthlyHousingRecordGenerator)용 인덱스·테이블
+-- 1) 자동 등록 사용자를 사용자 번호 순으로 범위 조회
+CREATE INDEX idx_auto_register_user ON housing_cost_settings (auto_register, user_id);
+
+-- 2) INSERT ... ON DUPLICATE KEY 가 기존 기록을 덮어쓰지 않도록 (user_id, year, month) 유일 키 필요
+--    create_tables.sql 로 만든 DB에는 이미 있음 (uk_user_year_month). JPA가 만든 테이블이면 아래 실행
+--    중복 행이 있으면 실패하므로 먼저 확인:
+--    SELECT user_id, year, month, COUNT(*) FROM monthly_housing_records GROUP BY user_id, year, month HAVING COUNT(*) > 1;
+ALTER TABLE monthly_housing_records ADD CONSTRAINT uk_user_year_month UNIQUE (user_id, year, month);
+
+-- 3) 진행 위치 테이블
+CREATE TABLE IF NOT EXISTS monthly_record_generation_checkpoints (
+    period CHAR(7) PRIMARY KEY COMMENT '대상 월 (YYYY-MM)',
+    last_user_no INT NOT NULL DEFAULT 0 COMMENT '마지막으로 처리한 사용자 번호',
+    processed_count BIGINT NOT NULL DEFAULT 0 COMMENT '처리한 행 수',
+    completed_at TIMESTAMP NULL COMMENT '완료 시각',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='월별 주거비 자동 등록 진행 위치 테이블';
@@ -0,0 +1,23 @@
+-- 주거비 납부 알림(PaymentReminderDispatcher) 테이블
+-- 월별 기록 저장 시 미납이면 1건 생성, 납부 완료·삭제 시 취소
+
+CREATE TABLE IF NOT EXISTS payment_reminders (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '알림 ID',
+    user_id INT NOT NULL COMMENT '사용자 ID',
+    year INT NOT NULL COMMENT '연도',
+    month TINYINT NOT NULL COMMENT '월',
+    due_date DATE NOT NULL COMMENT '납부일',
+    fire_at DATETIME NOT NULL COMMENT '발송 예정 시각',  -- 발송 실패 시 재시도 시각으로 갱신
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '상태 (PENDING, SENT, CANCELLED, FAILED)',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '발송 실패 횟수',
+    lease_owner VARCHAR(36) COMMENT '발송 예약한 서버 인스턴스',
+    lease_until DATETIME NULL COMMENT '임대 만료 시각',  -- 지나면 다른 인스턴스가 다시 가져감
+    sent_at DATETIME NULL COMMENT '발송 시각',
+    dismissed_at DATETIME NULL COMMENT '알림함에서 닫은 시각',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각',
+    FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,
+    CONSTRAINT uk_payment_reminder_user_month UNIQUE (user_id, year, month),  -- 월별 기록당 1건
+    INDEX idx_payment_reminder_status_fire (status, fire_at)  -- 곧 발송할 대기 알림 범위 조회
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='주거비 납부 알림 테이블';
@@ -0,0 +1,8 @@
+-- 입주 상태 기록·퇴실 사진·하자 이슈 목록 요약(/summaries) 페이지 조회용 인덱스
+-- 사용자별 최신순 정렬을 인덱스 순서로 처리해 filesort 없이 LIMIT 만큼만 읽음
+
+CREATE INDEX idx_entry_status_user_date ON entry_status_records (user_id, record_date, id);
+
+CREATE INDEX idx_moveout_photo_user_date ON moveout_photos (user_id, taken_date, id);
+
+CREATE INDEX idx_defect_issue_user_date ON residency_defect_issues (user_id, issue_date, created_at, id);
@@ -53,7 +53,7 @@ CREATE TABLE IF NOT EXISTS listings (
 CREATE TABLE IF NOT EXISTS entry_status_records (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
     user_id INT NOT NULL,
-    image_url MEDIUMTEXT NOT NULL,
+    image_url VARCHAR(500) NOT NULL,
     record_type VARCHAR(50) NOT NULL,
     record_date DATE NOT NULL,
     description TEXT,
@@ -62,7 +62,8 @@ CREATE TABLE IF NOT EXISTS entry_status_records (
     FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,
     INDEX idx_entry_status_user (user_id),
     INDEX idx_entry_status_user_type (user_id, record_type),
-    INDEX idx_entry_status_date (record_date)
+    INDEX idx_entry_status_date (record_date),
+    INDEX idx_entry_status_user_date (user_id, record_date, id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 
@@ -127,6 +128,7 @@ CREATE TABLE moveout_photos (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     INDEX idx_user_id (user_id),
     INDEX idx_taken_date (taken_date),
+    INDEX idx_moveout_photo_user_date (user_id, taken_date, id),
     FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
@@ -207,6 +209,7 @@ CREATE TABLE IF NOT EXISTS housing_cost_settings (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,          -- 생성일시 (레코드 생성 시 자동 설정)
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,  -- 수정일시 (레코드 수정 시 자동 갱신)
     FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,  -- 사용자 삭제 시 설정도 함께 삭제
+    INDEX idx_auto_register_user (auto_register, user_id),   -- 월별 자동 등록 대상 사용자 순차 조회
     CHECK (payment_date BETWEEN 1 AND 31)                    -- 납부일은 1일~31일 사이만 허용
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
@@ -241,16 +244,18 @@ CREATE TABLE IF NOT EXISTS residency_defect_issues (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,                    -- 기본키: 이슈 고유 ID (자동 증가)
     user_id INT NOT NULL,                                     -- 사용자 ID (users 테이블 참조)
     title VARCHAR(200) NOT NULL,                              -- 제목 (하자/이슈 제목, 최대 200자)
-    image_url MEDIUMTEXT NOT NULL,                            -- 이미지 URL (하자 사진 경로, MEDIUMTEXT 타입)
+    image_url VARCHAR(500) NOT NULL,                          -- 이미지 URL (/api/images/{sha256}, 본문은 BlobStore 파일)
     issue_date DATE NOT NULL,                                 -- 이슈 발생일/신고일 (날짜)
     status ENUM ('RECEIVED','IN_PROGRESS','COMPLETED','REJECTED')
         NOT NULL DEFAULT 'RECEIVED',                          -- 처리 상태 (접수/진행중/완료/거부, 기본값: 접수)
     memo TEXT,                                                -- 메모 (추가 설명/내용)
+    last_event_type VARCHAR(20) NULL,                         -- 마지막 타임라인 이벤트 (연속 중복 방지용)
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,          -- 생성일시 (레코드 생성 시 자동 설정)
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,  -- 수정일시 (레코드 수정 시 자동 갱신)
     FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,  -- 사용자 삭제 시 이슈도 함께 삭제
     INDEX idx_defect_issue_user_status (user_id, status),    -- 사용자별 상태 조회 성능 최적화 인덱스
-    INDEX idx_defect_issue_date (issue_date)                  -- 날짜별 조회 성능 최적화 인덱스
+    INDEX idx_defect_issue_date (issue_date),                 -- 날짜별 조회 성능 최적화 인덱스
+    INDEX idx_defect_issue_user_date (user_id, issue_date, created_at, id)  -- 사용자별 최신순 목록 페이지 조회
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 
@@ -296,11 +301,229 @@ CREATE TABLE IF NOT EXISTS contract_reviews (
     user_id INT NOT NULL COMMENT '사용자 ID (users.user_no 참조)',  -- 사용자 ID (users 테이블 참조)
     file_paths JSON COMMENT '업로드된 계약서 파일 경로 목록 (JSON 배열)',  -- 계약서 파일 경로 배열 (JSON 형식)
     special_terms JSON COMMENT '사용자가 입력한 특약 정보 목록 (JSON 배열)',  -- 특약사항 정보 배열 (JSON 형식)
+    file_count INT COMMENT '업로드 파일 수',  -- 목록 요약용 (JSON 컬럼 미조회)
+    special_term_count INT COMMENT '특약 수',  -- 목록 요약용 (JSON 컬럼 미조회)
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',  -- 생성일시 (레코드 생성 시 자동 설정)
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP 
         ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각',  -- 수정일시 (레코드 수정 시 자동 갱신)
     FOREIGN KEY (user_id) 
         REFERENCES users(user_no) ON DELETE CASCADE,  -- 사용자 삭제 시 계약서 점검 정보도 함께 삭제
     INDEX idx_user_id (user_id),  -- 사용자별 조회 성능 최적화 인덱스
-    INDEX idx_created_at (created_at)  -- 생성일시별 조회 성능 최적화 인덱스
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='계약서 점검 정보 테이블';
\ No newline at end of file
+    INDEX idx_created_at (created_at),  -- 생성일시별 조회 성능 최적화 인덱스
+    INDEX idx_user_created_at (user_id, created_at)  -- 사용자별 최신순 페이지 조회용
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='계약서 점검 정보 테이블';
+
+
+/* =========================================================
+ * 16. 특약 조항 분석 결과 캐시 테이블
+ * ========================================================= */
+CREATE TABLE IF NOT EXISTS clause_analysis_cache (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '캐시 ID',  -- 기본키 (자동 증가)
+    cache_key CHAR(64) NOT NULL COMMENT 'SHA-256(정규화 조항|strict|모델 버전)',  -- 캐시 조회 키
+    normalized_clause TEXT NOT NULL COMMENT '정규화된 조항 (공백·문장부호 제거)',  -- 디버깅/유사도 재계산용
+    strict_mode BOOLEAN NOT NULL COMMENT 'strict 모드 여부',
+    model_version VARCHAR(100) NOT NULL COMMENT '모델·프롬프트 버전',  -- 버전이 바뀌면 다른 키가 됨
+    response_json MEDIUMTEXT NOT NULL COMMENT 'FastAPI 분석 응답 JSON',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    CONSTRAINT uk_clause_cache_key UNIQUE (cache_key),  -- 같은 키 중복 저장 방지
+    INDEX idx_model_version (model_version)  -- 구버전 캐시 정리용
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='특약 조항 분석 캐시 테이블';
+
+
+/* =========================================================
+ * 17. 특약 점검 비동기 작업 / 조항별 결과 테이블
+ * ========================================================= */
+CREATE TABLE IF NOT EXISTS contract_check_jobs (
+    id CHAR(36) PRIMARY KEY COMMENT '작업 ID (UUID)',  -- 기본키: POST /api/contract/check/jobs 응답의 jobId
+    user_id INT COMMENT '작업을 등록한 사용자 ID',  -- 조회·SSE는 본인 작업만
+    status VARCHAR(20) NOT NULL COMMENT '상태 (PENDING, RUNNING, DONE, FAILED)',
+    strict_mode BOOLEAN NOT NULL COMMENT 'strict 모드 여부',
+    total_clauses INT NOT NULL COMMENT '전체 조항 수',
+    completed_clauses INT NOT NULL DEFAULT 0 COMMENT '완료된 조항 수',  -- 진행률 표시용
+    error_message VARCHAR(500) COMMENT '작업 실패 사유',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각',
+    INDEX idx_status (status),  -- 미완료 작업 조회용
+    INDEX idx_contract_check_job_status_updated (status, updated_at),  -- 진행이 멈춘 작업 정리
+    FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='특약 점검 작업 테이블';
+
+CREATE TABLE IF NOT EXISTS contract_check_job_results (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '결과 ID',  -- 기본키 (자동 증가)
+    job_id CHAR(36) NOT NULL COMMENT '작업 ID (contract_check_jobs.id 참조)',
+    clause_index INT NOT NULL COMMENT '요청 내 조항 순서 (0부터)',
+    clause TEXT NOT NULL COMMENT '조항 원문',
+    analysis_json MEDIUMTEXT COMMENT 'FastAPI 분석 응답 JSON',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',  -- 조항 분석이 끝난 시각
+    FOREIGN KEY (job_id)
+        REFERENCES contract_check_jobs(id) ON DELETE CASCADE,  -- 작업 삭제 시 결과도 함께 삭제
+    CONSTRAINT uk_job_clause_index UNIQUE (job_id, clause_index)  -- 조항당 결과 1건
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='특약 점검 조항별 결과 테이블';
+
+
+/* =========================================================
+ * 18. 계약서 점검 특약 분석 결과 테이블
+ * ========================================================= */
+CREATE TABLE IF NOT EXISTS contract_review_analyses (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '분석 결과 ID',  -- 기본키 (자동 증가)
+    review_id BIGINT NOT NULL COMMENT '계약서 점검 ID (contract_reviews.id 참조)',
+    clause_index INT NOT NULL COMMENT '특약 순서 (0부터)',
+    clause TEXT NOT NULL COMMENT '분석한 특약 원문',  -- 원문이 바뀌면 재분석
+    strict_mode BOOLEAN NOT NULL COMMENT 'strict 모드 여부',
+    model_version VARCHAR(100) NOT NULL COMMENT '모델·프롬프트 버전',  -- 버전이 바뀌면 재분석
+    ok BOOLEAN NOT NULL COMMENT '분석 성공 여부',
+    parse_error BOOLEAN NOT NULL COMMENT 'LLM 응답 JSON 파싱 실패 여부',
+    conclusion TEXT COMMENT '분석 결론 (answer_json.conclusion)',
+    answer_json MEDIUMTEXT COMMENT '분석 결과 JSON (risk_points, law_basis ...)',
+    answer_raw MEDIUMTEXT COMMENT 'LLM 원문 응답',
+    error_message VARCHAR(500) COMMENT '분석 실패 사유',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각',  -- 마지막 분석 시각
+    FOREIGN KEY (review_id)
+        REFERENCES contract_reviews(id) ON DELETE CASCADE,  -- 계약서 점검 삭제 시 분석 결과도 함께 삭제
+    CONSTRAINT uk_review_clause_index UNIQUE (review_id, clause_index)  -- 특약당 결과 1건
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='계약서 점검 특약 분석 결과 테이블';
+
+
+/* =========================================================
+ * 19. 내용 주소(SHA-256) 파일 저장소 테이블
+ * ========================================================= */
+CREATE TABLE IF NOT EXISTS stored_blobs (
+    hash CHAR(64) PRIMARY KEY COMMENT '내용 SHA-256 (hex)',  -- 기본키: 같은 내용은 1행
+    size_bytes BIGINT NOT NULL COMMENT '파일 크기 (byte)',
+    content_type VARCHAR(100) COMMENT 'MIME 타입',
+    ref_count INT NOT NULL DEFAULT 1 COMMENT '참조 수',  -- 0이 되면 행과 파일 삭제
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각',
+    INDEX idx_ref_count (ref_count)  -- 참조 없는 파일 정리용
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='파일 저장소 테이블';
+
+
+/* =========================================================
+ * 20. 등기부등본 분석 결과 캐시 테이블
+ * ========================================================= */
+CREATE TABLE IF NOT EXISTS deed_analyses (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '분석 ID',  -- 기본키 (자동 증가, 프론트에는 deed_analysis_links.public_id)
+    content_hash CHAR(64) NOT NULL COMMENT '원본 파일 SHA-256 (stored_blobs.hash)',  -- 같은 파일 재업로드 판단
+    preprocess VARCHAR(20) NOT NULL DEFAULT 'doc' COMMENT 'OCR 전처리 옵션',  -- 옵션이 다르면 별도 결과
+    use_llm_correction BOOLEAN NOT NULL DEFAULT FALSE COMMENT 'LLM 보정 여부',
+    register_document_id INT COMMENT 'core/register 서비스 문서 ID',  -- 서비스 재시작 시 다시 업로드해 갱신
+    upload_json LONGTEXT NOT NULL COMMENT 'OCR·파싱 결과 JSON',
+    risk_json LONGTEXT COMMENT '위험 분석 결과 JSON',  -- 첫 위험 분석 후 채워짐
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각',
+    CONSTRAINT uk_deed_content_options UNIQUE (content_hash, preprocess, use_llm_correction)  -- 같은 파일·옵션은 1행
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='등기부등본 분석 캐시 테이블';
+
+
+/* =========================================================
+ * 21. 월별 주거비 자동 등록 진행 위치 테이블
+ * ========================================================= */
+CREATE TABLE IF NOT EXISTS monthly_record_generation_checkpoints (
+    period CHAR(7) PRIMARY KEY COMMENT '대상 월 (YYYY-MM)',  -- 기본키: 월당 1행 ('SUMMARY' 행은 연도별 합계 초기 집계 진행 위치)
+    last_user_no INT NOT NULL DEFAULT 0 COMMENT '마지막으로 처리한 사용자 번호',  -- 다음 실행은 이 번호 다음부터
+    processed_count BIGINT NOT NULL DEFAULT 0 COMMENT '처리한 행 수',
+    completed_at TIMESTAMP NULL COMMENT '완료 시각',  -- NULL이면 진행 중 (재시작 시 이어서 처리)
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='월별 주거비 자동 등록 진행 위치 테이블';
+
+
+/* =========================================================
+ * 22. 연도별 주거비 합계 테이블 (monthly_housing_records 집계)
+ * ========================================================= */
+CREATE TABLE IF NOT EXISTS housing_cost_yearly_summaries (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '합계 ID',  -- 기본키 (자동 증가)
+    user_id INT NOT NULL COMMENT '사용자 ID',
+    year INT NOT NULL COMMENT '연도',
+    record_count INT NOT NULL DEFAULT 0 COMMENT '월별 기록 수',
+    paid_count INT NOT NULL DEFAULT 0 COMMENT '납부 완료 기록 수',
+    rent_total DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '월세 합계',
+    maintenance_total DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '관리비 합계',
+    utilities_total DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '공과금 합계',
+    paid_rent DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '납부 완료 월세 합계',
+    paid_maintenance DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '납부 완료 관리비 합계',
+    paid_utilities DECIMAL(17,2) NOT NULL DEFAULT 0 COMMENT '납부 완료 공과금 합계',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각',
+    FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,
+    CONSTRAINT uk_cost_summary_user_year UNIQUE (user_id, year)  -- 사용자·연도당 1행
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='연도별 주거비 합계 테이블';
+
+
+/* =========================================================
+ * 23. 주거비 납부 알림 테이블
+ * ========================================================= */
+CREATE TABLE IF NOT EXISTS payment_reminders (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '알림 ID',  -- 기본키 (자동 증가)
+    user_id INT NOT NULL COMMENT '사용자 ID',
+    year INT NOT NULL COMMENT '연도',
+    month TINYINT NOT NULL COMMENT '월',
+    due_date DATE NOT NULL COMMENT '납부일',
+    fire_at DATETIME NOT NULL COMMENT '발송 예정 시각',  -- 발송 실패 시 재시도 시각으로 갱신
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '상태 (PENDING, SENT, CANCELLED, FAILED)',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '발송 실패 횟수',
+    lease_owner VARCHAR(36) COMMENT '발송 예약한 서버 인스턴스',
+    lease_until DATETIME NULL COMMENT '임대 만료 시각',  -- 지나면 다른 인스턴스가 다시 가져감
+    sent_at DATETIME NULL COMMENT '발송 시각',
+    dismissed_at DATETIME NULL COMMENT '알림함에서 닫은 시각',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+        ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각',
+    FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,
+    CONSTRAINT uk_payment_reminder_user_month UNIQUE (user_id, year, month),  -- 월별 기록당 1건
+    INDEX idx_payment_reminder_status_fire (status, fire_at)  -- 곧 발송할 대기 알림 범위 조회
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='주거비 납부 알림 테이블';
+
+
+/* =========================================================
+ * 24. 증거 검색 색인 테이블 (하자 이슈·타임라인 메모·협의·분쟁·입주 상태 기록)
+ * ========================================================= */
+CREATE TABLE IF NOT EXISTS evidence_documents (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '색인 문서 ID',  -- 기본키 (자동 증가)
+    user_id INT NOT NULL COMMENT '사용자 ID',
+    source_type VARCHAR(30) NOT NULL COMMENT '원본 기록 종류 (DEFECT_ISSUE, ISSUE_TIMELINE, AGREEMENT_RECORD, DISPUTE_RECORD, ENTRY_STATUS_RECORD)',
+    source_id BIGINT NOT NULL COMMENT '원본 기록 ID',
+    parent_id BIGINT NULL COMMENT '상위 기록 ID (타임라인·협의 기록의 하자 이슈)',
+    title VARCHAR(200) NULL COMMENT '검색 결과 제목',
+    snippet VARCHAR(300) NULL COMMENT '검색 결과 미리보기 (본문 앞부분)',
+    doc_date DATE NULL COMMENT '기록 날짜',
+    term_count INT NOT NULL DEFAULT 0 COMMENT '문서 용어 수 (순위 길이 보정)',
+    updated_at DATETIME NULL COMMENT '색인 시각',
+    FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,
+    CONSTRAINT uk_evidence_source UNIQUE (source_type, source_id),  -- 원본 기록당 1행
+    INDEX idx_evidence_parent (parent_id)  -- 하자 이슈 삭제 시 타임라인 색인 제거
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='증거 검색 색인 문서 테이블';
+
+CREATE TABLE IF NOT EXISTS evidence_terms (
+    user_id INT NOT NULL COMMENT '사용자 ID',
+    term VARCHAR(8) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL COMMENT '2-gram 용어',  -- 정규화된 값 그대로 비교
+    doc_id BIGINT NOT NULL COMMENT '색인 문서 ID',
+    tf INT NOT NULL COMMENT '문서 안 등장 횟수',
+    PRIMARY KEY (user_id, term, doc_id),  -- 사용자·용어별 문서 목록을 인덱스 범위로 조회
+    FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,
+    FOREIGN KEY (doc_id) REFERENCES evidence_documents(id) ON DELETE CASCADE,
+    INDEX idx_evidence_term_doc (doc_id)  -- 문서 재색인·삭제 시 용어 제거
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='증거 검색 2-gram 역색인 테이블';
+
+
+/* =========================================================
+ * 25. 사용자별 등기부등본 분석 연결 테이블 (deed_analyses 조회 권한)
+ * ========================================================= */
+CREATE TABLE IF NOT EXISTS deed_analysis_links (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '연결 ID',
+    public_id CHAR(36) NOT NULL COMMENT '프론트 document_id (UUID)',  -- 순번 ID 대신 노출
+    user_id INT NOT NULL COMMENT '업로드한 사용자 ID',
+    analysis_id BIGINT NOT NULL COMMENT '분석 ID (deed_analyses.id)',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
+    FOREIGN KEY (user_id) REFERENCES users(user_no) ON DELETE CASCADE,
+    FOREIGN KEY (analysis_id) REFERENCES deed_analyses(id) ON DELETE CASCADE,
+    CONSTRAINT uk_deed_link_public_id UNIQUE (public_id),
+    CONSTRAINT uk_deed_link_user_analysis UNIQUE (user_id, analysis_id)  -- 사용자·분석당 1행
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자별 등기부등본 분석 연결 테이블';
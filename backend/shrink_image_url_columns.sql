@@ -0,0 +1,15 @@
+-- 입주 상태 기록·하자 이슈 사진 컬럼 축소 (MEDIUMTEXT → VARCHAR(500))
+-- 사진 본문은 BlobStore 파일로 옮기고 행에는 /api/images/{sha256} 만 저장
+-- 애플리케이션 시작 시 DataUrlImageMigration 이 기존 data URL을 옮김. 아래 확인 쿼리가 모두 0일 때 실행
+
+SELECT COUNT(*) FROM entry_status_records WHERE image_url LIKE 'data:%';
+SELECT COUNT(*) FROM residency_defect_issues WHERE image_url LIKE 'data:%';
+
+ALTER TABLE entry_status_records
+MODIFY COLUMN image_url VARCHAR(500) NOT NULL;
+
+ALTER TABLE residency_defect_issues
+MODIFY COLUMN image_url VARCHAR(500) NOT NULL COMMENT '이미지 URL (/api/images/{sha256})';
+
+-- 컬럼을 줄인 뒤 버퍼 풀·디스크에 남은 base64 페이지 정리
+OPTIMIZE TABLE entry_status_records, residency_defect_issues;
@@ -124,21 +124,19 @@ public class ChatbotController {
         Flux<String> flux = chatbotService.streamResponse(userNo, request);
         StringBuilder acc = new StringBuilder();
         Flux<String> withFinal = flux
-                .doOnNext(acc::append)
+                .doOnNext(chunk -> {
+                    // 미리보기는 화면 표시용이라 최종 답에 누적하지 않음
+                    if (!chunk.startsWith(ChatbotService.PREVIEW_PREFIX)) acc.append(chunk);
+                })
                 .concatWith(Flux.defer(() -> {
+                    // 인스코프인데 고정 문구로 시작하는 응답은 OpenAIService가 스트림 앞부분에서 잡아 재요청함
                     String normalized = chatbotService.normalizeResponseTextForDisplay(acc.toString());
-
-                    // 인스코프 질문인데도 고정 문구로 끝난 경우: 비스트리밍으로 한 번 더 생성해 최종 답을 교체
-                    if (chatbotService.isInScopeForChatbot(request.getTopic(), request.getText())
-                            && chatbotService.isOffTopicFinalText(normalized)) {
-                        String regenerated = chatbotService.regenerateFinalAnswer(userNo, request);
-                        normalized = chatbotService.normalizeResponseTextForDisplay(regenerated);
-                    }
-
                     chatbotService.appendBotMessage(userNo, normalized);
                     return Flux.just("[FINAL]\n" + normalized);
                 }));
-        Flux<ServerSentEvent<String>> sseFlux = withFinal.map(chunk -> ServerSentEvent.builder(chunk).build());
+        Flux<ServerSentEvent<String>> sseFlux = withFinal.map(chunk -> chunk.startsWith(ChatbotService.PREVIEW_PREFIX)
+                ? ServerSentEvent.builder(chunk).event("preview").build()
+                : ServerSentEvent.builder(chunk).build());
 
         return ResponseEntity.ok()
                 .contentType(MediaType.TEXT_EVENT_STREAM)
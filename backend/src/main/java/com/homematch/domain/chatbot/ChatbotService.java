@@ -4,6 +4,7 @@ import com.homematch.domain.chatbot.dto.ChatbotMessageRequest;
 import com.homematch.domain.chatbot.dto.ChatbotMessageResponse;
 import com.homematch.domain.user.User;
 import com.homematch.domain.user.UserRepository;
+import com.homematch.global.resilience.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -38,6 +40,11 @@ public class ChatbotService {
     private final OpenAIService openAIService;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private JsonNode guideData = null;
+    /** 섹션 경로 → 포맷된 즉답 텍스트 (가이드 JSON은 읽기 전용이라 한 번 변환하면 재사용) */
+    private final Map<String, String> renderedSections = new ConcurrentHashMap<>();
+
+    /** 스트리밍에서 LLM 응답 전에 먼저 보내는 가이드 미리보기 청크 접두어 */
+    public static final String PREVIEW_PREFIX = "[PREVIEW]\n";
 
     // 가이드 데이터 로드 (최초 1회)
     private JsonNode loadGuideData() {
@@ -93,46 +100,6 @@ public class ChatbotService {
         return true;
     }
 
-    /** Controller 등 외부에서 인스코프 여부 확인용 */
-    boolean isInScopeForChatbot(String topic, String userText) {
-        return isInScope(topic, userText);
-    }
-
-    /** 고정 문구와 동일한지(공백 무시) 판단 */
-    boolean isOffTopicFinalText(String text) {
-        if (text == null) return false;
-        String a = text.replaceAll("\\s+", "");
-        String b = openAIService.offTopicMessage().replaceAll("\\s+", "");
-        return !a.isBlank() && a.contains(b);
-    }
-
-    /**
-     * 스트리밍 최종이 고정 문구로 끝났을 때, 인스코프라면 비스트리밍으로 한 번 더 생성해 반환.
-     * (사용자 메시지는 이미 streamResponse에서 저장되었으므로 여기서는 저장하지 않음)
-     */
-    String regenerateFinalAnswer(Integer userNo, ChatbotMessageRequest request) {
-        ChatSession session = getOrCreateSession(userNo);
-
-        List<ChatMessage> historyAsc = chatMessageRepository.findBySession_SessionIdOrderByCreatedAtAsc(session.getSessionId());
-        List<Map<String, String>> conversationHistory = new ArrayList<>();
-        int start = Math.max(0, historyAsc.size() - 10);
-        for (int i = start; i < historyAsc.size(); i++) {
-            ChatMessage m = historyAsc.get(i);
-            Map<String, String> entry = new HashMap<>();
-            entry.put("role", m.getRole());
-            entry.put("content", m.getContent());
-            conversationHistory.add(entry);
-        }
-
-        String guideContext = getGuideContextAsString(request.getTopic(), request.getText(), DEFAULT_MAX_GUIDE_CHARS);
-        return openAIService.generateResponse(
-                request.getText(),
-                guideContext,
-                conversationHistory,
-                true
-        );
-    }
-
     /**
      * 가이드 데이터를 문자열로 변환 (LLM 컨텍스트용).
      * topic 있으면 해당 섹션만, userMessage 있으면 관련 구간 우선 포함, maxChars > 0 이면 잘라냄.
@@ -354,6 +321,34 @@ public class ChatbotService {
 
     /** 추천 질문·섹션 매칭 시 가이드 JSON 해당 블록을 읽기 쉬운 문장으로 포맷해 즉답. 매칭 실패 시 null */
     private String resolveDirectGuideAnswer(String topic, String userText) {
+        return renderGuideSection(findBestGuideSectionPath(topic, userText, true));
+    }
+
+    /**
+     * 스트리밍 미리보기용: 즉답 기준에는 못 미쳐도 토큰이 하나라도 겹치는 가장 가까운 섹션을 반환.
+     * LLM 첫 토큰 전에 먼저 보여 주고, LLM 응답이 오면 교체됨. 매칭 실패 시 null
+     */
+    private String resolvePreviewGuideAnswer(String topic, String userText) {
+        return renderGuideSection(findBestGuideSectionPath(topic, userText, false));
+    }
+
+    /** 섹션 경로(a.b.c)를 포맷된 텍스트로. 같은 섹션은 한 번만 변환해 재사용 */
+    private String renderGuideSection(String sectionPath) {
+        if (sectionPath == null || sectionPath.isBlank()) return null;
+        String rendered = renderedSections.computeIfAbsent(sectionPath, path -> {
+            String[] parts = path.split("\\.");
+            JsonNode cur = loadGuideData();
+            for (String p : parts) {
+                if (cur == null || !cur.has(p)) return "";
+                cur = cur.get(p);
+            }
+            return formatGuideSectionToText(cur);
+        });
+        return rendered.isBlank() ? null : rendered;
+    }
+
+    /** suggested_questions 라벨과 사용자 질문을 비교해 가장 잘 맞는 섹션 경로 반환. strict면 즉답용 최소 조건 적용 */
+    private String findBestGuideSectionPath(String topic, String userText, boolean strict) {
         if (userText == null || userText.isBlank()) return null;
         JsonNode guides = loadGuideData();
         if (guides == null || !guides.has("suggested_questions")) return null;
@@ -395,21 +390,14 @@ public class ChatbotService {
             if (overlap > 0) score += overlap * 50;
             if (ratio >= 0.6) score += 200;
 
-            // 오탐 방지: 최소 조건
-            boolean ok = score >= 200 || overlap >= 2 || ratio >= 0.6;
+            // 오탐 방지: 최소 조건 (미리보기는 겹침만 있으면 허용)
+            boolean ok = strict ? (score >= 200 || overlap >= 2 || ratio >= 0.6) : score > 0;
             if (ok && score > bestScore) {
                 bestScore = score;
                 sectionPath = sec;
             }
         }
-        if (sectionPath == null || sectionPath.isBlank()) return null;
-        String[] parts = sectionPath.split("\\.");
-        JsonNode cur = guides;
-        for (String p : parts) {
-            if (cur == null || !cur.has(p)) return null;
-            cur = cur.get(p);
-        }
-        return formatGuideSectionToText(cur);
+        return sectionPath;
     }
 
     /** 가이드 JSON 한 블록을 ###/** 없이 읽기 쉬운 문장으로 변환 */
@@ -595,17 +583,23 @@ public class ChatbotService {
 
         String guideContext = getGuideContextAsString(request.getTopic(), request.getText(), DEFAULT_MAX_GUIDE_CHARS);
 
-        // OpenAI 응답 생성
+        // OpenAI 응답 생성 (서킷이 열려 있으면 기다리지 않고 바로 로컬 가이드 응답)
         String botContent;
         try {
-            botContent = openAIService.generateResponse(
-                    request.getText(),
-                    guideContext,
-                    conversationHistory,
-                    true
-            );
-            if (botContent.contains("API 키가 설정되지 않았습니다") || botContent.contains("오류가 발생했습니다")) {
+            if (!openAIService.isLlmAvailable()) {
                 botContent = generateBotResponse(request.getText());
+            } else {
+                botContent = openAIService.generateResponse(
+                        request.getText(),
+                        guideContext,
+                        conversationHistory,
+                        true,
+                        userNo,
+                        request.getTopic()
+                );
+                if (botContent.contains("API 키가 설정되지 않았습니다") || botContent.contains("오류가 발생했습니다")) {
+                    botContent = generateBotResponse(request.getText());
+                }
             }
         } catch (Exception e) {
             System.err.println("OpenAI API 호출 실패, fallback 사용: " + e.getMessage());
@@ -629,7 +623,10 @@ public class ChatbotService {
                 .build();
     }
 
-    /** 스트리밍: 사용자 메시지 저장 후 LLM 스트림 Flux 반환. 완료 시 봇 메시지 저장은 호출측(Controller)에서 함. */
+    /**
+     * 스트리밍: 사용자 메시지 저장 후 LLM 스트림 Flux 반환. 완료 시 봇 메시지 저장은 호출측(Controller)에서 함.
+     * LLM 경로에서는 PREVIEW_PREFIX가 붙은 가이드 미리보기 청크가 먼저 올 수 있음 (최종 답에는 포함하지 않음).
+     */
     public Flux<String> streamResponse(Integer userNo, ChatbotMessageRequest request) {
         ChatSession session = getOrCreateSession(userNo);
         ChatMessage userMsg = ChatMessage.builder()
@@ -668,13 +665,28 @@ public class ChatbotService {
             return Flux.just(directAnswer);
         }
 
+        // 서킷이 열려 있으면 LLM 대기 없이 로컬 가이드 응답 (시험 호출 슬롯이 없을 때의 거절도 동일 처리)
+        if (!openAIService.isLlmAvailable()) {
+            return Flux.just(generateBotResponse(request.getText()));
+        }
+
         String guideContext = getGuideContextAsString(request.getTopic(), request.getText(), DEFAULT_MAX_GUIDE_CHARS);
-        return openAIService.generateResponseStreaming(
-                request.getText(),
-                guideContext,
-                conversationHistory,
-                true
-        );
+        Flux<String> llm = openAIService.generateResponseStreaming(
+                        request.getText(),
+                        guideContext,
+                        conversationHistory,
+                        true,
+                        userNo,
+                        request.getTopic()
+                )
+                .onErrorResume(CallNotPermittedException.class, e -> Flux.just(generateBotResponse(request.getText())));
+
+        // 가장 가까운 가이드 섹션을 먼저 보내 첫 응답 대기 시간을 줄임 (LLM 응답이 오면 화면에서 교체)
+        String preview = resolvePreviewGuideAnswer(request.getTopic(), request.getText());
+        if (preview == null) {
+            return llm;
+        }
+        return Flux.concat(Flux.just(PREVIEW_PREFIX + preview), llm);
     }
 
     /** 스트리밍 종료 시 클라이언트에 보낼 정규화된 전체 텍스트(띄어쓰기·줄바꿈 등) 반환. appendBotMessage 전에 한 번만 호출해 사용. */
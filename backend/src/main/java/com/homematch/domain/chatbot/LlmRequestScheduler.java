@@ -0,0 +1,388 @@
+package com.homematch.domain.chatbot;
+
+import com.homematch.global.resilience.TokenBucket;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 스케줄러.
+ * - 전역 동시 실행 수 + 분당 요청 수/토큰 수(토큰 버킷) 제한
+ * - 사용자별 대기열을 라운드로빈으로 꺼내서 한 사용자가 몰아서 보내도 다른 사용자가 밀리지 않게 함
+ * - 같은 프롬프트가 이미 진행 중이면 업스트림 호출 하나를 공유 (coalescing)
+ * - 재시도는 지터 포함 지수 백오프, 429/503의 Retry-After가 있으면 그 시간만큼 전체 디스패치를 멈춤
+ */
+@Component
+public class LlmRequestScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(LlmRequestScheduler.class);
+
+    private static final String ANONYMOUS_KEY = "anonymous";
+    /** 백오프 기본 지연 / 상한 */
+    private static final Duration BACKOFF_BASE = Duration.ofSeconds(1);
+    private static final Duration BACKOFF_MAX = Duration.ofSeconds(16);
+    /** Retry-After가 비정상적으로 길면 이 값으로 자름 */
+    private static final Duration RETRY_AFTER_MAX = Duration.ofSeconds(30);
+
+    private final int maxConcurrent;
+    private final int maxQueuedPerUser;
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+
+    /** 사용자별 대기열 + 라운드로빈 순서 (this 로 동기화) */
+    private final Map<String, Deque<PendingCall<?>>> queues = new HashMap<>();
+    private final Deque<String> rotation = new ArrayDeque<>();
+    private int running;
+    private long pausedUntilNanos;
+    private boolean drainScheduled;
+
+    private final Map<String, Mono<String>> inflightCalls = new ConcurrentHashMap<>();
+    private final Map<String, Flux<String>> inflightStreams = new ConcurrentHashMap<>();
+
+    public LlmRequestScheduler(
+            @Value("${openai.scheduler.max-concurrent:8}") int maxConcurrent,
+            @Value("${openai.scheduler.requests-per-minute:500}") long requestsPerMinute,
+            @Value("${openai.scheduler.tokens-per-minute:200000}") long tokensPerMinute,
+            @Value("${openai.scheduler.max-queued-per-user:3}") int maxQueuedPerUser
+    ) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxQueuedPerUser = Math.max(1, maxQueuedPerUser);
+        this.requestBucket = new TokenBucket(requestsPerMinute);
+        this.tokenBucket = new TokenBucket(tokensPerMinute);
+    }
+
+    /**
+     * 단건(비스트리밍) 호출. 같은 coalesceKey로 진행 중인 호출이 있으면 그 결과를 같이 받음.
+     *
+     * @param userNo          사용자 번호 (null이면 익명 대기열)
+     * @param coalesceKey     프롬프트 해시 등 동일 요청 판별 키
+     * @param estimatedTokens 토큰 버킷에서 미리 차감할 추정 토큰 수
+     * @param call            실제 업스트림 호출 (구독할 때마다 새 요청)
+     */
+    public Mono<String> submit(Integer userNo, String coalesceKey, long estimatedTokens, Supplier<Mono<String>> call) {
+        AtomicReference<Mono<String>> self = new AtomicReference<>();
+        Mono<String> shared = inflightCalls.computeIfAbsent(coalesceKey, k -> {
+            Mono<String> m = admit(userKey(userNo), estimatedTokens, call)
+                    .next()
+                    .doFinally(s -> inflightCalls.remove(k, self.get()))
+                    .share();
+            self.set(m);
+            return m;
+        });
+        if (self.get() == null) {
+            log.debug("동일 프롬프트 진행 중 - 업스트림 호출 공유: {}", coalesceKey);
+        }
+        return shared;
+    }
+
+    /** 스트리밍 호출. 진행 중인 동일 스트림이 있으면 지금까지의 청크부터 재생해서 같이 받음 */
+    public Flux<String> submitStream(Integer userNo, String coalesceKey, long estimatedTokens, Supplier<Flux<String>> call) {
+        AtomicReference<Flux<String>> self = new AtomicReference<>();
+        Flux<String> shared = inflightStreams.computeIfAbsent(coalesceKey, k -> {
+            Flux<String> f = admit(userKey(userNo), estimatedTokens, call)
+                    .doFinally(s -> inflightStreams.remove(k, self.get()))
+                    .replay()
+                    .refCount();
+            self.set(f);
+            return f;
+        });
+        if (self.get() == null) {
+            log.debug("동일 프롬프트 스트림 진행 중 - 업스트림 호출 공유: {}", coalesceKey);
+        }
+        return shared;
+    }
+
+    /** 응답의 실제 토큰 사용량으로 토큰 버킷 보정 */
+    public void recordUsage(long estimatedTokens, long actualTokens) {
+        if (actualTokens > 0) {
+            tokenBucket.adjust(actualTokens - estimatedTokens);
+        }
+    }
+
+    public Retry retrySpec(int maxRetries) {
+        return retrySpec(maxRetries, () -> true);
+    }
+
+    /**
+     * 재시도 정책: 지터 포함 지수 백오프 (1s, 2s, 4s ... 최대 16s, 각 ±50%).
+     * 응답에 Retry-After가 있으면 그 시간을 따르고, 그동안 새 요청 디스패치도 멈춤.
+     *
+     * @param canRetry 추가 조건 (예: 스트리밍이 이미 청크를 내보냈으면 재시도 불가)
+     */
+    public Retry retrySpec(int maxRetries, BooleanSupplier canRetry) {
+        return retrySpec(maxRetries, canRetry, () -> { });
+    }
+
+    /** onRetry: 재시도를 실제로 하기로 결정할 때마다 호출 (재시도 횟수 메트릭용) */
+    public Retry retrySpec(int maxRetries, BooleanSupplier canRetry, Runnable onRetry) {
+        return Retry.from(signals -> signals.concatMap(rs -> {
+            Throwable failure = rs.failure();
+            if (rs.totalRetries() >= maxRetries || !isRetryable(failure) || !canRetry.getAsBoolean()) {
+                return Mono.error(failure);
+            }
+            Duration retryAfter = retryAfter(failure);
+            Duration delay;
+            if (retryAfter != null) {
+                pauseDispatch(retryAfter);
+                delay = retryAfter;
+            } else {
+                delay = backoff(rs.totalRetries());
+            }
+            log.warn("OpenAI 호출 재시도 {}회차 ({}ms 후): {}", rs.totalRetries() + 1, delay.toMillis(), failure.getMessage());
+            onRetry.run();
+            return Mono.delay(delay);
+        }));
+    }
+
+    boolean isRetryable(Throwable t) {
+        if (t instanceof WebClientResponseException e) {
+            int status = e.getStatusCode().value();
+            return status == 429 || status == 500 || status == 502 || status == 503 || status == 504;
+        }
+        if (t instanceof TimeoutException || t instanceof WebClientRequestException) {
+            return true;
+        }
+        String msg = t.getMessage();
+        if (msg == null) return false;
+        return msg.contains("timeout") || msg.contains("Timeout")
+                || msg.contains("Connection") || msg.contains("connection");
+    }
+
+    private Duration backoff(long attempt) {
+        long base = BACKOFF_BASE.toMillis() << Math.min(attempt, 10);
+        long capped = Math.min(base, BACKOFF_MAX.toMillis());
+        double jitter = 0.5 + ThreadLocalRandom.current().nextDouble();
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    /** Retry-After(초 또는 HTTP-date) / retry-after-ms 헤더 해석. 없으면 null */
+    private Duration retryAfter(Throwable t) {
+        if (!(t instanceof WebClientResponseException e)) return null;
+        try {
+            String ms = e.getHeaders().getFirst("retry-after-ms");
+            if (ms != null && !ms.isBlank()) {
+                return clampRetryAfter(Duration.ofMillis((long) Double.parseDouble(ms.trim())));
+            }
+            String value = e.getHeaders().getFirst("Retry-After");
+            if (value == null || value.isBlank()) return null;
+            value = value.trim();
+            if (value.chars().allMatch(Character::isDigit)) {
+                return clampRetryAfter(Duration.ofSeconds(Long.parseLong(value)));
+            }
+            ZonedDateTime at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return clampRetryAfter(Duration.between(ZonedDateTime.now(at.getZone()), at));
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    private Duration clampRetryAfter(Duration d) {
+        if (d.isNegative() || d.isZero()) return Duration.ofMillis(100);
+        return d.compareTo(RETRY_AFTER_MAX) > 0 ? RETRY_AFTER_MAX : d;
+    }
+
+    private synchronized void pauseDispatch(Duration d) {
+        long until = System.nanoTime() + d.toNanos();
+        if (until - pausedUntilNanos > 0) {
+            pausedUntilNanos = until;
+        }
+    }
+
+    private String userKey(Integer userNo) {
+        return userNo != null ? "u" + userNo : ANONYMOUS_KEY;
+    }
+
+    // ========== 대기열 / 디스패치 ==========
+
+    private <T> Flux<T> admit(String userKey, long estimatedTokens, Supplier<? extends Publisher<T>> call) {
+        return Flux.create(sink -> {
+            PendingCall<T> pending = new PendingCall<>(userKey, Math.max(1, estimatedTokens), call, sink);
+            sink.onDispose(pending::dispose);
+            if (!enqueue(pending)) {
+                sink.error(new RejectedExecutionException("요청이 많아 잠시 후 다시 시도해 주세요."));
+                return;
+            }
+            drain();
+        });
+    }
+
+    private synchronized boolean enqueue(PendingCall<?> pending) {
+        Deque<PendingCall<?>> q = queues.get(pending.userKey);
+        if (q == null) {
+            q = new ArrayDeque<>();
+            queues.put(pending.userKey, q);
+            rotation.addLast(pending.userKey);
+        }
+        if (q.size() >= maxQueuedPerUser) {
+            return false;
+        }
+        q.addLast(pending);
+        return true;
+    }
+
+    private void drain() {
+        List<PendingCall<?>> toStart = new ArrayList<>();
+        synchronized (this) {
+            long delayNanos = 0L;
+            while (running < maxConcurrent && !rotation.isEmpty()) {
+                long pause = pausedUntilNanos - System.nanoTime();
+                if (pause > 0) {
+                    delayNanos = pause;
+                    break;
+                }
+                String user = rotation.peekFirst();
+                Deque<PendingCall<?>> q = queues.get(user);
+                PendingCall<?> next = q.peekFirst();
+                if (next.disposed) {
+                    q.pollFirst();
+                    rotateOrRemove(user, q);
+                    continue;
+                }
+                long wait = Math.max(requestBucket.nanosUntilAvailable(1),
+                        tokenBucket.nanosUntilAvailable(next.estimatedTokens));
+                if (wait > 0) {
+                    delayNanos = wait;
+                    break;
+                }
+                requestBucket.consume(1);
+                tokenBucket.consume(next.estimatedTokens);
+                q.pollFirst();
+                rotateOrRemove(user, q);
+                running++;
+                toStart.add(next);
+            }
+            if (delayNanos > 0 && !drainScheduled) {
+                drainScheduled = true;
+                Schedulers.parallel().schedule(() -> {
+                    synchronized (this) {
+                        drainScheduled = false;
+                    }
+                    drain();
+                }, delayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        for (PendingCall<?> p : toStart) {
+            p.start();
+        }
+    }
+
+    /** 방금 꺼낸 사용자는 라운드로빈 맨 뒤로, 대기열이 비었으면 제거 */
+    private void rotateOrRemove(String user, Deque<PendingCall<?>> q) {
+        rotation.pollFirst();
+        if (q.isEmpty()) {
+            queues.remove(user);
+        } else {
+            rotation.addLast(user);
+        }
+    }
+
+    private void release() {
+        synchronized (this) {
+            running--;
+        }
+        drain();
+    }
+
+    private final class PendingCall<T> {
+        final String userKey;
+        final long estimatedTokens;
+        final Supplier<? extends Publisher<T>> call;
+        final FluxSink<T> sink;
+        volatile boolean disposed;
+        private volatile BaseSubscriber<T> upstream;
+        private boolean released;
+
+        PendingCall(String userKey, long estimatedTokens, Supplier<? extends Publisher<T>> call, FluxSink<T> sink) {
+            this.userKey = userKey;
+            this.estimatedTokens = estimatedTokens;
+            this.call = call;
+            this.sink = sink;
+        }
+
+        void start() {
+            if (disposed) {
+                releaseOnce();
+                return;
+            }
+            BaseSubscriber<T> subscriber = new BaseSubscriber<>() {
+                @Override
+                protected void hookOnSubscribe(Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                protected void hookOnNext(T value) {
+                    sink.next(value);
+                }
+
+                @Override
+                protected void hookOnError(Throwable throwable) {
+                    sink.error(throwable);
+                }
+
+                @Override
+                protected void hookOnComplete() {
+                    sink.complete();
+                }
+
+                @Override
+                protected void hookFinally(SignalType type) {
+                    releaseOnce();
+                }
+            };
+            upstream = subscriber;
+            try {
+                Flux.from(call.get()).subscribe(subscriber);
+            } catch (Exception e) {
+                sink.error(e);
+                releaseOnce();
+            }
+        }
+
+        void dispose() {
+            disposed = true;
+            BaseSubscriber<T> s = upstream;
+            if (s != null) {
+                s.dispose();
+            }
+        }
+
+        private void releaseOnce() {
+            synchronized (this) {
+                if (released) return;
+                released = true;
+            }
+            release();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.homematch.domain.chatbot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 호출 비용·지연 메트릭 (관리 포트의 /actuator/metrics, /actuator/prometheus).
+ * - openai.tokens: 토픽·모델·종류(prompt/completion)별 토큰 누적 (사용자별 사용량은 로그/DB로 집계, 태그로 두지 않음)
+ * - openai.stream.ttft / openai.stream.duration: 스트리밍 첫 토큰까지 시간, 전체 시간
+ * - openai.request.duration: 비스트리밍 호출 시간
+ * - openai.retries: 업스트림 호출 1건당 재시도 횟수
+ * - openai.offtopic.misclassified: 인스코프 질문에 고정 문구가 나와 강화 프롬프트로 다시 물은 횟수
+ * topic 태그는 클라이언트가 보낸 값이라 알려진 토픽만 그대로 쓰고 나머지는 other 로 묶는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenAIMetrics {
+
+    private static final String UNKNOWN = "none";
+    private static final String OTHER_TOPIC = "other";
+    private static final Set<String> KNOWN_TOPICS = Set.of("contract_review", "deed_analysis", "residency", "moveout");
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordTokens(String topic, String model, long promptTokens, long completionTokens) {
+        tokenCounter(topic, model, "prompt").increment(promptTokens);
+        tokenCounter(topic, model, "completion").increment(completionTokens);
+    }
+
+    public void recordTimeToFirstToken(String topic, String model, long nanos) {
+        Timer.builder("openai.stream.ttft")
+                .description("스트리밍 첫 토큰까지 걸린 시간")
+                .tags("topic", topicTag(topic), "model", tagOf(model))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStreamDuration(String topic, String model, String outcome, long nanos) {
+        Timer.builder("openai.stream.duration")
+                .description("스트리밍 응답 전체 시간")
+                .tags("topic", topicTag(topic), "model", tagOf(model), "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRequestDuration(String topic, String model, String outcome, long nanos) {
+        Timer.builder("openai.request.duration")
+                .description("비스트리밍 응답 시간 (대기열 포함)")
+                .tags("topic", topicTag(topic), "model", tagOf(model), "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRetries(String topic, String model, int retries) {
+        DistributionSummary.builder("openai.retries")
+                .description("업스트림 호출 1건당 재시도 횟수")
+                .tags("topic", topicTag(topic), "model", tagOf(model))
+                .register(meterRegistry)
+                .record(retries);
+    }
+
+    /** path: stream(앞부분 감지 후 재시작) / blocking(전체 응답 후 재요청) */
+    public void recordOffTopicMisclassification(String topic, String path) {
+        Counter.builder("openai.offtopic.misclassified")
+                .description("인스코프 질문에 고정 문구 응답이 나온 횟수")
+                .tags("topic", topicTag(topic), "path", path)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Counter tokenCounter(String topic, String model, String type) {
+        return Counter.builder("openai.tokens")
+                .description("OpenAI 토큰 사용량")
+                .tags("topic", topicTag(topic), "model", tagOf(model), "type", type)
+                .register(meterRegistry);
+    }
+
+    private String topicTag(String topic) {
+        String tag = tagOf(topic);
+        return UNKNOWN.equals(tag) || KNOWN_TOPICS.contains(tag) ? tag : OTHER_TOPIC;
+    }
+
+    private String tagOf(String value) {
+        return value == null || value.isBlank() ? UNKNOWN : value.trim().toLowerCase();
+    }
+}
@@ -2,9 +2,14 @@ package com.homematch.domain.chatbot;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homematch.global.resilience.CallNotPermittedException;
+import com.homematch.global.resilience.CircuitBreaker;
 import io.github.cdimascio.dotenv.Dotenv;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
@@ -12,16 +17,22 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 @Service
@@ -33,6 +44,11 @@ public class OpenAIService {
     private static final int TIMEOUT_SECONDS = 60;
     /** 일시 오류 시 재시도 횟수 */
     private static final int MAX_RETRIES = 3;
+    /** 응답 최대 토큰 수 */
+    private static final int MAX_COMPLETION_TOKENS = 1000;
+    /** 스트리밍 고정 문구 조기 감지: 공백 제외 앞부분 몇 자까지 모아서 판단할지 / 최소 판단 길이 */
+    private static final int REFUSAL_DETECT_CHARS = 24;
+    private static final int REFUSAL_MIN_CHARS = 8;
     /** 가이드 컨텍스트 최대 문자 수 (대략 3k 토큰) */
     private static final int MAX_GUIDE_CHARS = 12_000;
     /** 가이드 이탈 의심 시 디스클레이머 붙일 키워드 (판결·소송·법원 등) */
@@ -49,12 +65,41 @@ public class OpenAIService {
         return OFF_TOPIC_MESSAGE;
     }
 
+    /** 서킷이 열려 있으면 false. 호출측은 LLM을 기다리지 않고 로컬 가이드 응답으로 대체 */
+    public boolean isLlmAvailable() {
+        return apiKey != null && !apiKey.isEmpty() && circuitBreaker.isCallPermitted();
+    }
+
     private final WebClient webClient;
     private final String apiKey;
     private final String fineTunedModelId;
+    private final LlmRequestScheduler llmRequestScheduler;
+    private final CircuitBreaker circuitBreaker;
+    private final OpenAIMetrics openAIMetrics;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public OpenAIService() {
+    public OpenAIService(LlmRequestScheduler llmRequestScheduler,
+                         OpenAIMetrics openAIMetrics,
+                         MeterRegistry meterRegistry,
+                         @Value("${openai.circuit.window-size:20}") int windowSize,
+                         @Value("${openai.circuit.minimum-calls:5}") int minimumCalls,
+                         @Value("${openai.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+                         @Value("${openai.circuit.slow-call-millis:20000}") long slowCallMillis,
+                         @Value("${openai.circuit.open-duration-millis:30000}") long openDurationMillis,
+                         @Value("${openai.circuit.half-open-probes:2}") int halfOpenProbes) {
+        this.llmRequestScheduler = llmRequestScheduler;
+        this.openAIMetrics = openAIMetrics;
+        this.circuitBreaker = new CircuitBreaker("openai", windowSize, minimumCalls, failureRateThreshold,
+                slowCallMillis, openDurationMillis, halfOpenProbes);
+        // 0=CLOSED, 1=HALF_OPEN, 2=OPEN
+        Gauge.builder("openai.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("OpenAI 서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .register(meterRegistry);
+        Gauge.builder("openai.circuit.failure.rate", circuitBreaker, CircuitBreaker::failureRate)
+                .register(meterRegistry);
+        Gauge.builder("openai.circuit.latency.p95", circuitBreaker, cb -> cb.latencyPercentileMillis(0.95))
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
         Dotenv dotenv = Dotenv.load();
         this.apiKey = dotenv.get("OPENAI_API_KEY", "");
         this.fineTunedModelId = dotenv.get("OPENAI_FINETUNED_MODEL_ID", "");
@@ -75,6 +120,12 @@ public class OpenAIService {
     }
 
     public String generateResponse(String userMessage, String guideContext, List<Map<String, String>> conversationHistory, boolean inScope) {
+        return generateResponse(userMessage, guideContext, conversationHistory, inScope, null, null);
+    }
+
+    /** userNo는 스케줄러의 사용자별 대기열 구분 + 사용량 메트릭용(null이면 익명), topic은 메트릭 태그용 */
+    public String generateResponse(String userMessage, String guideContext, List<Map<String, String>> conversationHistory,
+                                   boolean inScope, Integer userNo, String topic) {
         if (apiKey == null || apiKey.isEmpty()) {
             return "OpenAI API 키가 설정되지 않았습니다. .env 파일에 OPENAI_API_KEY를 추가해주세요.";
         }
@@ -86,19 +137,9 @@ public class OpenAIService {
             List<Map<String, String>> messages = buildMessages(systemPrompt, userMessage, conversationHistory);
             Map<String, Object> requestBody = buildRequestBody(messages);
 
-            Mono<String> call = webClient.post()
-                    .uri("/chat/completions")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
-                    .retryWhen(Retry.fixedDelay(MAX_RETRIES - 1, Duration.ofSeconds(2))
-                            .filter(t -> isRetryable(t)));
-
-            String responseJson = call.block(Duration.ofSeconds(TIMEOUT_SECONDS + 10));
+            String responseJson = callCompletion(userNo, topic, requestBody);
 
             JsonNode root = objectMapper.readTree(responseJson);
-            logUsage(root);
 
             JsonNode choices = root.get("choices");
             if (choices != null && choices.isArray() && choices.size() > 0) {
@@ -113,20 +154,13 @@ public class OpenAIService {
 
                     // 인스코프인데도 고정 문구가 나온 경우: 프롬프트를 더 강하게 해서 1회 재시도
                     if (inScope && isOffTopicMessage(cleaned)) {
-                        String retryPrompt = buildSystemPrompt(truncatedGuide, true) +
-                                "\n\n[추가 지시]\n- 이 질문은 Home'Scan 도메인 안 질문입니다.\n- 절대 [사이트 외 질문 고정 문구]를 출력하지 마세요.\n";
+                        openAIMetrics.recordOffTopicMisclassification(topic, "blocking");
+                        String retryPrompt = buildStrictInScopePrompt(truncatedGuide);
                         List<Map<String, String>> retryMessages = buildMessages(retryPrompt, userMessage, conversationHistory);
                         Map<String, Object> retryBody = buildRequestBody(retryMessages);
-                        String retryJson = webClient.post()
-                                .uri("/chat/completions")
-                                .bodyValue(retryBody)
-                                .retrieve()
-                                .bodyToMono(String.class)
-                                .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
-                                .block(Duration.ofSeconds(TIMEOUT_SECONDS + 10));
+                        String retryJson = callCompletion(userNo, topic, retryBody);
                         if (retryJson != null && !retryJson.isBlank()) {
                             JsonNode retryRoot = objectMapper.readTree(retryJson);
-                            logUsage(retryRoot);
                             JsonNode retryChoices = retryRoot.get("choices");
                             if (retryChoices != null && retryChoices.isArray() && retryChoices.size() > 0) {
                                 JsonNode retryMsg = retryChoices.get(0).get("message");
@@ -163,43 +197,243 @@ public class OpenAIService {
 
     public Flux<String> generateResponseStreaming(String userMessage, String guideContext,
                                                    List<Map<String, String>> conversationHistory, boolean inScope) {
+        return generateResponseStreaming(userMessage, guideContext, conversationHistory, inScope, null, null);
+    }
+
+    public Flux<String> generateResponseStreaming(String userMessage, String guideContext,
+                                                   List<Map<String, String>> conversationHistory, boolean inScope,
+                                                   Integer userNo, String topic) {
         if (apiKey == null || apiKey.isEmpty()) {
             return Flux.just("OpenAI API 키가 설정되지 않았습니다. .env 파일에 OPENAI_API_KEY를 추가해주세요.");
         }
 
         String truncatedGuide = truncateGuideContext(guideContext);
         String systemPrompt = buildSystemPrompt(truncatedGuide, inScope);
-        List<Map<String, String>> messages = buildMessages(systemPrompt, userMessage, conversationHistory);
+        Flux<String> stream = streamChat(buildStreamingRequestBody(
+                buildMessages(systemPrompt, userMessage, conversationHistory)), userNo, topic);
+
+        // 인스코프인데 고정 문구로 시작하면: 앞부분만 보고 업스트림을 끊고 강화 프롬프트로 바로 다시 스트리밍
+        if (inScope) {
+            stream = restartOnEarlyRefusal(stream, () -> {
+                log.info("인스코프 질문에 고정 문구 응답 감지 - 강화 프롬프트로 재요청 (topic={})", topic);
+                openAIMetrics.recordOffTopicMisclassification(topic, "stream");
+                return streamChat(buildStreamingRequestBody(
+                        buildMessages(buildStrictInScopePrompt(truncatedGuide), userMessage, conversationHistory)),
+                        userNo, topic);
+            });
+        }
+
+        return stream.onErrorResume(t -> !(t instanceof CallNotPermittedException), t -> {
+            log.warn("스트리밍 중 오류: {}", t.getMessage());
+            return Flux.just("(응답 생성 중 일시 오류가 있었습니다.)");
+        });
+    }
+
+    private Map<String, Object> buildStreamingRequestBody(List<Map<String, String>> messages) {
         Map<String, Object> requestBody = buildRequestBody(messages);
         requestBody.put("stream", true);
+        // 마지막 청크에 usage가 오도록 요청 (스트리밍도 토큰 사용량 집계)
+        requestBody.put("stream_options", Map.of("include_usage", true));
+        return requestBody;
+    }
+
+    /** 스케줄러·서킷 브레이커·메트릭을 거치는 스트리밍 호출 1회 */
+    private Flux<String> streamChat(Map<String, Object> requestBody, Integer userNo, String topic) {
+        String model = String.valueOf(requestBody.get("model"));
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Flux.error(new CallNotPermittedException(circuitBreaker.getName()));
+            }
+            // 스트림은 첫 토큰까지 걸린 시간(TTFT)을 지연으로 기록
+            long started = System.nanoTime();
+            AtomicLong firstChunkAt = new AtomicLong();
+            return llmRequestScheduler.submitStream(userNo, coalesceKey(requestBody), estimateTokens(requestBody),
+                            () -> streamCompletion(requestBody, userNo, topic))
+                    .doOnNext(chunk -> {
+                        if (firstChunkAt.compareAndSet(0L, System.nanoTime())) {
+                            openAIMetrics.recordTimeToFirstToken(topic, model, firstChunkAt.get() - started);
+                        }
+                    })
+                    .doOnComplete(() -> {
+                        circuitBreaker.onSuccess(firstChunkNanos(firstChunkAt) - started);
+                        openAIMetrics.recordStreamDuration(topic, model, "success", System.nanoTime() - started);
+                    })
+                    .doOnError(t -> {
+                        if (t instanceof RejectedExecutionException) {
+                            circuitBreaker.release();
+                            openAIMetrics.recordStreamDuration(topic, model, "rejected", System.nanoTime() - started);
+                        } else {
+                            circuitBreaker.onError(firstChunkNanos(firstChunkAt) - started);
+                            openAIMetrics.recordStreamDuration(topic, model, "error", System.nanoTime() - started);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        circuitBreaker.release();
+                        openAIMetrics.recordStreamDuration(topic, model, "cancelled", System.nanoTime() - started);
+                    });
+        });
+    }
+
+    /**
+     * 스트림 앞부분(REFUSAL_DETECT_CHARS자)을 모아 고정 문구로 시작하는지 먼저 판단.
+     * 고정 문구면 원래 스트림을 즉시 취소하고 restart 스트림으로 교체, 아니면 모은 청크부터 그대로 흘려보냄.
+     */
+    private Flux<String> restartOnEarlyRefusal(Flux<String> stream, Supplier<Flux<String>> restart) {
+        return Flux.defer(() -> {
+            StringBuilder head = new StringBuilder();
+            AtomicBoolean decided = new AtomicBoolean(false);
+            return stream
+                    .bufferUntil(chunk -> {
+                        if (decided.get()) return true;
+                        head.append(chunk);
+                        if (head.toString().replaceAll("\\s+", "").length() >= REFUSAL_DETECT_CHARS) {
+                            decided.set(true);
+                            return true;
+                        }
+                        return false;
+                    })
+                    .switchOnFirst((first, rest) -> {
+                        if (first.hasValue() && looksLikeRefusalStart(String.join("", first.get()))) {
+                            // take(0): 원래 업스트림 구독을 바로 취소
+                            return rest.take(0).thenMany(Flux.defer(restart));
+                        }
+                        return rest.concatMapIterable(chunks -> chunks);
+                    });
+        });
+    }
+
+    /** 스트림 앞부분만 보고 고정 문구(또는 그 변형 거절 문구)로 시작하는지 */
+    private boolean looksLikeRefusalStart(String head) {
+        String noSpace = head.replaceAll("\\s+", "");
+        if (noSpace.length() < REFUSAL_MIN_CHARS) {
+            return false;
+        }
+        String fixedNoSpace = OFF_TOPIC_MESSAGE.replaceAll("\\s+", "");
+        if (fixedNoSpace.startsWith(noSpace.substring(0, Math.min(noSpace.length(), REFUSAL_DETECT_CHARS)))) {
+            return true;
+        }
+        return OFF_TOPIC_MESSAGE.equals(normalizeOffTopicToFixedMessage(head, null));
+    }
+
+    /** 인스코프 질문인데 고정 문구가 나왔을 때 다시 물을 강화 프롬프트 */
+    private String buildStrictInScopePrompt(String truncatedGuide) {
+        return buildSystemPrompt(truncatedGuide, true) +
+                "\n\n[추가 지시]\n- 이 질문은 Home'Scan 도메인 안 질문입니다.\n- 절대 [사이트 외 질문 고정 문구]를 출력하지 마세요.\n";
+    }
+
+    /**
+     * 스케줄러를 거쳐 /chat/completions 단건 호출 후 응답 JSON 반환.
+     * 서킷이 열려 있으면 바로 CallNotPermittedException (대기열 대기 시간도 지연에 포함됨)
+     */
+    private String callCompletion(Integer userNo, String topic, Map<String, Object> requestBody) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new CallNotPermittedException(circuitBreaker.getName());
+        }
+        String model = String.valueOf(requestBody.get("model"));
+        long started = System.nanoTime();
+        try {
+            String json = requestCompletion(userNo, topic, requestBody);
+            circuitBreaker.onSuccess(System.nanoTime() - started);
+            openAIMetrics.recordRequestDuration(topic, model, "success", System.nanoTime() - started);
+            return json;
+        } catch (RejectedExecutionException e) {
+            // 대기열 초과는 업스트림 장애가 아님
+            circuitBreaker.release();
+            openAIMetrics.recordRequestDuration(topic, model, "rejected", System.nanoTime() - started);
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - started);
+            openAIMetrics.recordRequestDuration(topic, model, "error", System.nanoTime() - started);
+            throw e;
+        }
+    }
 
-        Flux<DataBuffer> bodyFlux = webClient.post()
-                .uri("/chat/completions")
-                .bodyValue(requestBody)
-                .exchangeToFlux(res -> res.bodyToFlux(DataBuffer.class))
-                .timeout(Duration.ofSeconds(TIMEOUT_SECONDS));
+    private String requestCompletion(Integer userNo, String topic, Map<String, Object> requestBody) {
+        long estimated = estimateTokens(requestBody);
+        String model = String.valueOf(requestBody.get("model"));
+        Mono<String> call = llmRequestScheduler.submit(userNo, coalesceKey(requestBody), estimated, () -> {
+            AtomicInteger retries = new AtomicInteger();
+            return webClient.post()
+                    .uri("/chat/completions")
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
+                    .retryWhen(llmRequestScheduler.retrySpec(MAX_RETRIES - 1, () -> true, retries::incrementAndGet))
+                    .doOnNext(json -> recordUsage(usageOf(json), estimated, userNo, topic, model))
+                    .doFinally(s -> openAIMetrics.recordRetries(topic, model, retries.get()));
+        });
+        return call.block(Duration.ofSeconds(TIMEOUT_SECONDS + 10));
+    }
 
-        return Flux.<String>create(sink -> {
+    /**
+     * 스트리밍 업스트림 호출. 첫 청크가 오기 전 오류(429/5xx/연결 실패)만 재시도하고,
+     * 이미 내용을 내보낸 뒤에는 중복 출력 방지를 위해 재시도하지 않음.
+     */
+    private Flux<String> streamCompletion(Map<String, Object> requestBody, Integer userNo, String topic) {
+        long estimated = estimateTokens(requestBody);
+        String model = String.valueOf(requestBody.get("model"));
+        return Flux.defer(() -> {
+            AtomicBoolean received = new AtomicBoolean(false);
+            AtomicInteger retries = new AtomicInteger();
             StringBuilder buf = new StringBuilder();
-            bodyFlux.subscribe(
-                    db -> {
+            return webClient.post()
+                    .uri("/chat/completions")
+                    .bodyValue(requestBody)
+                    .exchangeToFlux(res -> res.statusCode().isError()
+                            ? res.createException().flatMapMany(e -> Flux.<DataBuffer>error(e))
+                            : res.bodyToFlux(DataBuffer.class))
+                    .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
+                    .doOnNext(db -> received.set(true))
+                    .retryWhen(llmRequestScheduler.retrySpec(MAX_RETRIES - 1, () -> !received.get(),
+                            retries::incrementAndGet))
+                    .concatMapIterable(db -> {
                         String s = dataBufferToString(db);
                         DataBufferUtils.release(db);
                         buf.append(s);
-                        flushStreamLines(buf, sink);
-                    },
-                    sink::error,
-                    () -> {
-                        flushStreamLines(buf, sink);
-                        sink.complete();
-                    }
-            );
-        }).onErrorResume(t -> {
-            log.warn("스트리밍 중 오류: {}", t.getMessage());
-            return Flux.just("(응답 생성 중 일시 오류가 있었습니다.)");
+                        return drainStreamLines(buf, usage -> recordUsage(usage, estimated, userNo, topic, model));
+                    })
+                    .doFinally(s -> openAIMetrics.recordRetries(topic, model, retries.get()));
         });
     }
 
+    private long firstChunkNanos(AtomicLong firstChunkAt) {
+        long t = firstChunkAt.get();
+        return t != 0L ? t : System.nanoTime();
+    }
+
+    /** 토큰 버킷 차감용 대략적인 토큰 수 (한글 기준 2자당 1토큰 + 최대 응답 토큰) */
+    private long estimateTokens(Map<String, Object> requestBody) {
+        long chars = 0;
+        Object messages = requestBody.get("messages");
+        if (messages instanceof List<?> list) {
+            for (Object m : list) {
+                if (m instanceof Map<?, ?> map && map.get("content") != null) {
+                    chars += map.get("content").toString().length();
+                }
+            }
+        }
+        return chars / 2 + MAX_COMPLETION_TOKENS;
+    }
+
+    /** 동일 요청 판별용 키 (요청 본문 SHA-256) */
+    private String coalesceKey(Map<String, Object> requestBody) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(requestBody);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (Exception e) {
+            return String.valueOf(System.identityHashCode(requestBody));
+        }
+    }
+
+    private JsonNode usageOf(String responseJson) {
+        try {
+            return objectMapper.readTree(responseJson).path("usage");
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     private boolean isOffTopicMessage(String text) {
         if (text == null) return false;
         String a = text.replaceAll("\\s+", "");
@@ -215,8 +449,12 @@ public class OpenAIService {
         return new String(bytes, StandardCharsets.UTF_8);
     }
 
-    /** buf에서 줄 단위로 잘라 "data: {...}"만 파싱해 sink로 delta 전달 */
-    private void flushStreamLines(StringBuilder buf, FluxSink<String> sink) {
+    /**
+     * buf에서 줄 단위로 잘라 "data: {...}"만 파싱해 delta 목록 반환 (남은 미완성 줄은 buf에 유지).
+     * include_usage 요청 시 마지막 청크의 usage는 onUsage로 전달
+     */
+    private List<String> drainStreamLines(StringBuilder buf, Consumer<JsonNode> onUsage) {
+        List<String> deltas = new ArrayList<>();
         int idx;
         while ((idx = buf.indexOf("\n")) >= 0) {
             String line = buf.substring(0, idx).trim();
@@ -224,34 +462,32 @@ public class OpenAIService {
             if (line.startsWith("data: ")) {
                 String rest = line.substring(6).trim();
                 if ("[DONE]".equals(rest) || rest.isEmpty()) continue;
-                String delta = parseStreamDelta(rest);
-                if (delta != null) sink.next(delta);
+                JsonNode chunk;
+                try {
+                    chunk = objectMapper.readTree(rest);
+                } catch (Exception e) {
+                    continue;
+                }
+                JsonNode usage = chunk.get("usage");
+                if (usage != null && usage.isObject()) onUsage.accept(usage);
+                String delta = parseStreamDelta(chunk);
+                if (delta != null) deltas.add(delta);
             }
         }
+        return deltas;
     }
 
-    private String parseStreamDelta(String json) {
-        try {
-            JsonNode root = objectMapper.readTree(json);
-            JsonNode choices = root.path("choices");
-            if (choices.isArray() && choices.size() > 0) {
-                JsonNode delta = choices.get(0).path("delta");
-                if (delta.has("content")) {
-                    return delta.get("content").asText();
-                }
+    private String parseStreamDelta(JsonNode root) {
+        JsonNode choices = root.path("choices");
+        if (choices.isArray() && choices.size() > 0) {
+            JsonNode delta = choices.get(0).path("delta");
+            if (delta.has("content") && !delta.get("content").isNull()) {
+                return delta.get("content").asText();
             }
-        } catch (Exception ignored) { }
+        }
         return null;
     }
 
-    private boolean isRetryable(Throwable t) {
-        String msg = t.getMessage();
-        if (msg == null) return false;
-        return msg.contains("timeout") || msg.contains("Timeout")
-                || msg.contains("503") || msg.contains("502") || msg.contains("429")
-                || msg.contains("Connection") || msg.contains("connection");
-    }
-
     private List<Map<String, String>> buildMessages(String systemPrompt, String userMessage,
                                                      List<Map<String, String>> conversationHistory) {
         List<Map<String, String>> messages = new ArrayList<>();
@@ -281,7 +517,7 @@ public class OpenAIService {
         body.put("model", model);
         body.put("messages", messages);
         body.put("temperature", 0.3);
-        body.put("max_tokens", 1000);
+        body.put("max_tokens", MAX_COMPLETION_TOKENS);
         return body;
     }
 
@@ -291,18 +527,16 @@ public class OpenAIService {
         return guideContext.substring(0, MAX_GUIDE_CHARS) + "\n\n(가이드 내용이 많아 일부만 사용했습니다.)";
     }
 
-    private void logUsage(JsonNode responseNode) {
-        try {
-            JsonNode usage = responseNode.get("usage");
-            if (usage != null) {
-                int prompt = usage.path("prompt_tokens").asInt(0);
-                int completion = usage.path("completion_tokens").asInt(0);
-                int total = usage.path("total_tokens").asInt(0);
-                log.info("OpenAI usage: prompt_tokens={}, completion_tokens={}, total_tokens={}", prompt, completion, total);
-            }
-        } catch (Exception e) {
-            log.debug("usage 파싱 생략: {}", e.getMessage());
-        }
+    /** 업스트림 응답 1건의 usage 기록: 로그(사용자별) + 토큰 버킷 보정 + 토픽/모델별 메트릭 */
+    private void recordUsage(JsonNode usage, long estimatedTokens, Integer userNo, String topic, String model) {
+        if (usage == null || !usage.isObject()) return;
+        int prompt = usage.path("prompt_tokens").asInt(0);
+        int completion = usage.path("completion_tokens").asInt(0);
+        int total = usage.path("total_tokens").asInt(0);
+        log.info("OpenAI usage: user={}, topic={}, model={}, prompt_tokens={}, completion_tokens={}, total_tokens={}",
+                userNo, topic, model, prompt, completion, total);
+        llmRequestScheduler.recordUsage(estimatedTokens, total);
+        openAIMetrics.recordTokens(topic, model, prompt, completion);
     }
 
     /** 사이트 외 질문에 대한 답이면 고정 문구(줄바꿈·띄어쓰기 유지)로 통일. (LLM 출력 변형/띄어쓰기 차이 흡수용) */
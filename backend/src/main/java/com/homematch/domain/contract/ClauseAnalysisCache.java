@@ -0,0 +1,47 @@
+package com.homematch.domain.contract;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특약 조항 분석 결과 캐시.
+ * cache_key = SHA-256(정규화된 조항 | strict | 모델·프롬프트 버전)
+ */
+@Entity
+@Table(name = "clause_analysis_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_clause_cache_key", columnNames = "cache_key"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ClauseAnalysisCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_key", nullable = false, length = 64)
+    private String cacheKey;
+
+    @Column(name = "normalized_clause", nullable = false, columnDefinition = "TEXT")
+    private String normalizedClause;
+
+    @Column(name = "strict_mode", nullable = false)
+    private Boolean strictMode;
+
+    @Column(name = "model_version", nullable = false, length = 100)
+    private String modelVersion;
+
+    @Column(name = "response_json", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String responseJson; // FastApiAnalyzeResponse 직렬화
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,10 @@
+package com.homematch.domain.contract;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ClauseAnalysisCacheRepository extends JpaRepository<ClauseAnalysisCache, Long> {
+
+    Optional<ClauseAnalysisCache> findByCacheKey(String cacheKey);
+}
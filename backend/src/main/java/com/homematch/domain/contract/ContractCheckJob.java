@@ -0,0 +1,72 @@
+package com.homematch.domain.contract;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특약 점검 비동기 작업 (POST /api/contract/check/jobs).
+ * status: PENDING → RUNNING → DONE / FAILED
+ * - id를 직접 넣으므로 Persistable로 새 행을 알려줌 (save가 SELECT 없이 INSERT)
+ * - 등록 후 상태·진행률은 ContractCheckJobRepository의 UPDATE 쿼리로만 바꿈
+ * - 조회·SSE는 등록한 사용자(userNo)만 가능
+ */
+@Entity
+@Table(name = "contract_check_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ContractCheckJob implements Persistable<String> {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id; // UUID
+
+    @Column(name = "user_id")
+    private Integer userNo; // 작업을 등록한 사용자
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "strict_mode", nullable = false)
+    private Boolean strictMode;
+
+    @Column(name = "total_clauses", nullable = false)
+    private Integer totalClauses;
+
+    @Column(name = "completed_clauses", nullable = false)
+    private Integer completedClauses;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /** 저장 전(@PrePersist 전)이면 새 행 */
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
+
+    public boolean isFinished() {
+        return "DONE".equals(status) || "FAILED".equals(status);
+    }
+}
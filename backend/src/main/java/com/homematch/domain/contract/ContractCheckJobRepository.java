@@ -0,0 +1,50 @@
+package com.homematch.domain.contract;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/** 작업 상태는 행을 읽지 않고 바로 UPDATE (워커가 조항마다 호출) */
+public interface ContractCheckJobRepository extends JpaRepository<ContractCheckJob, String> {
+
+    Optional<ContractCheckJob> findByIdAndUserNo(String id, Integer userNo);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContractCheckJob j SET j.status = 'RUNNING', j.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE j.id = :id AND j.status = 'PENDING'")
+    int markRunning(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContractCheckJob j SET j.completedClauses = :completed, j.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE j.id = :id")
+    int updateProgress(@Param("id") String id, @Param("completed") int completed);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContractCheckJob j SET j.status = 'DONE', j.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE j.id = :id AND j.status = 'RUNNING'")
+    int markDone(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContractCheckJob j SET j.status = 'FAILED', j.errorMessage = :errorMessage, "
+            + "j.updatedAt = CURRENT_TIMESTAMP WHERE j.id = :id")
+    int markFailed(@Param("id") String id, @Param("errorMessage") String errorMessage);
+
+    /**
+     * 진행이 멈춘 작업 정리: updated_at이 before 이전인 PENDING/RUNNING 작업을 FAILED로.
+     * (상태 저장 실패·서버 재시작으로 워커가 없는 작업. 실행 중인 작업은 조항마다 updated_at이 갱신됨)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContractCheckJob j SET j.status = 'FAILED', j.errorMessage = :errorMessage, "
+            + "j.updatedAt = CURRENT_TIMESTAMP WHERE j.status IN ('PENDING', 'RUNNING') AND j.updatedAt < :before")
+    int failStale(@Param("before") LocalDateTime before, @Param("errorMessage") String errorMessage);
+}
@@ -0,0 +1,42 @@
+package com.homematch.domain.contract;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 비동기 특약 점검 작업의 조항별 결과 (끝나는 순서대로 저장) */
+@Entity
+@Table(name = "contract_check_job_results",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_clause_index", columnNames = {"job_id", "clause_index"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ContractCheckJobResult {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    private ContractCheckJob job;
+
+    @Column(name = "clause_index", nullable = false)
+    private Integer clauseIndex;
+
+    @Column(name = "clause", nullable = false, columnDefinition = "TEXT")
+    private String clause;
+
+    @Column(name = "analysis_json", columnDefinition = "MEDIUMTEXT")
+    private String analysisJson; // FastApiAnalyzeResponse 직렬화
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,10 @@
+package com.homematch.domain.contract;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ContractCheckJobResultRepository extends JpaRepository<ContractCheckJobResult, Long> {
+
+    List<ContractCheckJobResult> findByJob_IdOrderByClauseIndexAsc(String jobId);
+}
@@ -1,10 +1,12 @@
 package com.homematch.domain.contract;
 
 import com.homematch.domain.user.User;
+import com.homematch.global.converter.StringListJsonConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
 @Table(name = "contract_reviews")
@@ -22,11 +24,20 @@ public class ContractReview {
     @JoinColumn(name = "user_id", referencedColumnName = "user_no", nullable = false)
     private User user;
 
+    @Convert(converter = StringListJsonConverter.class)
     @Column(name = "file_path", columnDefinition = "JSON")
-    private String filePaths; // JSON 문자열로 저장 (파일 경로 배열)
+    private List<String> filePaths; // JSON 배열로 저장 (파일 경로 / BlobStore 참조)
 
+    @Convert(converter = StringListJsonConverter.class)
     @Column(name = "special_terms", columnDefinition = "JSON")
-    private String specialTerms; // JSON 문자열로 저장
+    private List<String> specialTerms; // JSON 배열로 저장
+
+    // 목록 화면용 개수 (JSON 컬럼을 읽지 않고 요약 조회)
+    @Column(name = "file_count")
+    private Integer fileCount;
+
+    @Column(name = "special_term_count")
+    private Integer specialTermCount;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -38,6 +49,8 @@ public class ContractReview {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        fileCount = filePaths != null ? filePaths.size() : 0;
+        specialTermCount = specialTerms != null ? specialTerms.size() : 0;
     }
 
     @PreUpdate
@@ -0,0 +1,99 @@
+package com.homematch.domain.contract;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계약서 점검(ContractReview)의 특약 조항별 분석 결과.
+ * 한 번 분석한 결과를 저장해 두고 상세 화면 재진입 시 FastAPI 재분석 없이 반환
+ * (모델 버전이 바뀌었거나 사용자가 재분석을 요청한 경우에만 다시 분석)
+ */
+@Entity
+@Table(name = "contract_review_analyses",
+        uniqueConstraints = @UniqueConstraint(name = "uk_review_clause_index", columnNames = {"review_id", "clause_index"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ContractReviewAnalysis {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "review_id", nullable = false)
+    private ContractReview contractReview;
+
+    @Column(name = "clause_index", nullable = false)
+    private Integer clauseIndex;
+
+    @Column(name = "clause", nullable = false, columnDefinition = "TEXT")
+    private String clause;
+
+    @Column(name = "strict_mode", nullable = false)
+    private Boolean strictMode;
+
+    @Column(name = "model_version", nullable = false, length = 100)
+    private String modelVersion;
+
+    @Column(name = "ok", nullable = false)
+    private Boolean ok;
+
+    @Column(name = "parse_error", nullable = false)
+    private Boolean parseError;
+
+    @Column(name = "conclusion", columnDefinition = "TEXT")
+    private String conclusion; // answer_json.conclusion (목록 화면 요약용)
+
+    @Column(name = "answer_json", columnDefinition = "MEDIUMTEXT")
+    private String answerJson; // answer_json 전체 (risk_points, law_basis ...)
+
+    @Column(name = "answer_raw", columnDefinition = "MEDIUMTEXT")
+    private String answerRaw;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /** 재분석 결과로 덮어쓰기 */
+    public void update(String clause, boolean strictMode, String modelVersion, boolean ok, boolean parseError,
+                       String conclusion, String answerJson, String answerRaw, String errorMessage) {
+        this.clause = clause;
+        this.strictMode = strictMode;
+        this.modelVersion = modelVersion;
+        this.ok = ok;
+        this.parseError = parseError;
+        this.conclusion = conclusion;
+        this.answerJson = answerJson;
+        this.answerRaw = answerRaw;
+        this.errorMessage = errorMessage;
+    }
+
+    /** 같은 조항·모드·모델 버전으로 정상 분석된 결과면 재사용 */
+    public boolean isReusable(String clause, boolean strictMode, String modelVersion) {
+        return Boolean.TRUE.equals(ok)
+                && !Boolean.TRUE.equals(parseError)
+                && this.clause.equals(clause)
+                && this.strictMode == strictMode
+                && this.modelVersion.equals(modelVersion);
+    }
+}
@@ -0,0 +1,13 @@
+package com.homematch.domain.contract;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ContractReviewAnalysisRepository extends JpaRepository<ContractReviewAnalysis, Long> {
+
+    List<ContractReviewAnalysis> findByContractReview_IdOrderByClauseIndexAsc(Long reviewId);
+
+    Optional<ContractReviewAnalysis> findByContractReview_IdAndClauseIndex(Long reviewId, Integer clauseIndex);
+}
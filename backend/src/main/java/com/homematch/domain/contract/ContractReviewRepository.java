@@ -1,5 +1,8 @@
 package com.homematch.domain.contract;
 
+import com.homematch.domain.contract.dto.ContractReviewSummaryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,6 +15,14 @@ public interface ContractReviewRepository extends JpaRepository<ContractReview,
     @Query("SELECT cr FROM ContractReview cr JOIN cr.user u WHERE u.user_no = :userNo ORDER BY cr.createdAt DESC")
     List<ContractReview> findByUserNo(@Param("userNo") Integer userNo);
     
+    @Query(value = "SELECT new com.homematch.domain.contract.dto.ContractReviewSummaryResponse(" +
+            "cr.id, COALESCE(cr.fileCount, 0), COALESCE(cr.specialTermCount, 0), " +
+            "(SELECT COUNT(a) FROM ContractReviewAnalysis a WHERE a.contractReview = cr), " +
+            "cr.createdAt, cr.updatedAt) " +
+            "FROM ContractReview cr JOIN cr.user u WHERE u.user_no = :userNo ORDER BY cr.createdAt DESC, cr.id DESC",
+            countQuery = "SELECT COUNT(cr) FROM ContractReview cr JOIN cr.user u WHERE u.user_no = :userNo")
+    Page<ContractReviewSummaryResponse> findSummariesByUserNo(@Param("userNo") Integer userNo, Pageable pageable);
+    
     @Query("SELECT cr FROM ContractReview cr JOIN cr.user u WHERE u.user_no = :userNo AND cr.id = :id")
     Optional<ContractReview> findByUserNoAndId(@Param("userNo") Integer userNo, @Param("id") Long id);
 }
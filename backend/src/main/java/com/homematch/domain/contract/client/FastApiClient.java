@@ -1,28 +1,90 @@
 package com.homematch.domain.contract.client;
 
 import com.homematch.domain.contract.dto.FastApiAnalyzeResponse;
+import com.homematch.domain.contract.dto.FastApiBatchAnalyzeResponse;
+import com.homematch.global.resilience.CallNotPermittedException;
+import com.homematch.global.resilience.CircuitBreaker;
+import com.homematch.global.resilience.LatencyTracker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * FastAPI(RAG 코어) 호출 클라이언트.
+ * - fastapi.base-urls 에 여러 인스턴스를 두면 진행 중 요청이 가장 적은 인스턴스로 보냄 (least outstanding)
+ * - 주기적으로 /health 확인, 인스턴스별 서킷 브레이커(오류율·p95)로 느리거나 죽은 인스턴스는 제외
+ * - 실패(5xx·네트워크·타임아웃)하면 다른 인스턴스로 한 번 재시도
+ * - fastapi.hedge.enabled 이면 단건 /analyze 가 해당 인스턴스 p95만큼 지나도 안 끝날 때 다른 인스턴스에 같은 요청을 보내고
+ *   먼저 온 응답 사용 (배치는 LLM 호출이 조항 수만큼이라 헤지하지 않음)
+ */
 @Component
 public class FastApiClient {
 
-    private final WebClient webClient;
+    private static final Duration HEALTH_TIMEOUT = Duration.ofSeconds(2);
+    /** 헤지 지연을 정하려면 최소 이만큼의 /analyze 응답 기록이 있어야 함 */
+    private static final int HEDGE_MIN_SAMPLES = 20;
+
+    private final List<FastApiInstance> instances;
+    private final Duration timeout;
+    private final boolean hedgeEnabled;
+    private final long hedgeMinDelayMillis;
 
     public FastApiClient(
             WebClient.Builder webClientBuilder,
-            @Value("${fastapi.base-url}") String baseUrl
+            MeterRegistry meterRegistry,
+            @Value("${fastapi.base-urls:${fastapi.base-url}}") String baseUrls,
+            @Value("${fastapi.timeout-seconds:60}") long timeoutSeconds,
+            @Value("${fastapi.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${fastapi.hedge.min-delay-millis:3000}") long hedgeMinDelayMillis,
+            @Value("${fastapi.circuit.window-size:50}") int windowSize,
+            @Value("${fastapi.circuit.minimum-calls:10}") int minimumCalls,
+            @Value("${fastapi.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${fastapi.circuit.slow-call-millis:180000}") long slowCallMillis,
+            @Value("${fastapi.circuit.open-duration-millis:30000}") long openDurationMillis,
+            @Value("${fastapi.circuit.half-open-probes:2}") int halfOpenProbes
     ) {
-        this.webClient = webClientBuilder
-                .baseUrl(baseUrl)
-                .build();
+        List<FastApiInstance> list = new ArrayList<>();
+        for (String url : Arrays.stream(baseUrls.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList()) {
+            FastApiInstance instance = new FastApiInstance(
+                    url,
+                    webClientBuilder.clone().baseUrl(url).build(),
+                    new CircuitBreaker("fastapi-" + url, windowSize, minimumCalls, failureRateThreshold,
+                            slowCallMillis, openDurationMillis, halfOpenProbes),
+                    new LatencyTracker(windowSize));
+            list.add(instance);
+
+            Gauge.builder("fastapi.instance.outstanding", instance, i -> i.getOutstanding().get())
+                    .description("FastAPI 인스턴스별 진행 중 요청 수")
+                    .tag("instance", url)
+                    .register(meterRegistry);
+            Gauge.builder("fastapi.instance.available", instance, i -> i.isAvailable() ? 1 : 0)
+                    .description("FastAPI 인스턴스 라우팅 가능 여부 (헬스 체크 + 서킷)")
+                    .tag("instance", url)
+                    .register(meterRegistry);
+        }
+        if (list.isEmpty()) {
+            throw new IllegalArgumentException("fastapi.base-urls 에 FastAPI 주소가 없습니다.");
+        }
+        this.instances = List.copyOf(list);
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelayMillis = hedgeMinDelayMillis;
     }
 
     /**
@@ -37,14 +99,7 @@ public class FastApiClient {
         body.put("strict", strict);
 
         try {
-            return webClient.post()
-                    .uri("/analyze")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(FastApiAnalyzeResponse.class)
-                    .timeout(Duration.ofSeconds(60))
-                    .block();
+            return executeHedged("/analyze", body, FastApiAnalyzeResponse.class).block();
 
         } catch (WebClientResponseException e) {
             // FastAPI가 4xx/5xx를 준 경우
@@ -54,8 +109,200 @@ public class FastApiClient {
                     e
             );
         } catch (Exception e) {
-            // 네트워크/타임아웃/기타
+            // 네트워크/타임아웃/서킷 OPEN/기타
             throw new RuntimeException("FastAPI 호출 중 예외 발생", e);
         }
     }
+
+    /**
+     * FastAPI /analyze/batch 호출 (조항 N개를 한 번에 분석)
+     * - 임베딩/검색은 서버에서 조항 전체에 대해 한 번씩 수행
+     * - 결과는 clauses와 같은 순서, 조항별 실패는 ok=false로 옴
+     *
+     * @param clauses 분석할 특약 문장 목록
+     * @param strict  JSON strict 모드 여부
+     */
+    public List<FastApiAnalyzeResponse> analyzeClauses(List<String> clauses, boolean strict) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("clauses", clauses);
+        body.put("strict", strict);
+
+        FastApiBatchAnalyzeResponse response;
+        try {
+            // 조항 수만큼 LLM 호출이 있으므로 단건 타임아웃 x 조항 수
+            Duration batchTimeout = timeout.multipliedBy(Math.max(1, clauses.size()));
+            response = executeWithFailover("/analyze/batch", body, FastApiBatchAnalyzeResponse.class, batchTimeout)
+                    .block();
+
+        } catch (WebClientResponseException e) {
+            throw new RuntimeException(
+                    "FastAPI 배치 호출 실패 - status=" + e.getStatusCode()
+                            + ", body=" + e.getResponseBodyAsString(),
+                    e
+            );
+        } catch (Exception e) {
+            throw new RuntimeException("FastAPI 배치 호출 중 예외 발생", e);
+        }
+
+        if (response == null || response.getResults() == null
+                || response.getResults().size() != clauses.size()) {
+            throw new RuntimeException("FastAPI 배치 응답의 결과 수가 요청 조항 수와 다릅니다.");
+        }
+        return response.getResults();
+    }
+
+    /** 인스턴스별 /health 확인. 응답이 없거나 2xx가 아니면 라우팅에서 제외 */
+    @Scheduled(fixedDelayString = "${fastapi.health.interval-millis:10000}")
+    public void checkHealth() {
+        Flux.fromIterable(instances)
+                .flatMap(instance -> instance.getWebClient().get()
+                        .uri("/health")
+                        .retrieve()
+                        .toBodilessEntity()
+                        .timeout(HEALTH_TIMEOUT)
+                        .map(res -> res.getStatusCode().is2xxSuccessful())
+                        .onErrorReturn(false)
+                        .doOnNext(ok -> {
+                            if (instance.isHealthy() != ok) {
+                                System.err.println("FastAPI 인스턴스 상태 변경: " + instance.getBaseUrl()
+                                        + (ok ? " → 정상" : " → 비정상"));
+                            }
+                            instance.setHealthy(ok);
+                        }))
+                .blockLast(HEALTH_TIMEOUT.plusSeconds(1));
+    }
+
+    /** 단건 호출: (설정 시) p95 지연 후 다른 인스턴스로 헤지, 헤지가 없으면 실패 시 한 번 재시도 */
+    private <T> Mono<T> executeHedged(String uri, Object body, Class<T> type) {
+        return Mono.defer(() -> {
+            FastApiInstance primary = pick(null);
+            long delayMillis = hedgeDelayMillis(primary);
+            if (delayMillis < 0) {
+                return call(primary, uri, body, type, timeout, true)
+                        .onErrorResume(e -> isRetryable(e) && instances.size() > 1,
+                                e -> Mono.defer(() -> call(pick(primary), uri, body, type, timeout, true)));
+            }
+
+            // 헤지 시점: p95 지연이 지났거나, 그 전에 primary가 (재시도할 만한 이유로) 실패했을 때
+            Sinks.Empty<Void> primaryFailed = Sinks.empty();
+            Mono<T> primaryCall = call(primary, uri, body, type, timeout, true)
+                    .doOnError(e -> {
+                        if (isRetryable(e)) {
+                            primaryFailed.tryEmitEmpty();
+                        } else {
+                            primaryFailed.tryEmitError(e); // 4xx는 헤지해도 같은 결과
+                        }
+                    });
+            Mono<T> hedgeCall = Mono.firstWithSignal(Mono.delay(Duration.ofMillis(delayMillis)).then(), primaryFailed.asMono())
+                    .then(Mono.defer(() -> call(pick(primary), uri, body, type, timeout, true)));
+
+            // 먼저 성공한 응답 사용, 진 쪽은 취소 (서킷에는 결과 없이 슬롯만 반환)
+            // 둘 다 실패하면 NoSuchElementException에 원인들이 suppressed로 붙으므로 첫 원인으로 바꿔 던짐
+            return Mono.firstWithValue(primaryCall, hedgeCall)
+                    .onErrorMap(e -> e.getSuppressed().length > 0 ? e.getSuppressed()[0] : e);
+        });
+    }
+
+    /** 배치 호출: 실패 시 다른 인스턴스로 한 번 재시도 */
+    private <T> Mono<T> executeWithFailover(String uri, Object body, Class<T> type, Duration callTimeout) {
+        return Mono.defer(() -> {
+            FastApiInstance primary = pick(null);
+            return call(primary, uri, body, type, callTimeout, false)
+                    .onErrorResume(e -> isRetryable(e) && instances.size() > 1,
+                            e -> Mono.defer(() -> call(pick(primary), uri, body, type, callTimeout, false)));
+        });
+    }
+
+    /** 헤지 지연(ms). 헤지하지 않으면 -1 */
+    private long hedgeDelayMillis(FastApiInstance primary) {
+        if (!hedgeEnabled || instances.size() < 2) {
+            return -1;
+        }
+        LatencyTracker latency = primary.getAnalyzeLatency();
+        if (latency.size() < HEDGE_MIN_SAMPLES) {
+            return -1;
+        }
+        return Math.max(hedgeMinDelayMillis, latency.percentileMillis(0.95));
+    }
+
+    private <T> Mono<T> call(FastApiInstance instance, String uri, Object body, Class<T> type,
+                             Duration callTimeout, boolean trackLatency) {
+        return Mono.defer(() -> {
+            CircuitBreaker breaker = instance.getCircuitBreaker();
+            if (!breaker.tryAcquire()) {
+                return Mono.error(new CallNotPermittedException(breaker.getName()));
+            }
+            instance.getOutstanding().incrementAndGet();
+            long start = System.nanoTime();
+            return instance.getWebClient().post()
+                    .uri(uri)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToMono(type)
+                    .timeout(callTimeout)
+                    .doOnSuccess(res -> {
+                        long elapsed = System.nanoTime() - start;
+                        breaker.onSuccess(elapsed);
+                        if (trackLatency) {
+                            instance.getAnalyzeLatency().record(elapsed);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (isRetryable(e)) {
+                            breaker.onError(System.nanoTime() - start);
+                        } else {
+                            // 4xx는 요청 문제라 인스턴스 상태와 무관
+                            breaker.release();
+                        }
+                    })
+                    .doOnCancel(breaker::release)
+                    .doFinally(signal -> instance.getOutstanding().decrementAndGet());
+        });
+    }
+
+    /**
+     * 진행 중 요청이 가장 적은 인스턴스 (같으면 무작위). exclude는 재시도·헤지 시 먼저 보낸 인스턴스
+     * 라우팅 가능한 인스턴스가 없으면 헬스 체크 결과를 무시하고 서킷만 보고 선택
+     */
+    private FastApiInstance pick(FastApiInstance exclude) {
+        FastApiInstance best = select(exclude, true);
+        if (best == null) {
+            best = select(exclude, false);
+        }
+        if (best == null && exclude != null) {
+            best = select(null, false);
+        }
+        if (best == null) {
+            throw new CallNotPermittedException("fastapi");
+        }
+        return best;
+    }
+
+    private FastApiInstance select(FastApiInstance exclude, boolean requireHealthy) {
+        FastApiInstance best = null;
+        int bestOutstanding = Integer.MAX_VALUE;
+        int ties = 0;
+        for (FastApiInstance instance : instances) {
+            if (instance == exclude) continue;
+            if (requireHealthy ? !instance.isAvailable() : !instance.getCircuitBreaker().isCallPermitted()) continue;
+            int outstanding = instance.getOutstanding().get();
+            if (outstanding < bestOutstanding) {
+                best = instance;
+                bestOutstanding = outstanding;
+                ties = 1;
+            } else if (outstanding == bestOutstanding && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+                best = instance;
+            }
+        }
+        return best;
+    }
+
+    /** 인스턴스 상태 탓일 수 있는 실패만 재시도·서킷 집계 (4xx는 제외) */
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException w) {
+            return w.getStatusCode().is5xxServerError();
+        }
+        return true; // 네트워크 오류, 타임아웃, 서킷 OPEN
+    }
 }
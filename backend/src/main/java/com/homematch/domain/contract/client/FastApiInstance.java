@@ -0,0 +1,58 @@
+package com.homematch.domain.contract.client;
+
+import com.homematch.global.resilience.CircuitBreaker;
+import com.homematch.global.resilience.LatencyTracker;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** FastAPI(RAG 코어) 인스턴스 1개의 상태: 진행 중 요청 수, 헬스 체크 결과, 서킷, /analyze 응답 시간 */
+class FastApiInstance {
+
+    private final String baseUrl;
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final LatencyTracker analyzeLatency;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private volatile boolean healthy = true; // 첫 헬스 체크 전에는 정상으로 간주
+
+    FastApiInstance(String baseUrl, WebClient webClient, CircuitBreaker circuitBreaker, LatencyTracker analyzeLatency) {
+        this.baseUrl = baseUrl;
+        this.webClient = webClient;
+        this.circuitBreaker = circuitBreaker;
+        this.analyzeLatency = analyzeLatency;
+    }
+
+    String getBaseUrl() {
+        return baseUrl;
+    }
+
+    WebClient getWebClient() {
+        return webClient;
+    }
+
+    CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    LatencyTracker getAnalyzeLatency() {
+        return analyzeLatency;
+    }
+
+    AtomicInteger getOutstanding() {
+        return outstanding;
+    }
+
+    boolean isHealthy() {
+        return healthy;
+    }
+
+    void setHealthy(boolean healthy) {
+        this.healthy = healthy;
+    }
+
+    /** 라우팅 후보 여부 (헬스 체크 통과 + 서킷이 막혀 있지 않음) */
+    boolean isAvailable() {
+        return healthy && circuitBreaker.isCallPermitted();
+    }
+}
@@ -1,14 +1,26 @@
 package com.homematch.domain.contract.controller;
 
+import com.homematch.domain.contract.ContractCheckJob;
+import com.homematch.domain.contract.dto.ContractCheckJobResponse;
 import com.homematch.domain.contract.dto.ContractCheckRequest;
+import com.homematch.domain.contract.service.ContractCheckJobService;
 import com.homematch.domain.contract.service.ContractCheckService;
 import com.homematch.domain.contract.service.ContractCheckService.ClauseCheckResult;
+import com.homematch.domain.user.User;
+import com.homematch.domain.user.UserRepository;
+import com.homematch.global.jwt.JwtTokenProvider;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Flux;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 
 @RestController
@@ -22,9 +34,35 @@ public class ContractCheckController {
     }
     
     private final ContractCheckService contractCheckService;
+    private final ContractCheckJobService contractCheckJobService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
 
-    public ContractCheckController(ContractCheckService contractCheckService) {
+    public ContractCheckController(ContractCheckService contractCheckService,
+                                   ContractCheckJobService contractCheckJobService,
+                                   JwtTokenProvider jwtTokenProvider,
+                                   UserRepository userRepository) {
         this.contractCheckService = contractCheckService;
+        this.contractCheckJobService = contractCheckJobService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+    }
+
+    // JWT 토큰에서 사용자 ID 추출 헬퍼 메서드
+    private Integer getUserIdFromToken(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            throw new IllegalArgumentException("토큰이 제공되지 않았습니다.");
+        }
+        if (!jwtTokenProvider.validateToken(token)) {
+            throw new IllegalArgumentException("토큰이 만료되었거나 유효하지 않습니다.");
+        }
+        String email = jwtTokenProvider.getEmail(token);
+        if (email == null || email.trim().isEmpty()) {
+            throw new IllegalArgumentException("토큰에서 이메일을 추출할 수 없습니다.");
+        }
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
+        return user.getUserNo();
     }
 
     /**
@@ -38,5 +76,99 @@ public class ContractCheckController {
         List<ClauseCheckResult> results = contractCheckService.checkClauses(request);
         return ResponseEntity.ok(results);
     }
-}
 
+    /**
+     * 비동기 점검: 작업 등록 후 바로 jobId 반환 (202)
+     * 결과는 GET /check/{jobId} 또는 SSE /check/{jobId}/events 로 받음 (등록한 사용자만)
+     */
+    @PostMapping("/check/jobs")
+    public ResponseEntity<?> submitCheckJob(
+            @RequestHeader("Authorization") String authHeader,
+            @Valid @RequestBody ContractCheckRequest request) {
+        Integer userNo;
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            userNo = getUserIdFromToken(token);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        }
+        try {
+            ContractCheckJob job = contractCheckJobService.submit(userNo, request);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("jobId", job.getId());
+            body.put("status", job.getStatus());
+            body.put("totalClauses", job.getTotalClauses());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(body);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        }
+    }
+
+    /** 작업 상태 + 지금까지 끝난 조항 결과 (index 순) */
+    @GetMapping("/check/{jobId}")
+    public ResponseEntity<?> getCheckJob(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable String jobId) {
+        Integer userNo;
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            userNo = getUserIdFromToken(token);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        }
+        try {
+            ContractCheckJobResponse response = contractCheckJobService.getJob(userNo, jobId);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        }
+    }
+
+    /**
+     * 조항 결과 SSE: 끝나는 순서대로 "result" 이벤트 (이미 끝난 조항부터 재전송),
+     * 모든 조항이 끝나면 작업 상태를 담은 "done" 이벤트 후 종료.
+     * EventSource는 헤더를 못 보내므로 프론트는 fetch 스트림으로 Authorization 헤더와 함께 요청
+     */
+    @GetMapping(value = "/check/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<Object>>> streamCheckJob(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable String jobId) {
+        Integer userNo;
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            userNo = getUserIdFromToken(token);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Flux<ClauseCheckResult> results;
+        try {
+            results = contractCheckJobService.results(userNo, jobId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        Flux<ServerSentEvent<Object>> sseFlux = results
+                .map(r -> ServerSentEvent.<Object>builder(r)
+                        .id(String.valueOf(r.getIndex()))
+                        .event("result")
+                        .build())
+                .concatWith(Flux.defer(() -> {
+                    ContractCheckJob job = contractCheckJobService.findJob(jobId);
+                    Map<String, Object> done = new LinkedHashMap<>();
+                    done.put("jobId", job.getId());
+                    done.put("status", job.getStatus());
+                    done.put("totalClauses", job.getTotalClauses());
+                    done.put("completedClauses", job.getCompletedClauses());
+                    done.put("errorMessage", job.getErrorMessage());
+                    return Flux.just(ServerSentEvent.<Object>builder(done).event("done").build());
+                }));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(sseFlux);
+    }
+}
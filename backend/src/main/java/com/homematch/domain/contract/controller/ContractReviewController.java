@@ -2,26 +2,28 @@ package com.homematch.domain.contract.controller;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homematch.domain.contract.dto.ContractFileDownload;
+import com.homematch.domain.contract.dto.ContractReviewAnalysisResponse;
 import com.homematch.domain.contract.dto.ContractReviewRequest;
 import com.homematch.domain.contract.dto.ContractReviewResponse;
+import com.homematch.domain.contract.dto.ContractReviewSummaryResponse;
+import com.homematch.domain.contract.service.ContractFileStorageService;
+import com.homematch.domain.contract.service.ContractReviewAnalysisService;
 import com.homematch.domain.contract.service.ContractReviewService;
 import com.homematch.domain.user.User;
 import com.homematch.domain.user.UserRepository;
 import com.homematch.global.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.List;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/contract/review")
@@ -30,13 +32,12 @@ import java.util.UUID;
 public class ContractReviewController {
 
     private final ContractReviewService contractReviewService;
+    private final ContractReviewAnalysisService contractReviewAnalysisService;
+    private final ContractFileStorageService contractFileStorageService;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
 
-    // 파일 업로드 디렉토리
-    private static final String UPLOAD_DIR = "uploads/contracts/";
-
     // JWT 토큰에서 사용자 ID 추출 헬퍼 메서드
     private Integer getUserIdFromToken(String token) {
         try {
@@ -95,20 +96,6 @@ public class ContractReviewController {
                         .body("{\"error\": \"파일이 제공되지 않았습니다.\"}");
             }
             
-            // 모든 파일 저장
-            List<String> filePaths = new java.util.ArrayList<>();
-            for (MultipartFile file : files) {
-                if (file != null && !file.isEmpty()) {
-                    String filePath = saveFile(file);
-                    filePaths.add(filePath);
-                }
-            }
-            
-            if (filePaths.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body("{\"error\": \"유효한 파일이 없습니다.\"}");
-            }
-            
             // specialTerms JSON 파싱
             ContractReviewRequest request = new ContractReviewRequest();
             try {
@@ -122,9 +109,22 @@ public class ContractReviewController {
                         .body("{\"error\": \"특약 정보 형식이 올바르지 않습니다.\"}");
             }
             
-            // DB 저장
-            ContractReviewResponse response = contractReviewService.createContractReview(
-                    userNo, filePaths, request);
+            // 모든 파일 저장 (특약 형식 확인 후, 병렬, 같은 내용의 파일은 한 번만 저장)
+            List<String> filePaths = contractFileStorageService.saveAll(files);
+            
+            if (filePaths.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body("{\"error\": \"유효한 파일이 없습니다.\"}");
+            }
+            
+            // DB 저장 (실패하면 saveAll이 확보한 파일 참조를 되돌림)
+            ContractReviewResponse response;
+            try {
+                response = contractReviewService.createContractReview(userNo, filePaths, request);
+            } catch (RuntimeException e) {
+                contractFileStorageService.releaseAll(filePaths);
+                throw e;
+            }
             
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
             
@@ -155,6 +155,23 @@ public class ContractReviewController {
         }
     }
 
+    /**
+     * 계약서 점검 목록 요약 (최신순 페이지, 파일 경로·특약 원문 없이 개수만)
+     */
+    @GetMapping("/summaries")
+    public ResponseEntity<Page<ContractReviewSummaryResponse>> getContractReviewSummaries(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            return ResponseEntity.ok(contractReviewService.getContractReviewSummaries(userNo, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
     /**
      * 특정 계약서 점검 조회
      */
@@ -175,29 +192,110 @@ public class ContractReviewController {
     }
 
     /**
-     * 파일을 서버에 저장하고 경로 반환
+     * 업로드한 계약서 파일 다운로드 (index: filePaths 순서)
+     * Range 헤더가 있으면 Spring이 Resource를 ResourceRegion으로 잘라 206 부분 응답
      */
-    private String saveFile(MultipartFile file) throws IOException {
-        // 업로드 디렉토리 생성
-        Path uploadPath = Paths.get(UPLOAD_DIR);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+    @GetMapping("/{id}/files/{index}")
+    public ResponseEntity<Resource> downloadContractFile(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long id,
+            @PathVariable int index) {
+        Integer userNo;
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            userNo = getUserIdFromToken(token);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        
-        // 고유한 파일명 생성
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        try {
+            ContractFileDownload file = contractReviewService.getFile(userNo, id, index);
+            MediaType mediaType = file.getContentType() != null
+                    ? MediaType.parseMediaType(file.getContentType())
+                    : MediaType.APPLICATION_OCTET_STREAM;
+            return ResponseEntity.ok()
+                    .contentType(mediaType)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
+                    .header("X-Content-Type-Options", "nosniff")
+                    .body(file.getResource());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
-        String uniqueFilename = UUID.randomUUID().toString() + extension;
-        
-        // 파일 저장
-        Path filePath = uploadPath.resolve(uniqueFilename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-        
-        // 상대 경로 반환 (DB에 저장)
-        return UPLOAD_DIR + uniqueFilename;
     }
-}
 
+    /**
+     * 계약서 점검 삭제 (분석 결과 포함, 업로드 파일은 다른 점검이 쓰지 않으면 삭제)
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteContractReview(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long id) {
+        Integer userNo;
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            userNo = getUserIdFromToken(token);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            contractReviewService.deleteContractReview(userNo, id);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        }
+    }
+
+    /**
+     * 특약 분석 결과 조회 (저장된 결과만, 분석하지 않음)
+     * 아직 분석하지 않았거나 원문·모델 버전이 바뀐 조항은 staleClauses, 실행 중인 분석 작업은 jobId로 알려줍니다.
+     */
+    @GetMapping("/{id}/analysis")
+    public ResponseEntity<?> getContractReviewAnalysis(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long id) {
+        Integer userNo;
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            userNo = getUserIdFromToken(token);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(contractReviewAnalysisService.getAnalysis(userNo, id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        }
+    }
+
+    /**
+     * 특약 분석 시작: 없거나 바뀐 조항만 비동기 작업으로 분석 (refresh=true면 저장된 결과와 캐시를 무시하고 전체 재분석)
+     * 작업을 등록하면 202 + jobId, 분석할 조항이 없으면 200. 결과는 /api/contract/check/{jobId}/events 로 받습니다.
+     */
+    @PostMapping("/{id}/analysis")
+    public ResponseEntity<?> startContractReviewAnalysis(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean refresh) {
+        Integer userNo;
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            userNo = getUserIdFromToken(token);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            ContractReviewAnalysisResponse response = contractReviewAnalysisService.startAnalysis(userNo, id, refresh);
+            HttpStatus status = response.getJobId() != null ? HttpStatus.ACCEPTED : HttpStatus.OK;
+            return ResponseEntity.status(status).body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        } catch (IllegalStateException e) {
+            // 작업 대기열 초과
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.homematch.domain.contract.dto;
+
+import com.homematch.domain.contract.service.ContractCheckService.ClauseCheckResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractCheckJobResponse {
+    private String jobId;
+    private String status; // PENDING, RUNNING, DONE, FAILED
+    private Integer totalClauses;
+    private Integer completedClauses;
+    private String errorMessage;
+    private List<ClauseCheckResult> results; // 지금까지 끝난 조항 (index 순)
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
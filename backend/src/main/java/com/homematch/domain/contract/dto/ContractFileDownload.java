@@ -0,0 +1,12 @@
+package com.homematch.domain.contract.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.core.io.Resource;
+
+@Getter
+@AllArgsConstructor
+public class ContractFileDownload {
+    private Resource resource;
+    private String contentType; // 알 수 없으면 null (application/octet-stream으로 응답)
+}
@@ -0,0 +1,24 @@
+package com.homematch.domain.contract.dto;
+
+import com.homematch.domain.contract.service.ContractCheckService.ClauseCheckResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractReviewAnalysisResponse {
+    private Long reviewId;
+    private String modelVersion;
+    private Integer totalClauses;
+    private List<Integer> staleClauses; // 저장된 결과가 없거나 원문·모델 버전이 바뀌었거나 실패한 조항 index (비어 있으면 분석 불필요)
+    private String jobId; // 실행 중인 분석 작업 (/api/contract/check/{jobId}/events 로 결과 수신), 없으면 null
+    private List<ClauseCheckResult> results; // 특약 순서(index)대로
+    private LocalDateTime analyzedAt; // 가장 최근 분석 시각
+}
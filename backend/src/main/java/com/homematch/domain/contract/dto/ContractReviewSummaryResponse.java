@@ -0,0 +1,20 @@
+package com.homematch.domain.contract.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** 계약서 점검 목록 요약 (JPQL 생성자 projection, JSON 컬럼 미조회) */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractReviewSummaryResponse {
+    private Long id;
+    private Integer fileCount;
+    private Integer specialTermCount;
+    private Long analyzedClauseCount; // 저장된 특약 분석 결과 수
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
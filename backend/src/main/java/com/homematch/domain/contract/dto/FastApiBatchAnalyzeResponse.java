@@ -0,0 +1,20 @@
+// src/main/java/com/homematch/domain/contract/dto/FastApiBatchAnalyzeResponse.java
+package com.homematch.domain.contract.dto;
+
+import java.util.List;
+
+public class FastApiBatchAnalyzeResponse {
+
+    // 요청한 clauses와 같은 순서의 조항별 결과
+    private List<FastApiAnalyzeResponse> results;
+
+    public FastApiBatchAnalyzeResponse() {}
+
+    public List<FastApiAnalyzeResponse> getResults() {
+        return results;
+    }
+
+    public void setResults(List<FastApiAnalyzeResponse> results) {
+        this.results = results;
+    }
+}
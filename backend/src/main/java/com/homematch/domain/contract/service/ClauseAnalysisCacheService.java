@@ -0,0 +1,209 @@
+package com.homematch.domain.contract.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homematch.domain.contract.ClauseAnalysisCache;
+import com.homematch.domain.contract.ClauseAnalysisCacheRepository;
+import com.homematch.domain.contract.dto.FastApiAnalyzeResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 특약 조항 분석 결과 캐시 (메모리 LRU + DB).
+ * - 키: SHA-256(정규화된 조항 | strict | 모델·프롬프트 버전)
+ * - 정규화: 유니코드 NFKC, 소문자, 공백·문장부호 제거 → "반려동물 금지." 와 "반려동물금지" 는 같은 키
+ * - similarity-threshold > 0 이면 키가 달라도 LRU 안에서 글자 3-gram Jaccard 유사도가 임계치 이상인 항목을 재사용
+ *   (기본 꺼짐: "임차인 부담" / "임대인 부담" 처럼 한 글자 차이로 의미가 뒤집히는 조항도 유사도는 높게 나옴)
+ * - 정상 분석(ok && !parse_error)만 저장. 프롬프트/모델을 바꾸면 model-version을 올려 이전 캐시를 무효화
+ */
+@Service
+public class ClauseAnalysisCacheService {
+
+    private static final int SHINGLE_SIZE = 3;
+
+    private final ClauseAnalysisCacheRepository clauseAnalysisCacheRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String modelVersion;
+    private final double similarityThreshold;
+    private final Map<String, Entry> lru;
+
+    public ClauseAnalysisCacheService(
+            ClauseAnalysisCacheRepository clauseAnalysisCacheRepository,
+            @Value("${contract.cache.model-version:llama-3.3-70b-versatile@v1}") String modelVersion,
+            @Value("${contract.cache.lru-size:2000}") int lruSize,
+            @Value("${contract.cache.similarity-threshold:0}") double similarityThreshold
+    ) {
+        this.clauseAnalysisCacheRepository = clauseAnalysisCacheRepository;
+        this.modelVersion = modelVersion;
+        this.similarityThreshold = similarityThreshold;
+        int capacity = Math.max(1, lruSize);
+        this.lru = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    /** 캐시된 분석 결과 조회. 없으면 empty */
+    public Optional<FastApiAnalyzeResponse> lookup(String clause, boolean strict) {
+        String normalized = normalize(clause);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        String key = cacheKey(normalized, strict);
+
+        synchronized (lru) {
+            Entry hit = lru.get(key);
+            if (hit != null) {
+                return Optional.of(hit.response);
+            }
+        }
+
+        Optional<FastApiAnalyzeResponse> stored = clauseAnalysisCacheRepository.findByCacheKey(key)
+                .map(row -> fromJson(row.getResponseJson()));
+        if (stored.isPresent()) {
+            remember(key, normalized, strict, stored.get());
+            return stored;
+        }
+
+        return findSimilar(normalized, strict);
+    }
+
+    /** 정상 분석 결과만 저장 (실패·파싱 오류는 다음 요청에서 다시 분석) */
+    public void store(String clause, boolean strict, FastApiAnalyzeResponse response) {
+        if (response == null || !response.isOk() || response.isParse_error()) {
+            return;
+        }
+        String normalized = normalize(clause);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        String key = cacheKey(normalized, strict);
+        remember(key, normalized, strict, response);
+
+        if (clauseAnalysisCacheRepository.findByCacheKey(key).isPresent()) {
+            return;
+        }
+        try {
+            clauseAnalysisCacheRepository.save(ClauseAnalysisCache.builder()
+                    .cacheKey(key)
+                    .normalizedClause(normalized)
+                    .strictMode(strict)
+                    .modelVersion(modelVersion)
+                    .responseJson(objectMapper.writeValueAsString(response))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 조항을 분석한 다른 요청이 먼저 저장한 경우
+        } catch (Exception e) {
+            System.err.println("조항 분석 캐시 저장 실패: " + e.getMessage());
+        }
+    }
+
+    private Optional<FastApiAnalyzeResponse> findSimilar(String normalized, boolean strict) {
+        if (similarityThreshold <= 0) {
+            return Optional.empty();
+        }
+        Set<String> shingles = shingles(normalized);
+        Entry best = null;
+        double bestScore = 0.0;
+        synchronized (lru) {
+            for (Entry e : lru.values()) {
+                if (e.strict != strict) continue;
+                // 길이 차이가 크면 Jaccard가 임계치를 넘을 수 없으므로 건너뜀
+                int min = Math.min(e.shingles.size(), shingles.size());
+                int max = Math.max(e.shingles.size(), shingles.size());
+                if (max == 0 || (double) min / max < similarityThreshold) continue;
+                double score = jaccard(shingles, e.shingles);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = e;
+                }
+            }
+        }
+        if (best != null && bestScore >= similarityThreshold) {
+            return Optional.of(best.response);
+        }
+        return Optional.empty();
+    }
+
+    private void remember(String key, String normalized, boolean strict, FastApiAnalyzeResponse response) {
+        Entry entry = new Entry(strict, shingles(normalized), response);
+        synchronized (lru) {
+            lru.put(key, entry);
+        }
+    }
+
+    static String normalize(String clause) {
+        if (clause == null) return "";
+        String s = Normalizer.normalize(clause, Normalizer.Form.NFKC).toLowerCase();
+        return s.replaceAll("[\\s\\p{Punct}·‧ㆍ…“”‘’「」『』]+", "");
+    }
+
+    private String cacheKey(String normalized, boolean strict) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((normalized + "|" + strict + "|" + modelVersion).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static Set<String> shingles(String normalized) {
+        Set<String> set = new HashSet<>();
+        if (normalized.length() <= SHINGLE_SIZE) {
+            set.add(normalized);
+            return set;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+            set.add(normalized.substring(i, i + SHINGLE_SIZE));
+        }
+        return set;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() && b.isEmpty()) return 1.0;
+        Set<String> smaller = a.size() <= b.size() ? a : b;
+        Set<String> larger = smaller == a ? b : a;
+        int inter = 0;
+        for (String s : smaller) {
+            if (larger.contains(s)) inter++;
+        }
+        return (double) inter / (a.size() + b.size() - inter);
+    }
+
+    private FastApiAnalyzeResponse fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, FastApiAnalyzeResponse.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static final class Entry {
+        private final boolean strict;
+        private final Set<String> shingles;
+        private final FastApiAnalyzeResponse response;
+
+        private Entry(boolean strict, Set<String> shingles, FastApiAnalyzeResponse response) {
+            this.strict = strict;
+            this.shingles = shingles;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.homematch.domain.contract.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homematch.domain.contract.ContractCheckJob;
+import com.homematch.domain.contract.ContractCheckJobRepository;
+import com.homematch.domain.contract.ContractCheckJobResult;
+import com.homematch.domain.contract.ContractCheckJobResultRepository;
+import com.homematch.domain.contract.dto.ContractCheckJobResponse;
+import com.homematch.domain.contract.dto.ContractCheckRequest;
+import com.homematch.domain.contract.dto.FastApiAnalyzeResponse;
+import com.homematch.domain.contract.service.ContractCheckService.ClauseCheckResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 특약 점검 비동기 작업.
+ * - submit: 작업 행만 만들고 바로 jobId 반환, 분석은 고정 크기 워커 풀에서 실행
+ *   (워커 수·대기열 모두 상한. 대기열이 차면 IllegalStateException → 503)
+ * - 조항 결과는 끝나는 순서대로 contract_check_job_results에 저장한 뒤 실행 중 작업의 Sink로 전달
+ * - events: 실행 중이면 Sink(replay)로 지금까지 결과 + 이후 결과, 끝난 작업이면 DB에서 재생
+ * - 조회·events는 작업을 등록한 사용자만 (다른 사용자의 작업과 없는 작업을 구분하지 않음)
+ * - 상태 저장 실패·서버 재시작으로 워커 없이 남은 PENDING/RUNNING 작업은 stale-minutes 동안 진행이 없으면 FAILED
+ *   (다른 인스턴스에서 실행 중인 작업이 있을 수 있어 시작 시 일괄 FAILED 처리하지 않고 마지막 갱신 시각으로 판단)
+ * - 계약서 점검 상세(ContractReviewAnalysisService)는 바뀐 조항만 원래 위치(clauseIndexes)로 등록하고
+ *   조항 결과마다 onResult로 자기 테이블에도 저장
+ */
+@Service
+public class ContractCheckJobService {
+
+    private final ContractCheckService contractCheckService;
+    private final ContractCheckJobRepository contractCheckJobRepository;
+    private final ContractCheckJobResultRepository contractCheckJobResultRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ThreadPoolExecutor workers;
+    private final long staleMinutes;
+    /** 실행 중 작업의 결과 스트림. 작업이 끝나면 제거 (이후 구독은 DB 재생) */
+    private final Map<String, Sinks.Many<ClauseCheckResult>> liveJobs = new ConcurrentHashMap<>();
+
+    public ContractCheckJobService(
+            ContractCheckService contractCheckService,
+            ContractCheckJobRepository contractCheckJobRepository,
+            ContractCheckJobResultRepository contractCheckJobResultRepository,
+            @Value("${contract.job.workers:4}") int workerCount,
+            @Value("${contract.job.queue-capacity:100}") int queueCapacity,
+            @Value("${contract.job.stale-minutes:30}") long staleMinutes
+    ) {
+        this.contractCheckService = contractCheckService;
+        this.contractCheckJobRepository = contractCheckJobRepository;
+        this.contractCheckJobResultRepository = contractCheckJobResultRepository;
+        this.staleMinutes = Math.max(1, staleMinutes);
+        int threads = Math.max(1, workerCount);
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "contract-job-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /** 작업 등록 후 바로 반환. 분석은 워커 풀에서 진행 */
+    public ContractCheckJob submit(Integer userNo, ContractCheckRequest request) {
+        return submit(userNo, List.copyOf(request.getClauses()), null, request.strictOrFalse(), true, null);
+    }
+
+    /**
+     * clauseIndexes: 조항별 결과 index로 쓸 원래 위치 (null이면 0부터 순서대로)
+     * useCache=false: 조항 분석 캐시를 건너뛰고 모두 다시 분석
+     * onResult: 조항 결과 저장 직후 워커 스레드에서 호출 (실패해도 작업은 계속)
+     */
+    public ContractCheckJob submit(Integer userNo, List<String> clauses, List<Integer> clauseIndexes, boolean strict,
+                                   boolean useCache, Consumer<ClauseCheckResult> onResult) {
+        if (clauseIndexes != null && clauseIndexes.size() != clauses.size()) {
+            throw new IllegalArgumentException("조항 위치 수가 조항 수와 다릅니다.");
+        }
+        List<Integer> indexes = clauseIndexes != null ? List.copyOf(clauseIndexes) : null;
+
+        ContractCheckJob job = contractCheckJobRepository.save(ContractCheckJob.builder()
+                .id(UUID.randomUUID().toString())
+                .userNo(userNo)
+                .status("PENDING")
+                .strictMode(strict)
+                .totalClauses(clauses.size())
+                .completedClauses(0)
+                .build());
+
+        liveJobs.put(job.getId(), Sinks.many().replay().all());
+        try {
+            workers.execute(() -> run(job, clauses, indexes, strict, useCache, onResult));
+        } catch (RejectedExecutionException e) {
+            contractCheckJobRepository.markFailed(job.getId(), "작업 대기열이 가득 찼습니다.");
+            closeSink(job.getId());
+            throw new IllegalStateException("특약 점검 작업이 많아 잠시 후 다시 시도해 주세요.");
+        }
+        return job;
+    }
+
+    public ContractCheckJobResponse getJob(Integer userNo, String jobId) {
+        ContractCheckJob job = findOwnedJob(userNo, jobId);
+        List<ClauseCheckResult> results = contractCheckJobResultRepository.findByJob_IdOrderByClauseIndexAsc(jobId)
+                .stream()
+                .map(this::toResult)
+                .toList();
+        return ContractCheckJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .totalClauses(job.getTotalClauses())
+                .completedClauses(job.getCompletedClauses())
+                .errorMessage(job.getErrorMessage())
+                .results(results)
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+
+    /** 조항 결과 스트림. 작업이 끝나면 complete (실행 중이면 남은 결과까지 기다림) */
+    public Flux<ClauseCheckResult> results(Integer userNo, String jobId) {
+        findOwnedJob(userNo, jobId);
+        Sinks.Many<ClauseCheckResult> sink = liveJobs.get(jobId);
+        if (sink != null) {
+            return sink.asFlux();
+        }
+        // 이미 끝난 작업: 결과가 모두 저장된 뒤 Sink를 제거하므로 DB만 읽으면 됨
+        return Flux.defer(() -> Flux.fromIterable(
+                contractCheckJobResultRepository.findByJob_IdOrderByClauseIndexAsc(jobId)))
+                .map(this::toResult);
+    }
+
+    /** 워커에서 아직 실행 중(또는 대기 중)인 작업인지 */
+    public boolean isRunning(String jobId) {
+        return jobId != null && liveJobs.containsKey(jobId);
+    }
+
+    public ContractCheckJob findJob(String jobId) {
+        return contractCheckJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("특약 점검 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    /** 등록한 사용자의 작업만 */
+    public ContractCheckJob findOwnedJob(Integer userNo, String jobId) {
+        if (userNo == null || jobId == null) {
+            throw new IllegalArgumentException("특약 점검 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return contractCheckJobRepository.findByIdAndUserNo(jobId, userNo)
+                .orElseThrow(() -> new IllegalArgumentException("특약 점검 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    /** 워커 없이 남은 작업 정리 (시작 직후 1회 + 주기적으로) */
+    @Scheduled(fixedDelayString = "${contract.job.sweep-interval-millis:60000}")
+    public void failStaleJobs() {
+        try {
+            int failed = contractCheckJobRepository.failStale(
+                    LocalDateTime.now().minusMinutes(staleMinutes), "작업이 중단되었습니다. 다시 시도해 주세요.");
+            if (failed > 0) {
+                System.err.println("진행이 멈춘 특약 점검 작업 FAILED 처리: " + failed + "건");
+            }
+        } catch (Exception e) {
+            System.err.println("특약 점검 작업 정리 실패: " + e.getMessage());
+        }
+    }
+
+    private void run(ContractCheckJob job, List<String> clauses, List<Integer> clauseIndexes, boolean strict,
+                     boolean useCache, Consumer<ClauseCheckResult> onResult) {
+        Sinks.Many<ClauseCheckResult> sink = liveJobs.get(job.getId());
+        AtomicInteger completed = new AtomicInteger();
+        try {
+            if (contractCheckJobRepository.markRunning(job.getId()) == 0) {
+                // 대기열에서 오래 기다리는 사이 정리 작업이 FAILED로 바꿈
+                return;
+            }
+
+            contractCheckService.streamClauses(clauses, strict, useCache)
+                    .map(result -> clauseIndexes == null ? result : ClauseCheckResult.of(
+                            clauseIndexes.get(result.getIndex()), result.getClause(), result.getAnalysis()))
+                    .doOnNext(result -> {
+                        saveResult(job, result);
+                        if (onResult != null) {
+                            try {
+                                onResult.accept(result);
+                            } catch (Exception e) {
+                                System.err.println("특약 점검 결과 후처리 실패 (" + job.getId() + "): " + e.getMessage());
+                            }
+                        }
+                        contractCheckJobRepository.updateProgress(job.getId(), completed.incrementAndGet());
+                        if (sink != null) {
+                            sink.tryEmitNext(result);
+                        }
+                    })
+                    .blockLast();
+
+            contractCheckJobRepository.markDone(job.getId());
+        } catch (Exception e) {
+            System.err.println("특약 점검 작업 실패 (" + job.getId() + "): " + e.getMessage());
+            try {
+                contractCheckJobRepository.markFailed(job.getId(), truncate(e.getMessage(), 500));
+            } catch (Exception ignored) {
+                // 상태 저장 실패는 로그만 남김 (조회 시 RUNNING으로 보임)
+            }
+        } finally {
+            closeSink(job.getId());
+        }
+    }
+
+    private void saveResult(ContractCheckJob job, ClauseCheckResult result) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(result.getAnalysis());
+        } catch (Exception e) {
+            json = null;
+        }
+        contractCheckJobResultRepository.save(ContractCheckJobResult.builder()
+                .job(job)
+                .clauseIndex(result.getIndex())
+                .clause(result.getClause())
+                .analysisJson(json)
+                .build());
+    }
+
+    private static String truncate(String text, int length) {
+        return text != null && text.length() > length ? text.substring(0, length) : text;
+    }
+
+    private void closeSink(String jobId) {
+        Sinks.Many<ClauseCheckResult> sink = liveJobs.remove(jobId);
+        if (sink != null) {
+            sink.tryEmitComplete();
+        }
+    }
+
+    private ClauseCheckResult toResult(ContractCheckJobResult row) {
+        FastApiAnalyzeResponse analysis = null;
+        if (row.getAnalysisJson() != null) {
+            try {
+                analysis = objectMapper.readValue(row.getAnalysisJson(), FastApiAnalyzeResponse.class);
+            } catch (Exception e) {
+                System.err.println("특약 점검 결과 역직렬화 실패: " + e.getMessage());
+            }
+        }
+        return ClauseCheckResult.of(row.getClauseIndex(), row.getClause(), analysis);
+    }
+}
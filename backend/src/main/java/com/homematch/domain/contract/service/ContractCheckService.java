@@ -3,55 +3,193 @@ package com.homematch.domain.contract.service;
 import com.homematch.domain.contract.client.FastApiClient;
 import com.homematch.domain.contract.dto.ContractCheckRequest;
 import com.homematch.domain.contract.dto.FastApiAnalyzeResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class ContractCheckService {
 
-    private final FastApiClient fastApiClient;
+    /** 전역 대기 작업 상한 (초과 시 해당 조항은 에러 응답) */
+    private static final int GLOBAL_QUEUE_CAPACITY = 1000;
 
-    public ContractCheckService(FastApiClient fastApiClient) {
+    private final FastApiClient fastApiClient;
+    private final ClauseAnalysisCacheService clauseAnalysisCacheService;
+    private final int maxConcurrentPerRequest;
+    private final int batchSize;
+    /** FastAPI 호출(블로킹) 전용 스레드풀. 스레드 수 = 전체 요청 합산 동시 호출 상한 */
+    private final Scheduler analyzeScheduler;
+
+    public ContractCheckService(
+            FastApiClient fastApiClient,
+            ClauseAnalysisCacheService clauseAnalysisCacheService,
+            @Value("${contract.check.max-concurrent-per-request:4}") int maxConcurrentPerRequest,
+            @Value("${contract.check.max-concurrent-global:16}") int maxConcurrentGlobal,
+            @Value("${contract.check.batch-size:8}") int batchSize
+    ) {
         this.fastApiClient = fastApiClient;
+        this.clauseAnalysisCacheService = clauseAnalysisCacheService;
+        this.maxConcurrentPerRequest = Math.max(1, maxConcurrentPerRequest);
+        this.batchSize = batchSize;
+        this.analyzeScheduler = Schedulers.newBoundedElastic(
+                Math.max(1, maxConcurrentGlobal), GLOBAL_QUEUE_CAPACITY, "contract-check");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        analyzeScheduler.dispose();
     }
 
     /**
-     * 계약서 특약사항 점검
-     * - clauses를 순차 처리
-     * - FastAPI는 단건 분석만 가능하므로 clause별 호출
+     * 계약서 특약사항 점검 (동기). 결과는 입력 순서(index) 유지
      */
     public List<ClauseCheckResult> checkClauses(ContractCheckRequest request) {
-        List<ClauseCheckResult> results = new ArrayList<>();
+        List<String> clauses = request.getClauses();
+        ClauseCheckResult[] results = new ClauseCheckResult[clauses.size()];
+        List<ClauseCheckResult> done = streamClauses(clauses, request.strictOrFalse()).collectList().block();
+        if (done != null) {
+            for (ClauseCheckResult r : done) {
+                results[r.getIndex()] = r;
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 조항별 결과를 끝나는 순서대로 흘려보냄 (비동기 작업·SSE용)
+     * - 캐시(ClauseAnalysisCacheService)에 있는 조항은 바로 반환, 나머지만 FastAPI로 분석
+     * - batchSize개씩 묶어 FastAPI /analyze/batch 한 번으로 분석 (batchSize <= 1이면 조항별 /analyze)
+     * - 묶음(또는 조항)은 요청당 maxConcurrentPerRequest개씩 병렬 호출
+     * - 조항별로 실패를 격리 (한 조항 실패가 나머지 결과에 영향 없음, 배치 실패는 그 묶음만 에러)
+     */
+    public Flux<ClauseCheckResult> streamClauses(List<String> clauses, boolean strict) {
+        return streamClauses(clauses, strict, true);
+    }
+
+    /** useCache=false: 캐시 조회를 건너뛰고 모두 FastAPI로 다시 분석 (사용자 재분석 요청용) */
+    public Flux<ClauseCheckResult> streamClauses(List<String> clauses, boolean strict, boolean useCache) {
+        return Flux.defer(() -> {
+            List<ClauseCheckResult> hits = new ArrayList<>();
+            List<Integer> misses = new ArrayList<>();
+            for (int i = 0; i < clauses.size(); i++) {
+                Optional<FastApiAnalyzeResponse> cached = useCache
+                        ? lookupCache(clauses.get(i), strict) : Optional.empty();
+                if (cached.isPresent()) {
+                    hits.add(ClauseCheckResult.of(i, clauses.get(i), cached.get()));
+                } else {
+                    misses.add(i);
+                }
+            }
+
+            Flux<ClauseCheckResult> analyzed;
+            if (misses.isEmpty()) {
+                analyzed = Flux.empty();
+            } else if (batchSize <= 1) {
+                analyzed = checkEach(clauses, misses, strict);
+            } else {
+                int batches = (misses.size() + batchSize - 1) / batchSize;
+                analyzed = Flux.range(0, batches)
+                        .flatMap(b -> {
+                            int from = b * batchSize;
+                            int to = Math.min(misses.size(), from + batchSize);
+                            return checkBatch(clauses, misses.subList(from, to), strict);
+                        }, maxConcurrentPerRequest);
+            }
 
-        boolean strict = request.strictOrFalse();
+            return Flux.fromIterable(hits)
+                    .concatWith(analyzed.doOnNext(r -> storeCache(r.getClause(), strict, r.getAnalysis())));
+        });
+    }
 
-        int index = 0;
-        for (String clause : request.getClauses()) {
-            FastApiAnalyzeResponse response;
+    private Flux<ClauseCheckResult> checkBatch(List<String> clauses, List<Integer> indices, boolean strict) {
+        List<String> batch = indices.stream().map(clauses::get).toList();
+        return Mono.fromCallable(() -> fastApiClient.analyzeClauses(batch, strict))
+                .subscribeOn(analyzeScheduler)
+                .flatMapMany(responses -> Flux.range(0, batch.size())
+                        .map(i -> ClauseCheckResult.of(indices.get(i), batch.get(i), responses.get(i))))
+                .onErrorResume(e -> {
+                    // 배치 엔드포인트가 없는 구버전 FastAPI(404/405)만 조항별 호출로 대체
+                    if (isBatchUnsupported(e)) {
+                        System.err.println("FastAPI 배치 엔드포인트 없음, 조항별 분석으로 대체: " + e.getMessage());
+                        return checkEach(clauses, indices, strict);
+                    }
+                    // 그 외 실패(타임아웃·5xx·서킷 OPEN 등)는 조항별로 다시 보내 부하를 키우지 않고 묶음 전체를 에러 처리
+                    System.err.println("FastAPI 배치 분석 실패: " + e.getMessage());
+                    return Flux.range(0, batch.size())
+                            .map(i -> ClauseCheckResult.of(indices.get(i), batch.get(i), buildErrorResponse(e)));
+                });
+    }
 
-            try {
-                response = fastApiClient.analyzeClause(clause, strict);
-            } catch (Exception e) {
-                // FastAPI 호출 자체가 실패한 경우
-                response = buildErrorResponse(e);
+    /** FastApiClient가 감싼 예외까지 따라가 404/405 응답인지 확인 */
+    private boolean isBatchUnsupported(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof WebClientResponseException response) {
+                int status = response.getStatusCode().value();
+                return status == 404 || status == 405;
+            }
+            if (t.getCause() == t) {
+                break;
             }
+        }
+        return false;
+    }
+
+    private Flux<ClauseCheckResult> checkEach(List<String> clauses, List<Integer> indices, boolean strict) {
+        return Flux.fromIterable(indices)
+                .flatMap(index -> Mono.fromCallable(() -> checkClause(index, clauses.get(index), strict))
+                                .subscribeOn(analyzeScheduler)
+                                // 전역 대기열 초과 등 스케줄링 실패도 해당 조항만 에러 처리
+                                .onErrorResume(e -> Mono.just(ClauseCheckResult.of(
+                                        index, clauses.get(index), buildErrorResponse(e)))),
+                        maxConcurrentPerRequest);
+    }
 
-            ClauseCheckResult result = ClauseCheckResult.of(
-                    index,
-                    clause,
-                    response
-            );
+    private ClauseCheckResult checkClause(int index, String clause, boolean strict) {
+        FastApiAnalyzeResponse response;
 
-            results.add(result);
-            index++;
+        try {
+            response = fastApiClient.analyzeClause(clause, strict);
+        } catch (Exception e) {
+            // FastAPI 호출 자체가 실패한 경우
+            response = buildErrorResponse(e);
         }
 
-        return results;
+        return ClauseCheckResult.of(
+                index,
+                clause,
+                response
+        );
+    }
+
+    /** 캐시 장애(DB 등)는 분석을 막지 않도록 miss로 처리 */
+    private Optional<FastApiAnalyzeResponse> lookupCache(String clause, boolean strict) {
+        try {
+            return clauseAnalysisCacheService.lookup(clause, strict);
+        } catch (Exception e) {
+            System.err.println("조항 분석 캐시 조회 실패: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void storeCache(String clause, boolean strict, FastApiAnalyzeResponse response) {
+        try {
+            clauseAnalysisCacheService.store(clause, strict, response);
+        } catch (Exception e) {
+            System.err.println("조항 분석 캐시 저장 실패: " + e.getMessage());
+        }
     }
 
-    private FastApiAnalyzeResponse buildErrorResponse(Exception e) {
+    private FastApiAnalyzeResponse buildErrorResponse(Throwable e) {
         FastApiAnalyzeResponse error = new FastApiAnalyzeResponse();
         error.setOk(false);
         error.setParse_error(true);
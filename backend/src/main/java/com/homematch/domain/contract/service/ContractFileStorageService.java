@@ -0,0 +1,172 @@
+package com.homematch.domain.contract.service;
+
+import com.homematch.global.storage.BlobStore;
+import com.homematch.global.storage.ContentTypes;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 계약서 업로드 파일 저장 (BlobStore).
+ * - 크기 제한은 파일을 건드리기 전에 검사 (요청 전체·파일당 상한은 spring.servlet.multipart에서 파싱 중에 먼저 차단)
+ * - 톰캣이 디스크에 받아 둔 파트를 transferTo(File)로 BlobStore 스테이징 경로에 이동 (같은 파일시스템이면 rename, 재기록 없음)
+ *   이동이 안 되는 경우에만 스트림을 스테이징 경로에 복사
+ * - 형식은 매직 넘버로 판별해 PDF·JPEG·PNG만 저장 (클라이언트가 보낸 Content-Type은 저장하지 않음)
+ * - BlobStore가 SHA-256 기준으로 저장하므로 같은 파일은 한 번만 저장되고 참조 수만 늘어남
+ * - 여러 파일은 고정 크기 풀에서 병렬 처리
+ * - saveAll이 확보한 참조는 레코드가 가져감. 레코드 생성 실패·점검 삭제 시 releaseAll로 되돌림
+ */
+@Service
+public class ContractFileStorageService {
+
+    /** 계약서로 받는 형식 */
+    public static final Set<String> ALLOWED_TYPES = Set.of(ContentTypes.PDF, ContentTypes.JPEG, ContentTypes.PNG);
+
+    private final BlobStore blobStore;
+    private final long maxFileSizeBytes;
+    private final ExecutorService uploadExecutor;
+
+    public ContractFileStorageService(
+            BlobStore blobStore,
+            @Value("${contract.upload.max-file-size:20MB}") DataSize maxFileSize,
+            @Value("${contract.upload.parallelism:4}") int parallelism
+    ) {
+        this.blobStore = blobStore;
+        this.maxFileSizeBytes = maxFileSize.toBytes();
+        this.uploadExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+            Thread t = new Thread(r, "contract-upload");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdownNow();
+    }
+
+    /**
+     * 파일들을 병렬로 저장하고 입력 순서대로 BlobStore 참조("blob:" + sha256, DB 저장용) 반환. 빈 파일은 건너뜀
+     */
+    public List<String> saveAll(List<MultipartFile> files) throws IOException {
+        List<MultipartFile> valid = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) continue;
+            // 디스크 I/O 전에 크기부터 확인
+            if (file.getSize() > maxFileSizeBytes) {
+                throw new IllegalArgumentException("파일 크기가 너무 큽니다: " + file.getOriginalFilename()
+                        + " (최대 " + DataSize.ofBytes(maxFileSizeBytes).toMegabytes() + "MB)");
+            }
+            valid.add(file);
+        }
+        if (valid.isEmpty()) {
+            return List.of();
+        }
+
+        List<CompletableFuture<String>> futures = valid.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return BlobStore.toRef(save(file));
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, uploadExecutor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // 일부 파일만 저장된 경우 참조를 되돌림 (레코드가 만들어지지 않으므로)
+            for (CompletableFuture<String> f : futures) {
+                if (!f.isCompletedExceptionally()) {
+                    blobStore.release(BlobStore.hashOf(f.join()));
+                }
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause);
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 레코드가 더 이상 쓰지 않는 파일 참조 해제 (BlobStore 참조만, 이전 방식 경로는 건너뜀).
+     * 트랜잭션 안이면 커밋 후에 해제 (롤백 시 파일 유지)
+     */
+    public void releaseAll(List<String> refs) {
+        if (refs == null) {
+            return;
+        }
+        List<String> hashes = refs.stream()
+                .filter(ref -> ref != null && BlobStore.isRef(ref))
+                .map(BlobStore::hashOf)
+                .toList();
+        if (hashes.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // 커밋 콜백 안에서는 같은 트랜잭션 자원이 묶여 있어 별도 스레드에서 해제
+                    uploadExecutor.execute(() -> safeRelease(hashes));
+                }
+            });
+        } else {
+            safeRelease(hashes);
+        }
+    }
+
+    private void safeRelease(List<String> hashes) {
+        for (String hash : hashes) {
+            try {
+                blobStore.release(hash);
+            } catch (Exception e) {
+                System.err.println("계약서 파일 참조 해제 실패 (" + hash + "): " + e.getMessage());
+            }
+        }
+    }
+
+    private String save(MultipartFile file) throws IOException {
+        Path staged = blobStore.newStagingPath();
+        try {
+            try {
+                // 톰캣 파트 이동 (같은 파일시스템이면 rename). 해시는 BlobStore가 이동된 파일을 한 번 읽어서 계산
+                file.transferTo(staged.toFile());
+            } catch (IllegalStateException | IOException moveFailed) {
+                // 메모리에 있던 파트 등 이동 불가: 스테이징 경로에 복사
+                Files.deleteIfExists(staged);
+                try (InputStream in = file.getInputStream()) {
+                    Files.copy(in, staged);
+                }
+            }
+            // 형식은 파일 앞부분으로 판별 (클라이언트 Content-Type은 믿지 않음)
+            String contentType = ContentTypes.detect(staged);
+            if (!ALLOWED_TYPES.contains(contentType)) {
+                throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + file.getOriginalFilename()
+                        + " (PDF, JPEG, PNG)");
+            }
+            return blobStore.put(staged, contentType);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+    }
+}
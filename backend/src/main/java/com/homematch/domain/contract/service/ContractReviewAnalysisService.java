@@ -0,0 +1,225 @@
+package com.homematch.domain.contract.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homematch.domain.contract.ContractCheckJob;
+import com.homematch.domain.contract.ContractReview;
+import com.homematch.domain.contract.ContractReviewAnalysis;
+import com.homematch.domain.contract.ContractReviewAnalysisRepository;
+import com.homematch.domain.contract.ContractReviewRepository;
+import com.homematch.domain.contract.dto.ContractReviewAnalysisResponse;
+import com.homematch.domain.contract.dto.FastApiAnalyzeResponse;
+import com.homematch.domain.contract.service.ContractCheckService.ClauseCheckResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계약서 점검 분석 결과 저장·조회.
+ * - 조회(GET)는 저장된 결과만 반환하고 FastAPI를 호출하지 않음. 없거나 바뀐 조항(원문·모델 버전·실패)은 staleClauses로 표시
+ * - 분석 시작(POST)은 그 조항만(refresh=true면 캐시까지 건너뛰고 전체) 비동기 점검 작업으로 등록하고 바로 jobId 반환
+ *   → 결과는 /api/contract/check/{jobId}/events (SSE)로 받고, 조항이 끝날 때마다 이 점검의 분석 결과로 저장
+ * - 같은 점검의 작업이 실행 중이면 새로 만들지 않고 그 작업을 알려줌
+ */
+@Service
+@RequiredArgsConstructor
+public class ContractReviewAnalysisService {
+
+    private static final boolean STRICT = false; // 상세 화면은 기본 모드로만 분석
+
+    private final ContractReviewRepository contractReviewRepository;
+    private final ContractReviewAnalysisRepository contractReviewAnalysisRepository;
+    private final ContractCheckJobService contractCheckJobService;
+    private final ClauseAnalysisCacheService clauseAnalysisCacheService;
+    private final ObjectMapper objectMapper;
+    /** 점검 ID → 실행 중인 분석 작업 ID */
+    private final Map<Long, String> runningJobs = new ConcurrentHashMap<>();
+
+    /** 저장된 결과만 조회 (분석하지 않음) */
+    public ContractReviewAnalysisResponse getAnalysis(Integer userNo, Long reviewId) {
+        ContractReview review = findReview(userNo, reviewId);
+        List<String> clauses = cleanClauses(review.getSpecialTerms());
+        if (clauses.isEmpty()) {
+            throw new IllegalArgumentException("분석할 특약사항이 없습니다.");
+        }
+        return toResponse(reviewId, clauses, loadStored(reviewId, clauses, null), false, runningJob(reviewId));
+    }
+
+    /**
+     * 없거나 바뀐 조항 분석 시작 (refresh=true면 전체 재분석). 분석할 조항이 없으면 jobId 없이 반환.
+     * 대기열이 가득 차면 IllegalStateException
+     */
+    public ContractReviewAnalysisResponse startAnalysis(Integer userNo, Long reviewId, boolean refresh) {
+        ContractReview review = findReview(userNo, reviewId);
+        List<String> clauses = cleanClauses(review.getSpecialTerms());
+        if (clauses.isEmpty()) {
+            throw new IllegalArgumentException("분석할 특약사항이 없습니다.");
+        }
+        String modelVersion = clauseAnalysisCacheService.getModelVersion();
+
+        synchronized (runningJobs) {
+            String running = runningJob(reviewId);
+            List<ContractReviewAnalysis> removed = new ArrayList<>();
+            Map<Integer, ContractReviewAnalysis> stored = loadStored(reviewId, clauses, removed);
+            if (running != null) {
+                return toResponse(reviewId, clauses, stored, refresh, running);
+            }
+            if (!removed.isEmpty()) {
+                // 특약이 줄어든 경우 남은 결과 정리
+                contractReviewAnalysisRepository.deleteAll(removed);
+            }
+
+            List<Integer> targets = staleIndexes(clauses, stored, modelVersion, refresh);
+            if (targets.isEmpty()) {
+                return toResponse(reviewId, clauses, stored, false, null);
+            }
+            ContractCheckJob job = contractCheckJobService.submit(userNo,
+                    targets.stream().map(clauses::get).toList(), targets, STRICT, !refresh,
+                    result -> saveResult(review, modelVersion, result));
+            runningJobs.put(reviewId, job.getId());
+            return toResponse(reviewId, clauses, stored, refresh, job.getId());
+        }
+    }
+
+    private ContractReview findReview(Integer userNo, Long reviewId) {
+        return contractReviewRepository.findByUserNoAndId(userNo, reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("계약서 점검을 찾을 수 없습니다."));
+    }
+
+    /** 현재 특약 수 안의 저장 결과 (index → 행). 범위를 벗어난 행은 removed에 담음 */
+    private Map<Integer, ContractReviewAnalysis> loadStored(Long reviewId, List<String> clauses,
+                                                            List<ContractReviewAnalysis> removed) {
+        Map<Integer, ContractReviewAnalysis> stored = new HashMap<>();
+        for (ContractReviewAnalysis row : contractReviewAnalysisRepository.findByContractReview_IdOrderByClauseIndexAsc(reviewId)) {
+            if (row.getClauseIndex() < clauses.size()) {
+                stored.put(row.getClauseIndex(), row);
+            } else if (removed != null) {
+                removed.add(row);
+            }
+        }
+        return stored;
+    }
+
+    private List<Integer> staleIndexes(List<String> clauses, Map<Integer, ContractReviewAnalysis> stored,
+                                       String modelVersion, boolean refresh) {
+        List<Integer> stale = new ArrayList<>();
+        for (int i = 0; i < clauses.size(); i++) {
+            ContractReviewAnalysis row = stored.get(i);
+            if (refresh || row == null || !row.isReusable(clauses.get(i), STRICT, modelVersion)) {
+                stale.add(i);
+            }
+        }
+        return stale;
+    }
+
+    /** 작업이 끝났으면 null (끝난 작업은 목록에서 제거) */
+    private String runningJob(Long reviewId) {
+        String jobId = runningJobs.get(reviewId);
+        if (jobId != null && !contractCheckJobService.isRunning(jobId)) {
+            runningJobs.remove(reviewId, jobId);
+            return null;
+        }
+        return jobId;
+    }
+
+    /** 작업 워커에서 조항 결과가 나올 때마다 저장 */
+    private void saveResult(ContractReview review, String modelVersion, ClauseCheckResult result) {
+        ContractReviewAnalysis row = contractReviewAnalysisRepository
+                .findByContractReview_IdAndClauseIndex(review.getId(), result.getIndex())
+                .orElseGet(() -> ContractReviewAnalysis.builder()
+                        .contractReview(review)
+                        .clauseIndex(result.getIndex())
+                        .build());
+        apply(row, result.getClause(), modelVersion, result.getAnalysis());
+        try {
+            contractReviewAnalysisRepository.save(row);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 조항을 다른 인스턴스가 먼저 저장한 경우: 다음 조회 때 다시 판단
+            System.err.println("계약서 점검 분석 결과 저장 충돌 (reviewId=" + review.getId() + "): " + e.getMessage());
+        }
+    }
+
+    /** 원문이 지금 특약과 같은 저장 결과만 응답 (실패 결과 포함), 나머지는 staleClauses */
+    private ContractReviewAnalysisResponse toResponse(Long reviewId, List<String> clauses,
+                                                      Map<Integer, ContractReviewAnalysis> stored,
+                                                      boolean refresh, String jobId) {
+        String modelVersion = clauseAnalysisCacheService.getModelVersion();
+        List<ClauseCheckResult> results = new ArrayList<>();
+        LocalDateTime analyzedAt = null;
+        for (int i = 0; i < clauses.size(); i++) {
+            ContractReviewAnalysis row = stored.get(i);
+            if (row == null || !row.getClause().equals(clauses.get(i))) continue;
+            results.add(ClauseCheckResult.of(i, row.getClause(), toAnalysis(row)));
+            LocalDateTime at = row.getUpdatedAt();
+            if (at != null && (analyzedAt == null || at.isAfter(analyzedAt))) {
+                analyzedAt = at;
+            }
+        }
+
+        return ContractReviewAnalysisResponse.builder()
+                .reviewId(reviewId)
+                .modelVersion(modelVersion)
+                .totalClauses(clauses.size())
+                .staleClauses(staleIndexes(clauses, stored, modelVersion, refresh))
+                .jobId(jobId)
+                .results(results)
+                .analyzedAt(analyzedAt)
+                .build();
+    }
+
+    /** ContractReviewDetailPage와 같은 기준으로 특약 목록 정리 (trim 후 빈 항목 제외) */
+    private List<String> cleanClauses(List<String> specialTerms) {
+        if (specialTerms == null) {
+            return List.of();
+        }
+        return specialTerms.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(t -> !t.isEmpty())
+                .toList();
+    }
+
+    private void apply(ContractReviewAnalysis row, String clause, String modelVersion, FastApiAnalyzeResponse analysis) {
+        JsonNode answer = analysis != null ? analysis.getAnswer_json() : null;
+        String conclusion = answer != null && answer.hasNonNull("conclusion") ? answer.get("conclusion").asText() : null;
+        String errorMessage = analysis != null ? analysis.getError_message() : "분석 결과가 없습니다.";
+        if (errorMessage != null && errorMessage.length() > 500) {
+            errorMessage = errorMessage.substring(0, 500);
+        }
+        row.update(
+                clause,
+                STRICT,
+                modelVersion,
+                analysis != null && analysis.isOk(),
+                analysis == null || analysis.isParse_error(),
+                conclusion,
+                answer != null ? answer.toString() : null,
+                analysis != null ? analysis.getAnswer_raw() : null,
+                errorMessage
+        );
+    }
+
+    private FastApiAnalyzeResponse toAnalysis(ContractReviewAnalysis row) {
+        FastApiAnalyzeResponse analysis = new FastApiAnalyzeResponse();
+        analysis.setOk(Boolean.TRUE.equals(row.getOk()));
+        analysis.setParse_error(Boolean.TRUE.equals(row.getParseError()));
+        analysis.setAnswer_raw(row.getAnswerRaw());
+        analysis.setError_message(row.getErrorMessage());
+        if (row.getAnswerJson() != null) {
+            try {
+                analysis.setAnswer_json(objectMapper.readTree(row.getAnswerJson()));
+            } catch (Exception e) {
+                analysis.setParse_error(true);
+            }
+        }
+        return analysis;
+    }
+}
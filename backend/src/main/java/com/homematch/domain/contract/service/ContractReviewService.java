@@ -1,17 +1,26 @@
 package com.homematch.domain.contract.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.homematch.domain.contract.ContractReview;
+import com.homematch.domain.contract.ContractReviewAnalysisRepository;
 import com.homematch.domain.contract.ContractReviewRepository;
+import com.homematch.domain.contract.dto.ContractFileDownload;
 import com.homematch.domain.contract.dto.ContractReviewRequest;
 import com.homematch.domain.contract.dto.ContractReviewResponse;
+import com.homematch.domain.contract.dto.ContractReviewSummaryResponse;
 import com.homematch.domain.user.User;
 import com.homematch.domain.user.UserRepository;
+import com.homematch.global.storage.BlobStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,8 +29,15 @@ import java.util.stream.Collectors;
 public class ContractReviewService {
 
     private final ContractReviewRepository contractReviewRepository;
+    private final ContractReviewAnalysisRepository contractReviewAnalysisRepository;
     private final UserRepository userRepository;
-    private final ObjectMapper objectMapper;
+    private final BlobStore blobStore;
+    private final ContractFileStorageService contractFileStorageService;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // BlobStore 도입 전 업로드 파일 위치 (기존 레코드의 file_path)
+    private static final String LEGACY_UPLOAD_DIR = "uploads/contracts/";
 
     @Transactional
     public ContractReviewResponse createContractReview(
@@ -32,26 +48,10 @@ public class ContractReviewService {
         User user = userRepository.findByUserNo(userNo)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // filePaths를 JSON 문자열로 변환
-        String filePathsJson;
-        try {
-            filePathsJson = objectMapper.writeValueAsString(filePaths);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("파일 경로를 저장할 수 없습니다.", e);
-        }
-
-        // specialTerms를 JSON 문자열로 변환
-        String specialTermsJson;
-        try {
-            specialTermsJson = objectMapper.writeValueAsString(request.getSpecialTerms());
-        } catch (Exception e) {
-            throw new IllegalArgumentException("특약 정보를 저장할 수 없습니다.", e);
-        }
-
         ContractReview contractReview = ContractReview.builder()
                 .user(user)
-                .filePaths(filePathsJson)
-                .specialTerms(specialTermsJson)
+                .filePaths(filePaths)
+                .specialTerms(request.getSpecialTerms() != null ? request.getSpecialTerms() : List.of())
                 .build();
 
         ContractReview saved = contractReviewRepository.save(contractReview);
@@ -65,50 +65,79 @@ public class ContractReviewService {
                 .collect(Collectors.toList());
     }
 
+    /** 목록 화면용 요약 (JSON 컬럼 없이 개수만, 최신순 페이지) */
+    public Page<ContractReviewSummaryResponse> getContractReviewSummaries(Integer userNo, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return contractReviewRepository.findSummariesByUserNo(userNo, PageRequest.of(Math.max(0, page), pageSize));
+    }
+
     public ContractReviewResponse getContractReview(Integer userNo, Long id) {
         ContractReview review = contractReviewRepository.findByUserNoAndId(userNo, id)
                 .orElseThrow(() -> new IllegalArgumentException("계약서 점검을 찾을 수 없습니다."));
         return toResponse(review);
     }
 
-    private ContractReviewResponse toResponse(ContractReview review) {
-        // filePaths JSON 문자열을 List<String>으로 변환
-        List<String> filePaths;
-        try {
-            if (review.getFilePaths() != null && !review.getFilePaths().isEmpty()) {
-                filePaths = objectMapper.readValue(
-                        review.getFilePaths(),
-                        new TypeReference<List<String>>() {}
-                );
-            } else {
-                filePaths = List.of();
-            }
-        } catch (Exception e) {
-            filePaths = List.of();
+    /** 계약서 점검 삭제. 분석 결과도 함께 지우고, 업로드 파일 참조는 커밋 후 해제 */
+    @Transactional
+    public void deleteContractReview(Integer userNo, Long id) {
+        ContractReview review = contractReviewRepository.findByUserNoAndId(userNo, id)
+                .orElseThrow(() -> new IllegalArgumentException("계약서 점검을 찾을 수 없습니다."));
+        List<String> filePaths = review.getFilePaths();
+
+        contractReviewAnalysisRepository.deleteAll(
+                contractReviewAnalysisRepository.findByContractReview_IdOrderByClauseIndexAsc(id));
+        contractReviewRepository.delete(review);
+        contractFileStorageService.releaseAll(filePaths);
+    }
+
+    /**
+     * 업로드한 계약서 파일 조회 (index: filePaths 순서)
+     * BlobStore 참조("blob:...")와 이전 방식의 상대 경로 모두 지원
+     */
+    public ContractFileDownload getFile(Integer userNo, Long id, int index) {
+        ContractReview review = contractReviewRepository.findByUserNoAndId(userNo, id)
+                .orElseThrow(() -> new IllegalArgumentException("계약서 점검을 찾을 수 없습니다."));
+        List<String> filePaths = review.getFilePaths();
+        if (index < 0 || index >= filePaths.size()) {
+            throw new IllegalArgumentException("파일을 찾을 수 없습니다.");
+        }
+
+        String filePath = filePaths.get(index);
+        if (BlobStore.isRef(filePath)) {
+            String hash = BlobStore.hashOf(filePath);
+            Resource resource = blobStore.get(hash)
+                    .orElseThrow(() -> new IllegalArgumentException("파일을 찾을 수 없습니다."));
+            // 이전에 클라이언트 Content-Type 그대로 저장된 파일은 허용 형식이 아니면 내려받기 형식으로
+            String contentType = blobStore.contentType(hash)
+                    .filter(ContractFileStorageService.ALLOWED_TYPES::contains)
+                    .orElse(null);
+            return new ContractFileDownload(resource, contentType);
         }
 
-        // specialTerms JSON 문자열을 List<String>으로 변환
-        List<String> specialTerms;
-        try {
-            if (review.getSpecialTerms() != null && !review.getSpecialTerms().isEmpty()) {
-                specialTerms = objectMapper.readValue(
-                        review.getSpecialTerms(),
-                        new TypeReference<List<String>>() {}
-                );
-            } else {
-                specialTerms = List.of();
-            }
-        } catch (Exception e) {
-            specialTerms = List.of();
+        // 업로드 디렉토리 밖 경로는 거부
+        Path base = Paths.get(LEGACY_UPLOAD_DIR).toAbsolutePath().normalize();
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        if (!path.startsWith(base)) {
+            throw new IllegalArgumentException("파일을 찾을 수 없습니다.");
+        }
+        Resource resource = new FileSystemResource(path);
+        if (!resource.exists()) {
+            throw new IllegalArgumentException("파일을 찾을 수 없습니다.");
         }
+        String contentType = MediaTypeFactory.getMediaType(resource).map(Object::toString)
+                .filter(ContractFileStorageService.ALLOWED_TYPES::contains)
+                .orElse(null);
+        return new ContractFileDownload(resource, contentType);
+    }
 
+    private ContractReviewResponse toResponse(ContractReview review) {
+        // filePaths / specialTerms는 엔티티 로딩 시 StringListJsonConverter가 변환
         return ContractReviewResponse.builder()
                 .id(review.getId())
-                .filePaths(filePaths)
-                .specialTerms(specialTerms)
+                .filePaths(review.getFilePaths())
+                .specialTerms(review.getSpecialTerms())
                 .createdAt(review.getCreatedAt())
                 .updatedAt(review.getUpdatedAt())
                 .build();
     }
 }
-
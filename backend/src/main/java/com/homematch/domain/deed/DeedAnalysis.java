@@ -0,0 +1,69 @@
+package com.homematch.domain.deed;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 등기부등본 분석 결과 캐시 (파일 내용 SHA-256 + OCR 옵션 기준).
+ * 같은 파일을 같은 옵션으로 다시 올리면 OCR·위험 분석 없이 저장된 응답을 반환 (사용자별 조회 권한은 DeedAnalysisLink)
+ */
+@Entity
+@Table(name = "deed_analyses",
+        uniqueConstraints = @UniqueConstraint(name = "uk_deed_content_options",
+                columnNames = {"content_hash", "preprocess", "use_llm_correction"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DeedAnalysis {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 내부용 (프론트에는 DeedAnalysisLink.publicId를 내려줌)
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // 원본 파일 SHA-256 (BlobStore 키와 동일)
+
+    @Column(name = "preprocess", nullable = false, length = 20)
+    private String preprocess; // OCR 전처리 옵션 (재업로드 때도 같은 값 사용)
+
+    @Column(name = "use_llm_correction", nullable = false)
+    private Boolean useLlmCorrection; // LLM 보정 여부 (재업로드 때도 같은 값 사용)
+
+    @Column(name = "register_document_id")
+    private Integer registerDocumentId; // core/register 서비스의 document_id (재시작 시 사라질 수 있음)
+
+    @Column(name = "upload_json", nullable = false, columnDefinition = "LONGTEXT")
+    private String uploadJson; // /upload 응답 (OCR 텍스트, 파싱 결과, 미리보기 이미지)
+
+    @Column(name = "risk_json", columnDefinition = "LONGTEXT")
+    private String riskJson; // /documents/{id}/risk-analysis 응답
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /** register 서비스가 재시작되어 문서를 다시 올린 경우 */
+    public void relink(Integer registerDocumentId) {
+        this.registerDocumentId = registerDocumentId;
+    }
+
+    public void updateRisk(String riskJson) {
+        this.riskJson = riskJson;
+    }
+}
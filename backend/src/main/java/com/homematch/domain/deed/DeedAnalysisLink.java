@@ -0,0 +1,43 @@
+package com.homematch.domain.deed;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 등기부등본 분석 연결.
+ * 분석 결과(deed_analyses)는 같은 파일이면 사용자 간에 공유하지만, 조회는 업로드한 사용자의 연결로만 가능.
+ * 프론트에는 순번 ID 대신 publicId(UUID)를 document_id로 내려줌
+ */
+@Entity
+@Table(name = "deed_analysis_links",
+        uniqueConstraints = @UniqueConstraint(name = "uk_deed_link_user_analysis", columnNames = {"user_id", "analysis_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DeedAnalysisLink {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "public_id", nullable = false, unique = true, length = 36)
+    private String publicId; // 프론트에 document_id로 내려주는 값
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userNo;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "analysis_id", nullable = false)
+    private DeedAnalysis analysis;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
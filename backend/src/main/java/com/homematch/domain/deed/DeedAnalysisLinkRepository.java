@@ -0,0 +1,16 @@
+package com.homematch.domain.deed;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface DeedAnalysisLinkRepository extends JpaRepository<DeedAnalysisLink, Long> {
+
+    @Query("SELECT l FROM DeedAnalysisLink l JOIN FETCH l.analysis WHERE l.publicId = :publicId AND l.userNo = :userNo")
+    Optional<DeedAnalysisLink> findOwned(@Param("publicId") String publicId, @Param("userNo") Integer userNo);
+
+    @Query("SELECT l FROM DeedAnalysisLink l WHERE l.userNo = :userNo AND l.analysis.id = :analysisId")
+    Optional<DeedAnalysisLink> findByUserNoAndAnalysisId(@Param("userNo") Integer userNo, @Param("analysisId") Long analysisId);
+}
@@ -0,0 +1,11 @@
+package com.homematch.domain.deed;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface DeedAnalysisRepository extends JpaRepository<DeedAnalysis, Long> {
+
+    Optional<DeedAnalysis> findByContentHashAndPreprocessAndUseLlmCorrection(
+            String contentHash, String preprocess, Boolean useLlmCorrection);
+}
@@ -0,0 +1,80 @@
+package com.homematch.domain.deed.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+
+/**
+ * core/register (등기부등본 OCR·위험 분석) API 호출.
+ * 파일은 Resource(디스크)에서 스트리밍으로 보내 힙에 올리지 않음
+ */
+@Component
+public class RegisterApiClient {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public RegisterApiClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${deed.base-url:${fastapi.base-url}}") String baseUrl,
+            @Value("${deed.timeout-seconds:180}") long timeoutSeconds
+    ) {
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .build();
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+    }
+
+    /**
+     * POST /upload (OCR + 파싱)
+     *
+     * @param file     등기부등본 PDF/이미지
+     * @param filename 원본 파일명 (register 서비스는 내용으로 PDF 여부 판단)
+     */
+    public JsonNode upload(Resource file, String filename, String preprocess, String useLlmCorrection) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("file", file).filename(filename != null ? filename : "deed");
+        builder.part("preprocess", preprocess != null ? preprocess : "none");
+        builder.part("use_llm_correction", useLlmCorrection != null ? useLlmCorrection : "false");
+
+        try {
+            return webClient.post()
+                    .uri("/upload")
+                    .contentType(MediaType.MULTIPART_FORM_DATA)
+                    .body(BodyInserters.fromMultipartData(builder.build()))
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .timeout(timeout)
+                    .block();
+        } catch (WebClientResponseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("등기 분석 서버 업로드 호출 중 예외 발생", e);
+        }
+    }
+
+    /** POST /documents/{id}/risk-analysis. 문서가 없으면 WebClientResponseException.NotFound */
+    public JsonNode riskAnalysis(int registerDocumentId) {
+        try {
+            return webClient.post()
+                    .uri("/documents/{id}/risk-analysis", registerDocumentId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .timeout(timeout)
+                    .block();
+        } catch (WebClientResponseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("등기 위험 분석 호출 중 예외 발생", e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.homematch.domain.deed.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.homematch.domain.deed.service.DeedAnalysisService;
+import com.homematch.domain.user.User;
+import com.homematch.domain.user.UserRepository;
+import com.homematch.global.jwt.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * 등기부등본 분석 API (DeedAnalysisPage).
+ * core/register 의 /upload, /documents/{id}, /documents/{id}/risk-analysis 와 같은 경로·응답 형식.
+ * 로그인 필요. 문서 조회·위험 분석은 본인이 올린 문서만 (다른 사용자 문서는 404)
+ */
+@RestController
+@RequestMapping("/api/deed")
+@RequiredArgsConstructor
+public class DeedAnalysisController {
+
+    private final DeedAnalysisService deedAnalysisService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+
+    // JWT 토큰에서 사용자 ID 추출 헬퍼 메서드
+    private Integer getUserIdFromToken(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("토큰이 제공되지 않았습니다.");
+        }
+        String token = authHeader.replace("Bearer ", "");
+        if (!jwtTokenProvider.validateToken(token)) {
+            throw new IllegalArgumentException("토큰이 만료되었거나 유효하지 않습니다.");
+        }
+        String email = jwtTokenProvider.getEmail(token);
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
+        return user.getUserNo();
+    }
+
+    /** 등기부등본 업로드 (OCR + 파싱). 같은 파일은 저장된 결과 반환 */
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> upload(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "preprocess", defaultValue = "none") String preprocess,
+            @RequestParam(value = "use_llm_correction", defaultValue = "false") String useLlmCorrection) {
+        Integer userNo;
+        try {
+            userNo = getUserIdFromToken(authHeader);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            JsonNode response = deedAnalysisService.upload(userNo, file, preprocess, useLlmCorrection);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return toErrorResponse(e);
+        }
+    }
+
+    @GetMapping("/documents/{id}")
+    public ResponseEntity<?> getDocument(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @PathVariable String id) {
+        Integer userNo;
+        try {
+            userNo = getUserIdFromToken(authHeader);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(deedAnalysisService.getDocument(userNo, id));
+        } catch (Exception e) {
+            return toErrorResponse(e);
+        }
+    }
+
+    /** 위험 분석 (6가지 확인 항목 포함). 한 번 분석한 문서는 저장된 결과 반환 */
+    @PostMapping("/documents/{id}/risk-analysis")
+    public ResponseEntity<?> riskAnalysis(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @PathVariable String id) {
+        Integer userNo;
+        try {
+            userNo = getUserIdFromToken(authHeader);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            return ResponseEntity.ok(deedAnalysisService.riskAnalysis(userNo, id));
+        } catch (Exception e) {
+            return toErrorResponse(e);
+        }
+    }
+
+    private ResponseEntity<?> toErrorResponse(Exception e) {
+        if (e instanceof IllegalArgumentException) {
+            HttpStatus status = e.getMessage() != null && e.getMessage().contains("찾을 수 없습니다")
+                    ? HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        }
+        if (e instanceof IllegalStateException) {
+            // OCR 대기열 초과, 대기 시간 초과
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        }
+        if (e instanceof WebClientResponseException w) {
+            // 등기 분석 서버 오류는 상태·본문 그대로 전달
+            return ResponseEntity.status(w.getStatusCode())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(w.getResponseBodyAsString());
+        }
+        e.printStackTrace();
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                .body("{\"error\": \"등기 분석 서버 호출 중 오류가 발생했습니다: " + e.getMessage() + "\"}");
+    }
+}
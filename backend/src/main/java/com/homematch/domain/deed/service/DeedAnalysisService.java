@@ -0,0 +1,351 @@
+package com.homematch.domain.deed.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.homematch.domain.deed.DeedAnalysis;
+import com.homematch.domain.deed.DeedAnalysisLink;
+import com.homematch.domain.deed.DeedAnalysisLinkRepository;
+import com.homematch.domain.deed.DeedAnalysisRepository;
+import com.homematch.domain.deed.client.RegisterApiClient;
+import com.homematch.global.resilience.TokenBucket;
+import com.homematch.global.storage.BlobStore;
+import com.homematch.global.storage.ContentHash;
+import com.homematch.global.storage.ContentTypes;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 등기부등본 분석 게이트웨이 (프론트 → Spring → core/register).
+ * - 업로드 파일의 SHA-256 + OCR 옵션(preprocess, use_llm_correction)으로 이전 결과를 찾아 OCR·위험 분석을 다시 하지 않음
+ * - 같은 파일·옵션이 동시에 올라오면 OCR은 한 번만 실행하고 결과 공유
+ * - OCR은 고정 크기 풀 + 대기열 상한(초과 시 503), 분당 처리량은 토큰 버킷으로 제한
+ * - 원본 파일은 BlobStore에 보관: register 서비스가 재시작되어 문서가 사라져도 다시 올려 위험 분석 가능
+ * - 분석 결과는 같은 파일이면 사용자 간 공유, 조회는 업로드한 사용자의 연결(deed_analysis_links)로만 가능
+ * - 응답의 document_id는 사용자별 연결의 UUID (분석 순번·register 서비스 ID는 노출하지 않음)
+ */
+@Service
+public class DeedAnalysisService {
+
+    private final DeedAnalysisRepository deedAnalysisRepository;
+    private final DeedAnalysisLinkRepository deedAnalysisLinkRepository;
+    private final RegisterApiClient registerApiClient;
+    private final BlobStore blobStore;
+    private final ObjectMapper objectMapper;
+    private final long maxFileSizeBytes;
+    private final long ocrWaitSeconds;
+    private final TokenBucket ocrBucket;
+    private final ThreadPoolExecutor ocrExecutor;
+    /** 진행 중 OCR (내용 해시 + 옵션 → 결과). 같은 파일·옵션 동시 업로드 시 공유 */
+    private final Map<String, CompletableFuture<DeedAnalysis>> inflight = new ConcurrentHashMap<>();
+
+    public DeedAnalysisService(
+            DeedAnalysisRepository deedAnalysisRepository,
+            DeedAnalysisLinkRepository deedAnalysisLinkRepository,
+            RegisterApiClient registerApiClient,
+            BlobStore blobStore,
+            ObjectMapper objectMapper,
+            @Value("${deed.max-file-size:20MB}") DataSize maxFileSize,
+            @Value("${deed.ocr.max-concurrent:2}") int maxConcurrent,
+            @Value("${deed.ocr.queue-capacity:20}") int queueCapacity,
+            @Value("${deed.ocr.per-minute:30}") long ocrPerMinute,
+            @Value("${deed.ocr.wait-seconds:300}") long ocrWaitSeconds
+    ) {
+        this.deedAnalysisRepository = deedAnalysisRepository;
+        this.deedAnalysisLinkRepository = deedAnalysisLinkRepository;
+        this.registerApiClient = registerApiClient;
+        this.blobStore = blobStore;
+        this.objectMapper = objectMapper;
+        this.maxFileSizeBytes = maxFileSize.toBytes();
+        this.ocrWaitSeconds = ocrWaitSeconds;
+        this.ocrBucket = new TokenBucket(ocrPerMinute);
+        int threads = Math.max(1, maxConcurrent);
+        AtomicInteger seq = new AtomicInteger();
+        this.ocrExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "deed-ocr-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ocrExecutor.shutdownNow();
+    }
+
+    /** 등기부등본 업로드 (OCR + 파싱). 같은 내용·옵션의 파일은 저장된 결과를 바로 반환 */
+    public JsonNode upload(Integer userNo, MultipartFile file, String preprocess, String useLlmCorrection) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어 있습니다.");
+        }
+        String preprocessOption = normalizePreprocess(preprocess);
+        boolean llmCorrection = Boolean.parseBoolean(useLlmCorrection == null ? null : useLlmCorrection.trim());
+        if (file.getSize() > maxFileSizeBytes) {
+            throw new IllegalArgumentException("파일 크기가 너무 큽니다. (최대 "
+                    + DataSize.ofBytes(maxFileSizeBytes).toMegabytes() + "MB)");
+        }
+
+        Path staged = blobStore.newStagingPath();
+        String hash;
+        try {
+            try {
+                file.transferTo(staged.toFile());
+            } catch (IllegalStateException | IOException moveFailed) {
+                Files.deleteIfExists(staged);
+                try (InputStream in = file.getInputStream()) {
+                    Files.copy(in, staged);
+                }
+            }
+            hash = ContentHash.sha256(staged);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+
+        Optional<DeedAnalysis> cached = deedAnalysisRepository
+                .findByContentHashAndPreprocessAndUseLlmCorrection(hash, preprocessOption, llmCorrection);
+        if (cached.isPresent()) {
+            Files.deleteIfExists(staged);
+            DeedAnalysis analysis = cached.get();
+            return toUploadResponse(analysis, linkFor(userNo, analysis));
+        }
+
+        CompletableFuture<DeedAnalysis> mine = new CompletableFuture<>();
+        String inflightKey = hash + ":" + preprocessOption + ":" + llmCorrection;
+        CompletableFuture<DeedAnalysis> existing = inflight.putIfAbsent(inflightKey, mine);
+        if (existing != null) {
+            // 같은 파일·옵션 OCR이 이미 진행 중
+            Files.deleteIfExists(staged);
+            DeedAnalysis analysis = await(existing);
+            return toUploadResponse(analysis, linkFor(userNo, analysis));
+        }
+
+        try {
+            // 형식은 파일 앞부분으로 판별 (클라이언트 Content-Type은 믿지 않음)
+            String contentType = ContentTypes.detect(staged);
+            blobStore.put(staged, contentType != null ? contentType : ContentTypes.OCTET_STREAM); // 참조 1 = 이 분석 결과가 보유
+        } catch (IOException | RuntimeException e) {
+            inflight.remove(inflightKey, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+
+        String filename = file.getOriginalFilename();
+        try {
+            ocrExecutor.execute(() -> {
+                try {
+                    mine.complete(runOcr(hash, filename, preprocessOption, llmCorrection));
+                } catch (Throwable t) {
+                    blobStore.release(hash);
+                    mine.completeExceptionally(t);
+                } finally {
+                    inflight.remove(inflightKey, mine);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inflight.remove(inflightKey, mine);
+            blobStore.release(hash);
+            IllegalStateException busy = new IllegalStateException("등기부등본 분석 요청이 많아 잠시 후 다시 시도해 주세요.");
+            mine.completeExceptionally(busy);
+            throw busy;
+        }
+        DeedAnalysis analysis = await(mine);
+        return toUploadResponse(analysis, linkFor(userNo, analysis));
+    }
+
+    /** 업로드 결과 다시 조회 (OCR 없음). 본인이 올린 문서만 */
+    public JsonNode getDocument(Integer userNo, String documentId) {
+        DeedAnalysisLink link = findLink(userNo, documentId);
+        return toUploadResponse(link.getAnalysis(), link.getPublicId());
+    }
+
+    /** 위험 분석. 한 번 분석한 결과는 저장해 두고 재사용. 본인이 올린 문서만 */
+    public JsonNode riskAnalysis(Integer userNo, String documentId) {
+        DeedAnalysisLink link = findLink(userNo, documentId);
+        DeedAnalysis analysis = link.getAnalysis();
+        if (analysis.getRiskJson() != null) {
+            return withDocumentId(readJson(analysis.getRiskJson()), link.getPublicId());
+        }
+
+        JsonNode risk;
+        try {
+            risk = registerApiClient.riskAnalysis(analysis.getRegisterDocumentId());
+        } catch (WebClientResponseException.NotFound e) {
+            // register 서비스 재시작 등으로 문서가 사라짐 → 보관한 원본으로 다시 업로드 후 분석
+            analysis = reupload(analysis);
+            risk = registerApiClient.riskAnalysis(analysis.getRegisterDocumentId());
+        }
+
+        analysis.updateRisk(risk.toString());
+        deedAnalysisRepository.save(analysis);
+        return withDocumentId(risk, link.getPublicId());
+    }
+
+    private DeedAnalysis runOcr(String hash, String filename, String preprocess, boolean useLlmCorrection) {
+        acquireOcrPermit();
+        Resource resource = blobStore.get(hash)
+                .orElseThrow(() -> new IllegalStateException("저장된 등기부등본 파일을 찾을 수 없습니다."));
+        JsonNode upload = registerApiClient.upload(resource, filename, preprocess, String.valueOf(useLlmCorrection));
+        if (upload == null || !upload.hasNonNull("document_id")) {
+            throw new IllegalStateException("등기 분석 서버 응답에 document_id가 없습니다.");
+        }
+
+        try {
+            return deedAnalysisRepository.save(DeedAnalysis.builder()
+                    .contentHash(hash)
+                    .preprocess(preprocess)
+                    .useLlmCorrection(useLlmCorrection)
+                    .registerDocumentId(upload.get("document_id").asInt())
+                    .uploadJson(upload.toString())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 파일·옵션을 먼저 저장: 그 결과 사용 (이번 참조는 반환)
+            blobStore.release(hash);
+            return deedAnalysisRepository
+                    .findByContentHashAndPreprocessAndUseLlmCorrection(hash, preprocess, useLlmCorrection)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /** 보관한 원본을 처음과 같은 옵션으로 OCR 풀에서 다시 올려 register 서비스 문서 ID 갱신 */
+    private DeedAnalysis reupload(DeedAnalysis analysis) {
+        CompletableFuture<DeedAnalysis> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                acquireOcrPermit();
+                Resource resource = blobStore.get(analysis.getContentHash())
+                        .orElseThrow(() -> new IllegalStateException("저장된 등기부등본 파일을 찾을 수 없습니다."));
+                JsonNode upload = registerApiClient.upload(resource, null,
+                        analysis.getPreprocess(), String.valueOf(analysis.getUseLlmCorrection()));
+                if (upload == null || !upload.hasNonNull("document_id")) {
+                    throw new IllegalStateException("등기 분석 서버 응답에 document_id가 없습니다.");
+                }
+                analysis.relink(upload.get("document_id").asInt());
+                return deedAnalysisRepository.save(analysis);
+            }, ocrExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("등기부등본 분석 요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+        return await(future);
+    }
+
+    /** 옵션 값은 캐시 키에 들어가므로 정규화 (비어 있으면 register 서비스 기본값 none) */
+    private String normalizePreprocess(String preprocess) {
+        if (preprocess == null || preprocess.isBlank()) {
+            return "none";
+        }
+        String value = preprocess.trim().toLowerCase();
+        if (value.length() > 20) {
+            throw new IllegalArgumentException("지원하지 않는 전처리 옵션입니다.");
+        }
+        return value;
+    }
+
+    /** 분당 OCR 상한: 토큰이 생길 때까지 워커 스레드에서 대기 */
+    private void acquireOcrPermit() {
+        while (true) {
+            long wait;
+            synchronized (ocrBucket) {
+                wait = ocrBucket.nanosUntilAvailable(1);
+                if (wait == 0) {
+                    ocrBucket.consume(1);
+                    return;
+                }
+            }
+            LockSupport.parkNanos(wait);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("OCR 대기 중 중단되었습니다.");
+            }
+        }
+    }
+
+    private DeedAnalysis await(CompletableFuture<DeedAnalysis> future) {
+        try {
+            return future.get(ocrWaitSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("등기부등본 분석이 지연되고 있습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("등기부등본 분석이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /** 다른 사용자의 문서와 없는 문서를 구분하지 않음 (둘 다 404) */
+    private DeedAnalysisLink findLink(Integer userNo, String documentId) {
+        if (documentId == null || documentId.isBlank()) {
+            throw new IllegalArgumentException("문서를 찾을 수 없습니다.");
+        }
+        return deedAnalysisLinkRepository.findOwned(documentId, userNo)
+                .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다."));
+    }
+
+    /** 사용자와 분석 결과 연결 (이미 있으면 기존 연결). 반환: 프론트에 내려줄 document_id */
+    private String linkFor(Integer userNo, DeedAnalysis analysis) {
+        Optional<DeedAnalysisLink> existing = deedAnalysisLinkRepository.findByUserNoAndAnalysisId(userNo, analysis.getId());
+        if (existing.isPresent()) {
+            return existing.get().getPublicId();
+        }
+        try {
+            return deedAnalysisLinkRepository.save(DeedAnalysisLink.builder()
+                    .publicId(UUID.randomUUID().toString())
+                    .userNo(userNo)
+                    .analysis(analysis)
+                    .build()).getPublicId();
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자가 같은 파일을 동시에 올림: 먼저 저장된 연결 사용
+            return deedAnalysisLinkRepository.findByUserNoAndAnalysisId(userNo, analysis.getId())
+                    .map(DeedAnalysisLink::getPublicId)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private JsonNode toUploadResponse(DeedAnalysis analysis, String documentId) {
+        return withDocumentId(readJson(analysis.getUploadJson()), documentId);
+    }
+
+    private JsonNode withDocumentId(JsonNode body, String id) {
+        if (body instanceof ObjectNode node) {
+            node.put("document_id", id);
+        }
+        return body;
+    }
+
+    private JsonNode readJson(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("저장된 등기부등본 분석 결과를 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.homematch.domain.evidence;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인된 기록 1건 (원본 기록당 1행).
+ * 검색 결과 표시에 필요한 제목·미리보기만 따로 두어 원본 TEXT 컬럼을 읽지 않음
+ */
+@Entity
+@Table(name = "evidence_documents",
+        uniqueConstraints = @UniqueConstraint(name = "uk_evidence_source", columnNames = {"source_type", "source_id"}),
+        indexes = @Index(name = "idx_evidence_parent", columnList = "parent_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EvidenceDocument {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", nullable = false, length = 30)
+    private EvidenceSourceType sourceType;
+
+    @Column(name = "source_id", nullable = false)
+    private Long sourceId;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(length = 300)
+    private String snippet;
+
+    @Column(name = "doc_date")
+    private LocalDate docDate;
+
+    @Column(name = "term_count", nullable = false)
+    private Integer termCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,6 @@
+package com.homematch.domain.evidence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EvidenceDocumentRepository extends JpaRepository<EvidenceDocument, Long> {
+}
@@ -0,0 +1,32 @@
+package com.homematch.domain.evidence;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/** 증거 검색 대상 기록 종류 */
+public enum EvidenceSourceType {
+    DEFECT_ISSUE,       // 하자 이슈 (제목·메모)
+    ISSUE_TIMELINE,     // 하자 이슈 타임라인 메모 (parentId = 이슈 ID)
+    AGREEMENT_RECORD,   // 협의 기록 요약
+    DISPUTE_RECORD,     // 분쟁 기록 (유형·내용·해결)
+    ENTRY_STATUS_RECORD; // 입주 상태 기록 설명
+
+    /** "DEFECT_ISSUE,DISPUTE_RECORD" 형식. 비어 있으면 전체 */
+    public static Set<EvidenceSourceType> parse(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return EnumSet.allOf(EvidenceSourceType.class);
+        }
+        Set<EvidenceSourceType> types = EnumSet.noneOf(EvidenceSourceType.class);
+        for (String token : csv.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty()) continue;
+            EvidenceSourceType type = Arrays.stream(values())
+                    .filter(t -> t.name().equalsIgnoreCase(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("알 수 없는 기록 종류입니다: " + name));
+            types.add(type);
+        }
+        return types.isEmpty() ? EnumSet.allOf(EvidenceSourceType.class) : types;
+    }
+}
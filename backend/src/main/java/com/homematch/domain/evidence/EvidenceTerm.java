@@ -0,0 +1,36 @@
+package com.homematch.domain.evidence;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * n-gram 역색인 (사용자·용어·문서당 1행).
+ * 기본키가 (user_id, term, doc_id) 순이라 한 사용자의 한 용어는 인덱스에서 연속된 범위로 읽힘
+ * (기본키 컬럼 순서는 create_tables.sql / add_evidence_search_index.sql 기준)
+ */
+@Entity
+@Table(name = "evidence_terms",
+        indexes = @Index(name = "idx_evidence_term_doc", columnList = "doc_id"))
+@IdClass(EvidenceTermId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EvidenceTerm {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Integer userNo;
+
+    @Id
+    // 대소문자·악센트를 같은 값으로 보지 않도록 binary collation (정규화는 NgramTokenizer에서)
+    @Column(nullable = false, length = 8, columnDefinition = "VARCHAR(8) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin")
+    private String term;
+
+    @Id
+    @Column(name = "doc_id", nullable = false)
+    private Long docId;
+
+    @Column(nullable = false)
+    private Integer tf; // 문서 안 등장 횟수
+}
@@ -0,0 +1,16 @@
+package com.homematch.domain.evidence;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EvidenceTermId implements Serializable {
+    private Integer userNo;
+    private String term;
+    private Long docId;
+}
@@ -0,0 +1,69 @@
+package com.homematch.domain.evidence.controller;
+
+import com.homematch.domain.evidence.EvidenceSourceType;
+import com.homematch.domain.evidence.dto.EvidenceSearchResponse;
+import com.homematch.domain.evidence.service.EvidenceSearchService;
+import com.homematch.domain.user.User;
+import com.homematch.domain.user.UserRepository;
+import com.homematch.global.jwt.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+/**
+ * 증거 기록 통합 검색 API.
+ * 하자 이슈·타임라인 메모·협의 기록·분쟁 기록·입주 상태 기록을 한 번에 검색 (본인 기록만)
+ */
+@RestController
+@RequestMapping("/api/evidence")
+@RequiredArgsConstructor
+public class EvidenceSearchController {
+
+    private final EvidenceSearchService evidenceSearchService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+
+    // JWT 토큰에서 사용자 ID 추출 헬퍼 메서드
+    private Integer getUserIdFromToken(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            throw new IllegalArgumentException("토큰이 제공되지 않았습니다.");
+        }
+        if (!jwtTokenProvider.validateToken(token)) {
+            throw new IllegalArgumentException("토큰이 만료되었거나 유효하지 않습니다.");
+        }
+        String email = jwtTokenProvider.getEmail(token);
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
+        return user.getUserNo();
+    }
+
+    /**
+     * q: 검색어 (공백으로 나눈 단어를 모두 포함한 기록)
+     * types: DEFECT_ISSUE,ISSUE_TIMELINE,AGREEMENT_RECORD,DISPUTE_RECORD,ENTRY_STATUS_RECORD 중 쉼표 구분 (생략 시 전체)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> search(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam String q,
+            @RequestParam(required = false) String types,
+            @RequestParam(required = false) Integer limit) {
+        Integer userNo;
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            userNo = getUserIdFromToken(token);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            Set<EvidenceSourceType> sourceTypes = EvidenceSourceType.parse(types);
+            EvidenceSearchResponse response = evidenceSearchService.search(userNo, q, sourceTypes, limit);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.homematch.domain.evidence.dto;
+
+import com.homematch.domain.evidence.EvidenceSourceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/** 검색 결과 1건. sourceId로 각 기록 상세 API 조회 (타임라인은 parentId = 이슈 ID) */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvidenceSearchHit {
+    private EvidenceSourceType sourceType;
+    private Long sourceId;
+    private Long parentId;
+    private String title;
+    private String snippet;
+    private LocalDate date;
+    private Double score;
+}
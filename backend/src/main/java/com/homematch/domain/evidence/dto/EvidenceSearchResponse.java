@@ -0,0 +1,17 @@
+package com.homematch.domain.evidence.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvidenceSearchResponse {
+    private String query;
+    private List<EvidenceSearchHit> hits;
+}
@@ -0,0 +1,139 @@
+package com.homematch.domain.evidence.service;
+
+import com.homematch.domain.evidence.EvidenceDocumentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 증거 검색 색인 초기 채우기.
+ * - evidence_documents 가 비어 있으면 시작 시 기록 종류별로 id 순 batch-size건씩 색인
+ * - 이후에는 기록 저장/삭제 시 같은 트랜잭션에서 색인되므로 다시 실행되지 않음
+ * - 중간에 멈췄다면 evidence_documents 를 비우고 재시작 (색인은 기록당 1행으로 교체되므로 여러 번 실행해도 결과 같음)
+ */
+@Component
+public class EvidenceSearchBackfill {
+
+    private static final String DEFECT_ISSUES = "SELECT id, user_id, title, memo, issue_date "
+            + "FROM residency_defect_issues WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String ISSUE_TIMELINES = "SELECT t.id, i.user_id, t.defect_issue_id, t.note, t.created_at "
+            + "FROM residency_issue_timelines t JOIN residency_defect_issues i ON i.id = t.defect_issue_id "
+            + "WHERE t.id > ? AND t.note IS NOT NULL ORDER BY t.id LIMIT ?";
+    private static final String AGREEMENT_RECORDS = "SELECT id, user_id, defect_issue_id, summary, created_at "
+            + "FROM residency_agreement_records WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String DISPUTE_RECORDS = "SELECT id, user_id, dispute_type, description, resolution, dispute_date "
+            + "FROM dispute_records WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String ENTRY_STATUS_RECORDS = "SELECT id, user_id, record_type, description, record_date "
+            + "FROM entry_status_records WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final EvidenceSearchService evidenceSearchService;
+    private final EvidenceDocumentRepository evidenceDocumentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public EvidenceSearchBackfill(
+            EvidenceSearchService evidenceSearchService,
+            EvidenceDocumentRepository evidenceDocumentRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${evidence.search.backfill:true}") boolean enabled,
+            @Value("${evidence.search.batch-size:200}") int batchSize
+    ) {
+        this.evidenceSearchService = evidenceSearchService;
+        this.evidenceDocumentRepository = evidenceDocumentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || evidenceDocumentRepository.count() > 0) {
+            return;
+        }
+        Thread t = new Thread(this::run, "evidence-search-backfill");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    void run() {
+        long indexed = 0;
+        try {
+            indexed += backfill(DEFECT_ISSUES, (rs, rowNum) -> {
+                long id = rs.getLong("id");
+                evidenceSearchService.indexDefectIssue(rs.getInt("user_id"), id,
+                        rs.getString("title"), rs.getString("memo"), toLocalDate(rs.getDate("issue_date")));
+                return id;
+            });
+            indexed += backfill(ISSUE_TIMELINES, (rs, rowNum) -> {
+                long id = rs.getLong("id");
+                evidenceSearchService.indexTimeline(rs.getInt("user_id"), id, rs.getLong("defect_issue_id"),
+                        rs.getString("note"), toLocalDateTime(rs.getTimestamp("created_at")));
+                return id;
+            });
+            indexed += backfill(AGREEMENT_RECORDS, (rs, rowNum) -> {
+                long id = rs.getLong("id");
+                Long defectIssueId = rs.getObject("defect_issue_id") != null ? rs.getLong("defect_issue_id") : null;
+                evidenceSearchService.indexAgreementRecord(rs.getInt("user_id"), id, defectIssueId,
+                        rs.getString("summary"), toLocalDateTime(rs.getTimestamp("created_at")));
+                return id;
+            });
+            indexed += backfill(DISPUTE_RECORDS, (rs, rowNum) -> {
+                long id = rs.getLong("id");
+                evidenceSearchService.indexDisputeRecord(rs.getInt("user_id"), id, rs.getString("dispute_type"),
+                        rs.getString("description"), rs.getString("resolution"),
+                        toLocalDate(rs.getDate("dispute_date")));
+                return id;
+            });
+            indexed += backfill(ENTRY_STATUS_RECORDS, (rs, rowNum) -> {
+                long id = rs.getLong("id");
+                evidenceSearchService.indexEntryStatusRecord(rs.getInt("user_id"), id, rs.getString("record_type"),
+                        rs.getString("description"), toLocalDate(rs.getDate("record_date")));
+                return id;
+            });
+            System.err.println("증거 검색 색인 초기 생성 완료: " + indexed + "건");
+        } catch (Exception e) {
+            System.err.println("증거 검색 색인 초기 생성 중단 (" + indexed + "건 완료): " + e.getMessage());
+        }
+    }
+
+    /** 한 테이블을 id 순으로 batch-size건씩, 배치마다 트랜잭션 하나로 색인. 반환: 읽은 기록 수 */
+    private long backfill(String sql, RowMapper<Long> indexer) {
+        long afterId = 0L;
+        long count = 0L;
+        while (true) {
+            long from = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> jdbcTemplate.query(sql, indexer, from, batchSize));
+            if (ids == null || ids.isEmpty()) {
+                return count;
+            }
+            afterId = ids.get(ids.size() - 1);
+            count += ids.size();
+            if (ids.size() < batchSize) {
+                return count;
+            }
+        }
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
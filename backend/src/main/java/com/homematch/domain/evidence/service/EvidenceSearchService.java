@@ -0,0 +1,216 @@
+package com.homematch.domain.evidence.service;
+
+import com.homematch.domain.evidence.EvidenceSourceType;
+import com.homematch.domain.evidence.dto.EvidenceSearchHit;
+import com.homematch.domain.evidence.dto.EvidenceSearchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 증거 기록 검색 (하자 이슈·타임라인 메모·협의 기록·분쟁 기록·입주 상태 기록).
+ * - 색인: 원본 기록 저장과 같은 트랜잭션에서 2-gram 역색인(evidence_terms)을 다시 씀 → 롤백되면 색인도 함께 롤백
+ * - 검색: 검색어의 2-gram을 모두 포함한 문서만 (AND), 역색인 기본키(user_id, term) 범위만 읽고 원본 TEXT 컬럼은 읽지 않음
+ * - 순위: 일치한 용어의 등장 횟수 합 / sqrt(문서 용어 수) (긴 문서가 단순히 많이 나오는 것 방지), 같으면 최신순
+ * - 한 글자 검색어는 그 글자로 시작하는 용어 전체를 찾음
+ */
+@Service
+@Transactional
+public class EvidenceSearchService {
+
+    private static final int TITLE_LENGTH = 200;
+    private static final int SNIPPET_LENGTH = 300;
+    private static final int MAX_QUERY_TERMS = 32;
+    private static final int INSERT_CHUNK = 500;
+
+    private static final String UPSERT_DOCUMENT = "INSERT INTO evidence_documents "
+            + "(user_id, source_type, source_id, parent_id, title, snippet, doc_date, term_count, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW()) "
+            + "ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), parent_id = VALUES(parent_id), "
+            + "title = VALUES(title), snippet = VALUES(snippet), doc_date = VALUES(doc_date), "
+            + "term_count = VALUES(term_count), updated_at = NOW()";
+    private static final String INSERT_TERMS_PREFIX = "INSERT INTO evidence_terms (user_id, term, doc_id, tf) VALUES ";
+    private static final String TERM_ROW = "(?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxResults;
+
+    public EvidenceSearchService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${evidence.search.max-results:50}") int maxResults
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxResults = Math.max(1, maxResults);
+    }
+
+    // ========== 색인 ==========
+    public void indexDefectIssue(Integer userNo, Long id, String title, String memo, LocalDate issueDate) {
+        index(userNo, EvidenceSourceType.DEFECT_ISSUE, id, null, title, memo, issueDate);
+    }
+
+    /** 메모가 없는 타임라인(상태 변경 기록)은 색인하지 않음 */
+    public void indexTimeline(Integer userNo, Long id, Long defectIssueId, String note, LocalDateTime createdAt) {
+        index(userNo, EvidenceSourceType.ISSUE_TIMELINE, id, defectIssueId, null, note, toDate(createdAt));
+    }
+
+    public void indexAgreementRecord(Integer userNo, Long id, Long defectIssueId, String summary, LocalDateTime createdAt) {
+        index(userNo, EvidenceSourceType.AGREEMENT_RECORD, id, defectIssueId, null, summary, toDate(createdAt));
+    }
+
+    public void indexDisputeRecord(Integer userNo, Long id, String disputeType, String description,
+                                   String resolution, LocalDate disputeDate) {
+        String body = resolution == null || resolution.isBlank() ? description : description + "\n" + resolution;
+        index(userNo, EvidenceSourceType.DISPUTE_RECORD, id, null, disputeType, body, disputeDate);
+    }
+
+    public void indexEntryStatusRecord(Integer userNo, Long id, String recordType, String description, LocalDate recordDate) {
+        index(userNo, EvidenceSourceType.ENTRY_STATUS_RECORD, id, null, recordType, description, recordDate);
+    }
+
+    /**
+     * 기록 1건 색인 (있으면 교체). 제목과 본문을 함께 색인하고 미리보기는 본문 앞부분.
+     * 제목·본문 모두 비어 있으면 색인에서 제거
+     */
+    public void index(Integer userNo, EvidenceSourceType type, Long sourceId, Long parentId,
+                      String title, String body, LocalDate date) {
+        String text = join(title, body);
+        Map<String, Integer> terms = NgramTokenizer.termFrequencies(text);
+        if (terms.isEmpty()) {
+            remove(type, sourceId);
+            return;
+        }
+        int termCount = terms.values().stream().mapToInt(Integer::intValue).sum();
+        jdbcTemplate.update(UPSERT_DOCUMENT, userNo, type.name(), sourceId, parentId,
+                truncate(title, TITLE_LENGTH), snippetOf(body),
+                date != null ? Date.valueOf(date) : null, termCount);
+        Long docId = jdbcTemplate.queryForObject(
+                "SELECT id FROM evidence_documents WHERE source_type = ? AND source_id = ?",
+                Long.class, type.name(), sourceId);
+
+        jdbcTemplate.update("DELETE FROM evidence_terms WHERE doc_id = ?", docId);
+        List<Map.Entry<String, Integer>> postings = new ArrayList<>(terms.entrySet());
+        for (int from = 0; from < postings.size(); from += INSERT_CHUNK) {
+            List<Map.Entry<String, Integer>> chunk = postings.subList(from, Math.min(from + INSERT_CHUNK, postings.size()));
+            Object[] args = new Object[chunk.size() * 4];
+            int i = 0;
+            for (Map.Entry<String, Integer> posting : chunk) {
+                args[i++] = userNo;
+                args[i++] = posting.getKey();
+                args[i++] = docId;
+                args[i++] = posting.getValue();
+            }
+            jdbcTemplate.update(INSERT_TERMS_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), TERM_ROW)), args);
+        }
+    }
+
+    public void remove(EvidenceSourceType type, Long sourceId) {
+        jdbcTemplate.update("DELETE t FROM evidence_terms t JOIN evidence_documents d ON d.id = t.doc_id "
+                + "WHERE d.source_type = ? AND d.source_id = ?", type.name(), sourceId);
+        jdbcTemplate.update("DELETE FROM evidence_documents WHERE source_type = ? AND source_id = ?",
+                type.name(), sourceId);
+    }
+
+    /** 상위 기록(하자 이슈) 삭제 시 딸린 기록(타임라인 메모) 색인 제거 */
+    public void removeByParent(EvidenceSourceType type, Long parentId) {
+        jdbcTemplate.update("DELETE t FROM evidence_terms t JOIN evidence_documents d ON d.id = t.doc_id "
+                + "WHERE d.source_type = ? AND d.parent_id = ?", type.name(), parentId);
+        jdbcTemplate.update("DELETE FROM evidence_documents WHERE source_type = ? AND parent_id = ?",
+                type.name(), parentId);
+    }
+
+    // ========== 검색 ==========
+    @Transactional(readOnly = true)
+    public EvidenceSearchResponse search(Integer userNo, String query, Set<EvidenceSourceType> types, Integer limit) {
+        List<String> terms = new ArrayList<>(NgramTokenizer.queryTerms(query));
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+        int size = (limit == null || limit <= 0) ? 20 : Math.min(limit, maxResults);
+
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(
+                "SELECT d.source_type, d.source_id, d.parent_id, d.title, d.snippet, d.doc_date, "
+                        + "m.tf_sum / SQRT(GREATEST(d.term_count, 1)) AS score "
+                        + "FROM (SELECT doc_id, SUM(tf) AS tf_sum FROM evidence_terms WHERE user_id = ? ");
+        args.add(userNo);
+        if (terms.size() == 1 && terms.get(0).codePointCount(0, terms.get(0).length()) == 1) {
+            // 한 글자: 그 글자로 시작하는 용어 범위 (용어에는 %, _ 가 들어가지 않음)
+            sql.append("AND term LIKE ? GROUP BY doc_id) m ");
+            args.add(terms.get(0) + "%");
+        } else {
+            sql.append("AND term IN (").append(placeholders(terms.size())).append(") ")
+                    .append("GROUP BY doc_id HAVING COUNT(*) = ?) m ");
+            args.addAll(terms);
+            args.add(terms.size());
+        }
+        sql.append("JOIN evidence_documents d ON d.id = m.doc_id ");
+        if (types != null && !types.isEmpty() && !types.containsAll(EnumSet.allOf(EvidenceSourceType.class))) {
+            sql.append("WHERE d.source_type IN (").append(placeholders(types.size())).append(") ");
+            types.forEach(type -> args.add(type.name()));
+        }
+        sql.append("ORDER BY score DESC, d.doc_date DESC, d.id DESC LIMIT ?");
+        args.add(size);
+
+        List<EvidenceSearchHit> hits = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            Date docDate = rs.getDate("doc_date");
+            return EvidenceSearchHit.builder()
+                    .sourceType(EvidenceSourceType.valueOf(rs.getString("source_type")))
+                    .sourceId(rs.getLong("source_id"))
+                    .parentId(rs.getObject("parent_id") != null ? rs.getLong("parent_id") : null)
+                    .title(rs.getString("title"))
+                    .snippet(rs.getString("snippet"))
+                    .date(docDate != null ? docDate.toLocalDate() : null)
+                    .score(rs.getDouble("score"))
+                    .build();
+        }, args.toArray());
+
+        return EvidenceSearchResponse.builder()
+                .query(query)
+                .hits(hits)
+                .build();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String join(String title, String body) {
+        if (title == null || title.isBlank()) {
+            return body;
+        }
+        return body == null ? title : title + "\n" + body;
+    }
+
+    /** 본문 앞부분을 공백 하나로 줄여 미리보기로 사용 */
+    private static String snippetOf(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        return truncate(truncate(body, SNIPPET_LENGTH * 4).trim().replaceAll("\\s+", " "), SNIPPET_LENGTH);
+    }
+
+    private static String truncate(String text, int length) {
+        if (text == null) {
+            return null;
+        }
+        return text.length() > length ? text.substring(0, length) : text;
+    }
+
+    private static LocalDate toDate(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toLocalDate() : null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.homematch.domain.evidence.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 2-gram 분리 (형태소 분석 없이 한국어 부분 일치 검색).
+ * - NFKC 정규화 + 소문자, 글자·숫자가 아닌 문자에서 끊어 단어마다 연속 두 글자씩
+ * - 한 글자 단어는 그 글자 하나를 용어로 사용
+ * 예) "곰팡이 발생" → 곰팡, 팡이, 발생
+ */
+final class NgramTokenizer {
+
+    static final int MAX_TEXT_LENGTH = 20000;
+
+    private NgramTokenizer() {
+    }
+
+    /** 문서 색인용: 용어별 등장 횟수 */
+    static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> terms = new LinkedHashMap<>();
+        for (String term : tokens(text)) {
+            terms.merge(term, 1, Integer::sum);
+        }
+        return terms;
+    }
+
+    /** 검색어용: 중복 없는 용어 */
+    static Set<String> queryTerms(String query) {
+        return new LinkedHashSet<>(tokens(query));
+    }
+
+    private static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(
+                text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text,
+                Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+        int start = 0;
+        for (int i = 0; i <= codePoints.length; i++) {
+            if (i < codePoints.length && Character.isLetterOrDigit(codePoints[i])) {
+                continue;
+            }
+            int length = i - start;
+            if (length == 1) {
+                tokens.add(new String(codePoints, start, 1));
+            } else {
+                for (int j = start; j + 1 < i; j++) {
+                    tokens.add(new String(codePoints, j, 2));
+                }
+            }
+            start = i + 1;
+        }
+        return tokens;
+    }
+}
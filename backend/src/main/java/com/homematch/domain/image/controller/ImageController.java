@@ -0,0 +1,109 @@
+package com.homematch.domain.image.controller;
+
+import com.homematch.domain.image.service.ImageRenditionService;
+import com.homematch.domain.image.service.ImageService;
+import com.homematch.global.jwt.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입주 상태·하자 사진 업로드/조회.
+ * 업로드 후 받은 url을 기존 imageUrl 필드에 넣어 기록을 저장합니다.
+ */
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ImageService imageService;
+    private final ImageRenditionService imageRenditionService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> upload(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam("file") MultipartFile file) {
+        try {
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body("{\"error\": \"Authorization 헤더가 올바르지 않습니다.\"}");
+            }
+            String token = authHeader.replace("Bearer ", "").trim();
+            if (token.isEmpty() || !jwtTokenProvider.validateToken(token)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body("{\"error\": \"토큰이 만료되었거나 유효하지 않습니다.\"}");
+            }
+            String url = imageService.upload(file);
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("url", url));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"이미지 저장 중 오류가 발생했습니다: " + e.getMessage() + "\"}");
+        }
+    }
+
+    /**
+     * 이미지 조회. <img src>로 바로 쓰므로 인증 헤더 없이 허용 (주소가 내용 해시라 추측 불가)
+     * 매직 넘버로 확인한 사진 형식(JPEG·PNG·GIF·WEBP)만 응답, 그 외 파일은 404
+     * 내용이 바뀌면 주소도 바뀌므로 브라우저가 무기한 캐시
+     * w: 축소본 너비 (image.rendition.widths 중 하나). 축소본이 없으면 원본 응답
+     *    원본이 더 작아 원본을 쓰기로 확정된 경우(.orig)만 무기한 캐시, 생성 지연·실패로 대신 보낸 원본은 캐시하지 않음
+     *    (캐시하면 같은 주소로 나중에 생긴 축소본을 받지 못함)
+     */
+    @GetMapping("/{hash}")
+    public ResponseEntity<Resource> get(
+            @PathVariable String hash,
+            @RequestParam(value = "w", required = false) Integer width) {
+        // 같은 저장소의 계약서·등기부등본 파일 등 사진이 아닌 파일은 없는 것으로 응답
+        Optional<String> imageType = imageService.imageContentType(hash);
+        if (imageType.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        if (width != null) {
+            if (!imageRenditionService.isSupportedWidth(width)) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            }
+            Optional<ImageRenditionService.Rendition> rendition = imageRenditionService.get(hash, width);
+            if (rendition.isPresent()) {
+                return ResponseEntity.ok()
+                        .header("X-Content-Type-Options", "nosniff")
+                        .contentType(MediaType.parseMediaType(rendition.get().getContentType()))
+                        .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                        .eTag("\"" + hash + "-" + width + "\"")
+                        .body(rendition.get().getResource());
+            }
+        }
+        boolean transientFallback = width != null && !imageRenditionService.servesOriginal(hash, width);
+        Optional<Resource> resource = imageService.load(hash);
+        if (resource.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        MediaType mediaType = MediaType.parseMediaType(imageType.get());
+        if (transientFallback) {
+            return ResponseEntity.ok()
+                    .header("X-Content-Type-Options", "nosniff")
+                    .contentType(mediaType)
+                    .cacheControl(CacheControl.noStore())
+                    .body(resource.get());
+        }
+        return ResponseEntity.ok()
+                .header("X-Content-Type-Options", "nosniff")
+                .contentType(mediaType)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .eTag("\"" + hash + "\"")
+                .body(resource.get());
+    }
+}
@@ -0,0 +1,101 @@
+package com.homematch.domain.image.service;
+
+import com.homematch.domain.moveout.EntryStatusRecordRepository;
+import com.homematch.domain.residency.ResidencyDefectIssueRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 기존 행의 data URL(base64) 이미지를 BlobStore 파일로 옮기는 일회성 이전 작업.
+ * - 대상: entry_status_records.image_url, residency_defect_issues.image_url
+ * - 애플리케이션 시작 후 백그라운드 스레드에서 id 순으로 batch-size개씩 처리 (한 번에 한 행의 본문만 메모리에 올림)
+ * - 변환에 실패한 행은 건너뛰고 로그만 남김 (다음 시작 때 다시 시도)
+ * - 모두 옮긴 뒤 shrink_image_url_columns.sql 로 컬럼을 줄이면 됨
+ */
+@Component
+public class DataUrlImageMigration {
+
+    private final ImageService imageService;
+    private final EntryStatusRecordRepository entryStatusRecordRepository;
+    private final ResidencyDefectIssueRepository residencyDefectIssueRepository;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public DataUrlImageMigration(
+            ImageService imageService,
+            EntryStatusRecordRepository entryStatusRecordRepository,
+            ResidencyDefectIssueRepository residencyDefectIssueRepository,
+            @Value("${image.migration.enabled:true}") boolean enabled,
+            @Value("${image.migration.batch-size:20}") int batchSize
+    ) {
+        this.imageService = imageService;
+        this.entryStatusRecordRepository = entryStatusRecordRepository;
+        this.residencyDefectIssueRepository = residencyDefectIssueRepository;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread t = new Thread(this::run, "image-migration");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    void run() {
+        int moved = migrate("entry_status_records",
+                entryStatusRecordRepository::findDataUrlImageIdsAfter,
+                entryStatusRecordRepository::findImageUrlById,
+                entryStatusRecordRepository::replaceDataUrlImage);
+        moved += migrate("residency_defect_issues",
+                residencyDefectIssueRepository::findDataUrlImageIdsAfter,
+                residencyDefectIssueRepository::findImageUrlById,
+                residencyDefectIssueRepository::replaceDataUrlImage);
+        if (moved > 0) {
+            System.err.println("data URL 이미지 이전 완료: " + moved + "건");
+        }
+    }
+
+    private int migrate(String table,
+                        BiFunction<Long, PageRequest, List<Long>> findIds,
+                        Function<Long, Optional<String>> findImageUrl,
+                        BiFunction<Long, String, Integer> replace) {
+        int moved = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> ids = findIds.apply(afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return moved;
+            }
+            for (Long id : ids) {
+                afterId = id;
+                try {
+                    Optional<String> dataUrl = findImageUrl.apply(id).filter(ImageService::isDataUrl);
+                    if (dataUrl.isEmpty()) {
+                        continue;
+                    }
+                    String url = imageService.acquire(dataUrl.get());
+                    if (replace.apply(id, url) == 0) {
+                        // 그 사이 사진이 바뀜: 방금 확보한 참조 반환
+                        imageService.release(url);
+                    } else {
+                        moved++;
+                    }
+                } catch (Exception e) {
+                    System.err.println("이미지 이전 실패 (" + table + " id=" + id + "): " + e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.homematch.domain.image.service;
+
+import com.homematch.global.storage.BlobStore;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 사진 축소본(rendition) 생성·조회 (javax.imageio).
+ * - 너비별 축소본: 기본 200px(목록 썸네일), 1024px(상세 보기). 원본은 BlobStore 그대로
+ * - 경로: {root}/ab/{sha256}_{width}.jpg|.png — 원본 해시에서 결정되는 파생 파일이라 참조 수 관리 없이 원본 삭제 시 함께 삭제
+ * - 원본 너비가 목표 이하이면 빈 .orig 표시 파일만 두고 원본을 그대로 응답 (매 요청 디코딩 방지)
+ * - 업로드 직후 제한된 작업 풀에서 미리 생성. 풀이 가득 차면 건너뛰고 첫 조회 때 생성
+ * - 큰 원본은 ImageReader 서브샘플링으로 필요한 해상도까지만 디코딩해 메모리·CPU 절약
+ */
+@Service
+public class ImageRenditionService {
+
+    private static final String JPEG = "image/jpeg";
+    private static final String PNG = "image/png";
+    private static final float JPEG_QUALITY = 0.82f;
+    /** 이 픽셀 수를 넘는 원본은 축소본을 만들지 않음 (압축 폭탄 방지) */
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    private final BlobStore blobStore;
+    private final Path root;
+    private final int[] widths;
+    private final long waitMillis;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public ImageRenditionService(
+            BlobStore blobStore,
+            @Value("${image.rendition.root:uploads/renditions}") String root,
+            @Value("${image.rendition.widths:200,1024}") int[] widths,
+            @Value("${image.rendition.workers:2}") int workers,
+            @Value("${image.rendition.queue-capacity:100}") int queueCapacity,
+            @Value("${image.rendition.wait-millis:5000}") long waitMillis
+    ) {
+        this.blobStore = blobStore;
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.widths = Arrays.stream(widths).filter(w -> w > 0).sorted().distinct().toArray();
+        this.waitMillis = waitMillis;
+        int poolSize = Math.max(1, workers);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread t = new Thread(r, "image-rendition");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public int[] getWidths() {
+        return widths.clone();
+    }
+
+    public boolean isSupportedWidth(int width) {
+        return Arrays.binarySearch(widths, width) >= 0;
+    }
+
+    /** 업로드 직후 미리 생성 (대기열이 가득 차면 조회 시점으로 미룸) */
+    public void generateAsync(String hash) {
+        try {
+            schedule(hash);
+        } catch (RejectedExecutionException e) {
+            // 첫 조회 때 생성
+        }
+    }
+
+    /**
+     * 축소본 조회. 아직 없으면 생성을 기다림 (wait-millis).
+     * empty: 원본을 그대로 응답 (원본이 더 작음, 지원하지 않는 형식, 생성 지연·실패)
+     */
+    public Optional<Rendition> get(String hash, int width) {
+        if (!isSupportedWidth(width)) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 크기입니다: " + width);
+        }
+        if (hash == null || !hash.matches("[0-9a-f]{64}")) {
+            return Optional.empty();
+        }
+        Optional<Rendition> existing = find(hash, width);
+        if (existing.isPresent() || Files.exists(markerPath(hash, width))) {
+            return existing;
+        }
+        try {
+            schedule(hash).get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException | TimeoutException | ExecutionException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+        return find(hash, width);
+    }
+
+    /** 이 너비에 원본을 그대로 쓰기로 확정된 사진인지 (.orig 표시 파일). 아니면 원본 응답은 축소본이 생기기 전 임시 응답 */
+    public boolean servesOriginal(String hash, int width) {
+        return hash != null && hash.matches("[0-9a-f]{64}") && Files.exists(markerPath(hash, width));
+    }
+
+    /** 원본이 삭제되면 축소본도 삭제 */
+    public void delete(String hash) {
+        for (int width : widths) {
+            try {
+                Files.deleteIfExists(renditionPath(hash, width, "jpg"));
+                Files.deleteIfExists(renditionPath(hash, width, "png"));
+                Files.deleteIfExists(markerPath(hash, width));
+            } catch (IOException e) {
+                System.err.println("축소본 삭제 실패 (" + hash + "): " + e.getMessage());
+            }
+        }
+    }
+
+    private Optional<Rendition> find(String hash, int width) {
+        Path jpg = renditionPath(hash, width, "jpg");
+        if (Files.isRegularFile(jpg)) {
+            return Optional.of(new Rendition(new FileSystemResource(jpg), JPEG));
+        }
+        Path png = renditionPath(hash, width, "png");
+        if (Files.isRegularFile(png)) {
+            return Optional.of(new Rendition(new FileSystemResource(png), PNG));
+        }
+        return Optional.empty();
+    }
+
+    /** 같은 원본의 생성 요청은 하나로 합침 */
+    private CompletableFuture<Void> schedule(String hash) {
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(hash, created);
+        if (running != null) {
+            return running;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(hash);
+                    created.complete(null);
+                } catch (Throwable e) {
+                    System.err.println("축소본 생성 실패 (" + hash + "): " + e.getMessage());
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(hash, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(hash, created);
+            throw e;
+        }
+        return created;
+    }
+
+    private void generate(String hash) throws IOException {
+        int[] missing = Arrays.stream(widths)
+                .filter(w -> find(hash, w).isEmpty() && !Files.exists(markerPath(hash, w)))
+                .toArray();
+        if (missing.length == 0) {
+            return;
+        }
+        Resource original = blobStore.get(hash)
+                .orElseThrow(() -> new IllegalArgumentException("이미지를 찾을 수 없습니다: " + hash));
+
+        BufferedImage source;
+        try (InputStream in = original.getInputStream();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                // ImageIO 기본 리더가 없는 형식(WEBP 등)은 원본으로 응답
+                markAll(hash, missing);
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int srcWidth = reader.getWidth(0);
+                int srcHeight = reader.getHeight(0);
+                if ((long) srcWidth * srcHeight > MAX_SOURCE_PIXELS) {
+                    markAll(hash, missing);
+                    return;
+                }
+                int largest = missing[missing.length - 1];
+                ImageReadParam param = reader.getDefaultReadParam();
+                // 가장 큰 목표의 2배 이상 해상도까지만 디코딩 (축소 품질 유지, 서브샘플링해도 목표보다 작아지지 않음)
+                int subsampling = Math.max(1, srcWidth / (largest * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                source = reader.read(0, param);
+            } catch (IIOException e) {
+                // CMYK JPEG 등 디코딩 불가: 매번 다시 시도하지 않도록 원본 응답으로 표시
+                System.err.println("축소본 생성 불가 (" + hash + "): " + e.getMessage());
+                markAll(hash, missing);
+                return;
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        // 큰 축소본부터 만들고 그 결과에서 다음 축소본을 만들어 단계적으로 줄임
+        BufferedImage current = source;
+        for (int i = missing.length - 1; i >= 0; i--) {
+            int width = missing[i];
+            if (current.getWidth() <= width) {
+                markAll(hash, new int[]{width});
+                continue;
+            }
+            current = scaleToWidth(current, width, alpha);
+            write(current, renditionPath(hash, width, alpha ? "png" : "jpg"), alpha);
+        }
+    }
+
+    private void markAll(String hash, int[] missing) throws IOException {
+        for (int width : missing) {
+            Path marker = markerPath(hash, width);
+            Files.createDirectories(marker.getParent());
+            Files.write(marker, new byte[0]);
+        }
+    }
+
+    private static BufferedImage scaleToWidth(BufferedImage src, int width, boolean alpha) {
+        BufferedImage current = src;
+        int targetHeight = Math.max(1, (int) Math.round((double) src.getHeight() * width / src.getWidth()));
+        // 한 번에 크게 줄이면 계단 현상이 생겨 절반씩 단계적으로 축소
+        while (current.getWidth() / 2 >= width) {
+            current = resize(current, current.getWidth() / 2,
+                    Math.max(1, current.getHeight() / 2), alpha);
+        }
+        return resize(current, width, targetHeight, alpha);
+    }
+
+    private static BufferedImage resize(BufferedImage src, int width, int height, boolean alpha) {
+        BufferedImage out = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private void write(BufferedImage image, Path target, boolean png) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmp = target.resolveSibling(UUID.randomUUID() + ".part");
+        try {
+            if (png) {
+                ImageIO.write(image, "png", tmp.toFile());
+            } else {
+                ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+                try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+                    ImageWriteParam param = writer.getDefaultWriteParam();
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(JPEG_QUALITY);
+                    writer.setOutput(out);
+                    writer.write(null, new IIOImage(image, null, null), param);
+                } finally {
+                    writer.dispose();
+                }
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private Path renditionPath(String hash, int width, String extension) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash + "_" + width + "." + extension);
+    }
+
+    private Path markerPath(String hash, int width) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash + "_" + width + ".orig");
+    }
+
+    public static final class Rendition {
+        private final Resource resource;
+        private final String contentType;
+
+        private Rendition(Resource resource, String contentType) {
+            this.resource = resource;
+            this.contentType = contentType;
+        }
+
+        public Resource getResource() {
+            return resource;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+}
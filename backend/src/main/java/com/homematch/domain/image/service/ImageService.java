@@ -0,0 +1,261 @@
+package com.homematch.domain.image.service;
+
+import com.homematch.global.storage.BlobStore;
+import com.homematch.global.storage.ContentTypes;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입주 상태·하자 사진 저장 (BlobStore).
+ * - DB 행에는 "/api/images/{sha256}" 만 저장하고 이미지 본문은 BlobStore 파일로 보관
+ * - 참조 수: 사진을 쓰는 행 하나당 1. 행 생성/사진 변경 시 acquire, 행 삭제/사진 교체 시 release
+ * - 업로드(POST /api/images) 시점의 참조는 upload-grace 뒤 해제 → 그 사이 행이 acquire하지 않은 사진은 삭제됨
+ *   (서버 재시작으로 예약이 사라지면 파일이 남을 뿐 사용 중인 사진이 지워지지는 않음)
+ * - 이전 클라이언트가 보내는 data URL(base64)도 받아서 파일로 옮겨 저장
+ * - 저장 직후 축소본(썸네일·상세 보기)을 미리 생성. 응답에는 "?w={너비}" 주소를 함께 내려 목록은 썸네일만 받음
+ */
+@Service
+public class ImageService {
+
+    public static final String URL_PREFIX = "/api/images/";
+    /** 외부 URL 등 그대로 저장하는 값의 최대 길이 (image_url 컬럼 길이) */
+    public static final int MAX_URL_LENGTH = 500;
+
+    private static final String DATA_URL_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+
+    private final BlobStore blobStore;
+    private final ImageRenditionService imageRenditionService;
+    private final long maxFileSizeBytes;
+    private final long uploadGraceMillis;
+    private final ScheduledExecutorService releaseScheduler;
+
+    public ImageService(
+            BlobStore blobStore,
+            ImageRenditionService imageRenditionService,
+            @Value("${image.max-file-size:5MB}") DataSize maxFileSize,
+            @Value("${image.upload-grace-minutes:60}") long uploadGraceMinutes
+    ) {
+        this.blobStore = blobStore;
+        this.imageRenditionService = imageRenditionService;
+        this.maxFileSizeBytes = maxFileSize.toBytes();
+        this.uploadGraceMillis = TimeUnit.MINUTES.toMillis(Math.max(1, uploadGraceMinutes));
+        this.releaseScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "image-upload-release");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        releaseScheduler.shutdownNow();
+    }
+
+    /** multipart 업로드 저장. 반환: 행에 넣을 이미지 URL */
+    public String upload(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("이미지 파일이 비어있습니다.");
+        }
+        checkSize(file.getSize());
+
+        Path staged = blobStore.newStagingPath();
+        try {
+            file.transferTo(staged.toFile());
+        } catch (IllegalStateException | IOException moveFailed) {
+            Files.deleteIfExists(staged);
+            try (InputStream in = file.getInputStream()) {
+                Files.copy(in, staged);
+            }
+        }
+        String contentType;
+        try (InputStream in = Files.newInputStream(staged)) {
+            contentType = detectContentType(in.readNBytes(ContentTypes.HEAD_LENGTH));
+        } catch (IOException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+        if (contentType == null) {
+            Files.deleteIfExists(staged);
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. (JPEG, PNG, GIF, WEBP)");
+        }
+
+        String hash = blobStore.put(staged, contentType);
+        imageRenditionService.generateAsync(hash);
+        releaseScheduler.schedule(() -> safeRelease(hash), uploadGraceMillis, TimeUnit.MILLISECONDS);
+        return URL_PREFIX + hash;
+    }
+
+    /**
+     * 행에 저장할 이미지 URL로 변환하고 참조 1 확보.
+     * - data URL: 디코딩해 BlobStore에 저장
+     * - /api/images/{hash}: 기존 파일 참조 추가
+     * - 그 외(외부 URL): 길이만 확인하고 그대로
+     */
+    public String acquire(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) {
+            throw new IllegalArgumentException("이미지가 없습니다.");
+        }
+        if (imageUrl.startsWith(DATA_URL_PREFIX)) {
+            try {
+                return URL_PREFIX + storeDataUrl(imageUrl);
+            } catch (IOException e) {
+                throw new UncheckedIOException("이미지 저장 중 오류가 발생했습니다.", e);
+            }
+        }
+        String hash = hashOf(imageUrl);
+        if (hash != null) {
+            blobStore.retain(hash);
+            return imageUrl;
+        }
+        if (imageUrl.length() > MAX_URL_LENGTH) {
+            throw new IllegalArgumentException("이미지 URL이 너무 깁니다.");
+        }
+        return imageUrl;
+    }
+
+    /** 행이 더 이상 쓰지 않는 이미지 참조 해제. 트랜잭션 안이면 커밋 후에 해제 (롤백 시 파일 유지) */
+    public void release(String imageUrl) {
+        String hash = hashOf(imageUrl);
+        if (hash == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // 커밋 콜백 안에서는 같은 트랜잭션 자원이 묶여 있어 별도 스레드에서 해제
+                    releaseScheduler.execute(() -> safeRelease(hash));
+                }
+            });
+        } else {
+            safeRelease(hash);
+        }
+    }
+
+    public Optional<Resource> load(String hash) {
+        return blobStore.get(hash);
+    }
+
+    /**
+     * 사진으로 응답해도 되는 파일의 형식. BlobStore는 계약서·등기부등본 파일도 함께 보관하므로
+     * 저장된 형식이 사진 형식이고 실제 내용(매직 넘버)도 같은 형식일 때만 반환, 아니면 empty
+     */
+    public Optional<String> imageContentType(String hash) {
+        if (hash == null || !hash.matches("[0-9a-f]{64}")) {
+            return Optional.empty();
+        }
+        Optional<String> stored = blobStore.contentType(hash).filter(ContentTypes::isImage);
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Resource> resource = blobStore.get(hash);
+        if (resource.isEmpty()) {
+            return Optional.empty();
+        }
+        try (InputStream in = resource.get().getInputStream()) {
+            String detected = ContentTypes.detect(in.readNBytes(ContentTypes.HEAD_LENGTH));
+            return stored.filter(type -> type.equals(detected));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /** 목록용 썸네일 주소 (가장 작은 축소본). 저장소 밖 URL은 그대로 */
+    public String thumbnailUrl(String imageUrl) {
+        int[] widths = imageRenditionService.getWidths();
+        return widths.length == 0 ? imageUrl : renditionUrl(imageUrl, widths[0]);
+    }
+
+    /** 상세 보기용 주소 (가장 큰 축소본). 원본은 imageUrl 그대로 */
+    public String displayUrl(String imageUrl) {
+        int[] widths = imageRenditionService.getWidths();
+        return widths.length == 0 ? imageUrl : renditionUrl(imageUrl, widths[widths.length - 1]);
+    }
+
+    public static String renditionUrl(String imageUrl, int width) {
+        return hashOf(imageUrl) != null ? imageUrl + "?w=" + width : imageUrl;
+    }
+
+    public static boolean isDataUrl(String imageUrl) {
+        return imageUrl != null && imageUrl.startsWith(DATA_URL_PREFIX);
+    }
+
+    private String storeDataUrl(String dataUrl) throws IOException {
+        int marker = dataUrl.indexOf(BASE64_MARKER);
+        if (marker < 0) {
+            throw new IllegalArgumentException("base64 data URL 형식이 아닙니다.");
+        }
+        String payload = dataUrl.substring(marker + BASE64_MARKER.length());
+        // 디코딩 전에 크기 확인 (base64 4글자 = 3바이트)
+        checkSize((long) payload.length() / 4 * 3);
+
+        byte[] encoded = payload.getBytes(StandardCharsets.US_ASCII);
+        String contentType;
+        try (InputStream head = Base64.getMimeDecoder().wrap(new ByteArrayInputStream(encoded))) {
+            contentType = detectContentType(head.readNBytes(ContentTypes.HEAD_LENGTH));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("이미지 데이터를 해석할 수 없습니다.");
+        }
+        if (contentType == null) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. (JPEG, PNG, GIF, WEBP)");
+        }
+        String hash;
+        try (InputStream in = Base64.getMimeDecoder().wrap(new ByteArrayInputStream(encoded))) {
+            hash = blobStore.put(in, contentType);
+        }
+        imageRenditionService.generateAsync(hash);
+        return hash;
+    }
+
+    private void checkSize(long size) {
+        if (size > maxFileSizeBytes) {
+            throw new IllegalArgumentException("이미지 크기가 너무 큽니다. (최대 "
+                    + DataSize.ofBytes(maxFileSizeBytes).toMegabytes() + "MB)");
+        }
+    }
+
+    private void safeRelease(String hash) {
+        try {
+            blobStore.release(hash);
+            if (blobStore.get(hash).isEmpty()) {
+                imageRenditionService.delete(hash);
+            }
+        } catch (Exception e) {
+            System.err.println("이미지 참조 해제 실패 (" + hash + "): " + e.getMessage());
+        }
+    }
+
+    private static String hashOf(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String hash = imageUrl.substring(URL_PREFIX.length());
+        return hash.matches("[0-9a-f]{64}") ? hash : null;
+    }
+
+    /** 사진 형식만 (매직 넘버 기준, 클라이언트가 보낸 Content-Type은 믿지 않음) */
+    private static String detectContentType(byte[] head) {
+        String contentType = ContentTypes.detect(head);
+        return ContentTypes.isImage(contentType) ? contentType : null;
+    }
+}
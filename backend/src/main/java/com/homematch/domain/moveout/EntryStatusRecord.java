@@ -23,7 +23,7 @@ public class EntryStatusRecord {
     @JoinColumn(name = "user_id", referencedColumnName = "user_no", nullable = false)
     private User user;
 
-    @Column(name = "image_url", nullable = false, columnDefinition = "MEDIUMTEXT")
+    @Column(name = "image_url", nullable = false, length = 500)
     private String imageUrl;
 
     @Column(name = "record_type", nullable = false, length = 50)
@@ -1,14 +1,42 @@
 package com.homematch.domain.moveout;
 
+import com.homematch.domain.moveout.dto.EntryStatusRecordSummaryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EntryStatusRecordRepository extends JpaRepository<EntryStatusRecord, Long> {
     @Query("SELECT e FROM EntryStatusRecord e JOIN e.user u WHERE u.user_no = :userNo ORDER BY e.recordDate DESC")
     List<EntryStatusRecord> findByUser_User_noOrderByRecordDateDesc(@Param("userNo") Integer userNo);
+
+    // data URL(base64) 이미지 이전 작업용: 본문 없이 id만 조회
+    @Query("SELECT e.id FROM EntryStatusRecord e WHERE e.id > :afterId AND e.imageUrl LIKE 'data:%' ORDER BY e.id")
+    List<Long> findDataUrlImageIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT e.imageUrl FROM EntryStatusRecord e WHERE e.id = :id")
+    Optional<String> findImageUrlById(@Param("id") Long id);
+
+    // 이전 도중 사용자가 사진을 바꿨으면 덮어쓰지 않음 (0 반환)
+    @Modifying
+    @Transactional
+    @Query("UPDATE EntryStatusRecord e SET e.imageUrl = :imageUrl WHERE e.id = :id AND e.imageUrl LIKE 'data:%'")
+    int replaceDataUrlImage(@Param("id") Long id, @Param("imageUrl") String imageUrl);
+
+    @Query(value = "SELECT new com.homematch.domain.moveout.dto.EntryStatusRecordSummaryResponse(" +
+            "e.id, e.imageUrl, e.recordType, e.recordDate) " +
+            "FROM EntryStatusRecord e JOIN e.user u WHERE u.user_no = :userNo ORDER BY e.recordDate DESC, e.id DESC",
+            countQuery = "SELECT COUNT(e) FROM EntryStatusRecord e JOIN e.user u WHERE u.user_no = :userNo")
+    Page<EntryStatusRecordSummaryResponse> findSummariesByUserNo(@Param("userNo") Integer userNo, Pageable pageable);
+
+    @Query("SELECT e FROM EntryStatusRecord e JOIN e.user u WHERE u.user_no = :userNo AND e.id = :id")
+    Optional<EntryStatusRecord> findByUserNoAndId(@Param("userNo") Integer userNo, @Param("id") Long id);
 }
@@ -1,6 +1,7 @@
 package com.homematch.domain.moveout;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -8,7 +9,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface MoveoutChecklistRepository extends JpaRepository<MoveoutChecklist, Long> {
+public interface MoveoutChecklistRepository extends JpaRepository<MoveoutChecklist, Long>, MoveoutChecklistRepositoryCustom {
     @Query("SELECT m FROM MoveoutChecklist m JOIN m.user u WHERE u.user_no = :userNo AND m.checklistType = :checklistType ORDER BY m.id")
     List<MoveoutChecklist> findByUser_User_noAndChecklistTypeOrderById(@Param("userNo") Integer userNo, @Param("checklistType") String checklistType);
     
@@ -18,4 +19,17 @@ public interface MoveoutChecklistRepository extends JpaRepository<MoveoutCheckli
     // 중복 체크: 같은 사용자, 같은 타입, 같은 항목명이 이미 있는지 확인
     @Query("SELECT COUNT(m) > 0 FROM MoveoutChecklist m JOIN m.user u WHERE u.user_no = :userNo AND m.checklistType = :checklistType AND m.itemName = :itemName")
     boolean existsByUser_User_noAndChecklistTypeAndItemName(@Param("userNo") Integer userNo, @Param("checklistType") String checklistType, @Param("itemName") String itemName);
+
+    /** 여러 항목 완료 여부 한 번에 변경. 다른 사용자의 항목은 조건에서 빠짐. 이미 완료된 항목은 처음 완료 시각 유지 */
+    @Modifying
+    @Query(value = "UPDATE moveout_checklists SET "
+            + "completed_at = IF(:completed, IF(is_completed, completed_at, NOW()), NULL), "
+            + "is_completed = :completed, updated_at = NOW() "
+            + "WHERE user_id = :userNo AND id IN (:ids)", nativeQuery = true)
+    int updateCompletion(@Param("userNo") Integer userNo,
+                         @Param("ids") List<Long> ids,
+                         @Param("completed") boolean completed);
+
+    @Query("SELECT m FROM MoveoutChecklist m JOIN m.user u WHERE u.user_no = :userNo AND m.id IN :ids ORDER BY m.id")
+    List<MoveoutChecklist> findByUserNoAndIdIn(@Param("userNo") Integer userNo, @Param("ids") List<Long> ids);
 }
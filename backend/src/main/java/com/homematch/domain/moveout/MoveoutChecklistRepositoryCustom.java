@@ -0,0 +1,14 @@
+package com.homematch.domain.moveout;
+
+import com.homematch.domain.moveout.dto.MoveoutChecklistRequest;
+
+import java.util.List;
+
+public interface MoveoutChecklistRepositoryCustom {
+
+    /**
+     * 여러 항목을 INSERT ... ON DUPLICATE KEY UPDATE 로 저장 (uk_user_checklist_type_item).
+     * 보낸 필드 조합(isCompleted·notes 유무)마다 문장 1개 → 보통 1번, 최대 4번 실행
+     */
+    void upsertAll(Integer userNo, List<MoveoutChecklistRequest> items);
+}
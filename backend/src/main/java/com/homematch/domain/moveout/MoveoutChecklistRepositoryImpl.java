@@ -0,0 +1,66 @@
+package com.homematch.domain.moveout;
+
+import com.homematch.domain.moveout.dto.MoveoutChecklistRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class MoveoutChecklistRepositoryImpl implements MoveoutChecklistRepositoryCustom {
+
+    private static final String INSERT_PREFIX = "INSERT INTO moveout_checklists "
+            + "(user_id, checklist_type, item_name, is_completed, completed_at, notes, created_at, updated_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, NOW(), NOW())";
+    // 완료 시각은 기존 값보다 먼저 계산 (이미 완료된 항목은 처음 완료 시각 유지)
+    private static final String UPDATE_COMPLETED = "completed_at = IF(VALUES(is_completed), "
+            + "IF(is_completed, completed_at, VALUES(completed_at)), NULL), is_completed = VALUES(is_completed)";
+    private static final String UPDATE_NOTES = "notes = VALUES(notes)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(Integer userNo, List<MoveoutChecklistRequest> items) {
+        Map<String, List<MoveoutChecklistRequest>> groups = items.stream()
+                .collect(Collectors.groupingBy(
+                        item -> (item.getIsCompleted() != null ? "C" : "") + (item.getNotes() != null ? "N" : ""),
+                        LinkedHashMap::new, Collectors.toList()));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (Map.Entry<String, List<MoveoutChecklistRequest>> group : groups.entrySet()) {
+            List<String> updates = new ArrayList<>();
+            if (group.getKey().contains("C")) {
+                updates.add(UPDATE_COMPLETED);
+            }
+            if (group.getKey().contains("N")) {
+                updates.add(UPDATE_NOTES);
+            }
+            // 보낸 값이 없으면 없는 항목만 추가하고 기존 항목은 그대로
+            String onDuplicate = updates.isEmpty() ? "id = id" : String.join(", ", updates) + ", updated_at = NOW()";
+
+            List<MoveoutChecklistRequest> rows = group.getValue();
+            String sql = INSERT_PREFIX
+                    + String.join(", ", Collections.nCopies(rows.size(), ROW))
+                    + " ON DUPLICATE KEY UPDATE " + onDuplicate;
+            Object[] args = new Object[rows.size() * 6];
+            int i = 0;
+            for (MoveoutChecklistRequest row : rows) {
+                boolean completed = Boolean.TRUE.equals(row.getIsCompleted());
+                args[i++] = userNo;
+                args[i++] = row.getChecklistType();
+                args[i++] = row.getItemName();
+                args[i++] = completed;
+                args[i++] = completed ? now : null;
+                args[i++] = row.getNotes();
+            }
+            jdbcTemplate.update(sql, args);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.homematch.domain.user.User;
 import com.homematch.domain.user.UserRepository;
 import com.homematch.global.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -46,6 +47,38 @@ public class MoveoutController {
         }
     }
 
+    /**
+     * 입주 상태 기록 목록 요약 (최신순 페이지, 설명 없이 썸네일만)
+     */
+    @GetMapping("/entry-status-records/summaries")
+    public ResponseEntity<Page<EntryStatusRecordSummaryResponse>> getEntryStatusRecordSummaries(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            return ResponseEntity.ok(moveoutService.getEntryStatusRecordSummaries(userNo, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    @GetMapping("/entry-status-records/{id}")
+    public ResponseEntity<EntryStatusRecordResponse> getEntryStatusRecord(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long id) {
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            return ResponseEntity.ok(moveoutService.getEntryStatusRecord(userNo, id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
     @PostMapping("/entry-status-records")
     public ResponseEntity<?> createEntryStatusRecord(
             @RequestHeader("Authorization") String authHeader,
@@ -109,6 +142,36 @@ public class MoveoutController {
         }
     }
 
+    /** 여러 항목 한 번에 생성/수정. 반환: 사용자의 전체 체크리스트 */
+    @PostMapping("/checklists/bulk")
+    public ResponseEntity<List<MoveoutChecklistResponse>> upsertMoveoutChecklists(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestBody MoveoutChecklistBulkRequest request) {
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            List<MoveoutChecklistResponse> checklists = moveoutService.upsertMoveoutChecklists(userNo, request);
+            return ResponseEntity.ok(checklists);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /** 여러 항목 완료 여부 일괄 변경 */
+    @PatchMapping("/checklists/completion")
+    public ResponseEntity<List<MoveoutChecklistResponse>> updateMoveoutChecklistCompletion(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestBody MoveoutChecklistCompletionRequest request) {
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            List<MoveoutChecklistResponse> checklists = moveoutService.updateMoveoutChecklistCompletion(userNo, request);
+            return ResponseEntity.ok(checklists);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
     @PutMapping("/checklists/{id}")
     public ResponseEntity<MoveoutChecklistResponse> updateMoveoutChecklist(
             @RequestHeader("Authorization") String authHeader,
@@ -198,6 +261,38 @@ public class MoveoutController {
         }
     }
 
+    /**
+     * 퇴실 사진 목록 요약 (최신순 페이지, 설명 없이 썸네일만)
+     */
+    @GetMapping("/photos/summaries")
+    public ResponseEntity<Page<MoveoutPhotoSummaryResponse>> getMoveoutPhotoSummaries(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            return ResponseEntity.ok(moveoutService.getMoveoutPhotoSummaries(userNo, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    @GetMapping("/photos/{id}")
+    public ResponseEntity<MoveoutPhotoResponse> getMoveoutPhoto(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long id) {
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            return ResponseEntity.ok(moveoutService.getMoveoutPhoto(userNo, id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
     @PostMapping("/photos")
     public ResponseEntity<MoveoutPhotoResponse> createMoveoutPhoto(
             @RequestHeader("Authorization") String authHeader,
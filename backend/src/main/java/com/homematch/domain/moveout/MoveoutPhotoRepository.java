@@ -1,14 +1,27 @@
 package com.homematch.domain.moveout;
 
+import com.homematch.domain.moveout.dto.MoveoutPhotoSummaryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MoveoutPhotoRepository extends JpaRepository<MoveoutPhoto, Long> {
     @Query("SELECT m FROM MoveoutPhoto m JOIN m.user u WHERE u.user_no = :userNo ORDER BY m.takenDate DESC")
     List<MoveoutPhoto> findByUser_User_noOrderByTakenDateDesc(@Param("userNo") Integer userNo);
+
+    @Query(value = "SELECT new com.homematch.domain.moveout.dto.MoveoutPhotoSummaryResponse(" +
+            "m.id, m.photoUrl, m.photoType, m.takenDate) " +
+            "FROM MoveoutPhoto m JOIN m.user u WHERE u.user_no = :userNo ORDER BY m.takenDate DESC, m.id DESC",
+            countQuery = "SELECT COUNT(m) FROM MoveoutPhoto m JOIN m.user u WHERE u.user_no = :userNo")
+    Page<MoveoutPhotoSummaryResponse> findSummariesByUserNo(@Param("userNo") Integer userNo, Pageable pageable);
+
+    @Query("SELECT m FROM MoveoutPhoto m JOIN m.user u WHERE u.user_no = :userNo AND m.id = :id")
+    Optional<MoveoutPhoto> findByUserNoAndId(@Param("userNo") Integer userNo, @Param("id") Long id);
 }
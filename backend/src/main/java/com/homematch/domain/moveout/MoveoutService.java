@@ -1,14 +1,22 @@
 package com.homematch.domain.moveout;
 
+import com.homematch.domain.evidence.EvidenceSourceType;
+import com.homematch.domain.evidence.service.EvidenceSearchService;
+import com.homematch.domain.image.service.ImageService;
 import com.homematch.domain.moveout.dto.*;
 import com.homematch.domain.user.User;
 import com.homematch.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -16,6 +24,9 @@ import java.util.stream.Collectors;
 @Transactional
 public class MoveoutService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CHECKLIST_BULK_ITEMS = 200;
+
     private final EntryStatusRecordRepository entryStatusRecordRepository;
     private final MoveoutChecklistRepository moveoutChecklistRepository;
     private final DepositManagementRepository depositManagementRepository;
@@ -23,6 +34,8 @@ public class MoveoutService {
     private final DisputeRecordRepository disputeRecordRepository;
     private final DepositReturnHistoryRepository depositReturnHistoryRepository;
     private final UserRepository userRepository;
+    private final ImageService imageService;
+    private final EvidenceSearchService evidenceSearchService;
 
     // ========== Entry Status Records ==========
     public List<EntryStatusRecordResponse> getEntryStatusRecords(Integer userNo) {
@@ -32,19 +45,40 @@ public class MoveoutService {
                 .collect(Collectors.toList());
     }
 
+    /** 목록용 요약 (최신순 페이지, 설명 미조회) */
+    @Transactional(readOnly = true)
+    public Page<EntryStatusRecordSummaryResponse> getEntryStatusRecordSummaries(Integer userNo, int page, int size) {
+        Page<EntryStatusRecordSummaryResponse> summaries =
+                entryStatusRecordRepository.findSummariesByUserNo(userNo, pageRequest(page, size));
+        summaries.forEach(s -> {
+            s.setThumbnailUrl(imageService.thumbnailUrl(s.getImageUrl()));
+            s.setDisplayUrl(imageService.displayUrl(s.getImageUrl()));
+        });
+        return summaries;
+    }
+
+    @Transactional(readOnly = true)
+    public EntryStatusRecordResponse getEntryStatusRecord(Integer userNo, Long id) {
+        EntryStatusRecord record = entryStatusRecordRepository.findByUserNoAndId(userNo, id)
+                .orElseThrow(() -> new IllegalArgumentException("기록을 찾을 수 없습니다."));
+        return toEntryStatusRecordResponse(record);
+    }
+
     public EntryStatusRecordResponse createEntryStatusRecord(Integer userNo, EntryStatusRecordRequest request) {
         User user = userRepository.findById(userNo)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         EntryStatusRecord record = EntryStatusRecord.builder()
                 .user(user)
-                .imageUrl(request.getImageUrl())
+                .imageUrl(imageService.acquire(request.getImageUrl()))
                 .recordType(request.getRecordType())
                 .recordDate(request.getRecordDate())
                 .description(request.getDescription())
                 .build();
 
         EntryStatusRecord saved = entryStatusRecordRepository.save(record);
+        evidenceSearchService.indexEntryStatusRecord(userNo, saved.getId(), saved.getRecordType(),
+                saved.getDescription(), saved.getRecordDate());
         return toEntryStatusRecordResponse(saved);
     }
 
@@ -57,12 +91,16 @@ public class MoveoutService {
         }
 
         entryStatusRecordRepository.delete(record);
+        evidenceSearchService.remove(EvidenceSourceType.ENTRY_STATUS_RECORD, id);
+        imageService.release(record.getImageUrl());
     }
 
     private EntryStatusRecordResponse toEntryStatusRecordResponse(EntryStatusRecord record) {
         return EntryStatusRecordResponse.builder()
                 .id(record.getId())
                 .imageUrl(record.getImageUrl())
+                .thumbnailUrl(imageService.thumbnailUrl(record.getImageUrl()))
+                .displayUrl(imageService.displayUrl(record.getImageUrl()))
                 .recordType(record.getRecordType())
                 .recordDate(record.getRecordDate())
                 .description(record.getDescription())
@@ -125,6 +163,52 @@ public class MoveoutService {
         }
     }
 
+    /**
+     * 체크리스트 여러 항목 생성/수정 (기본 체크리스트 초기화 등).
+     * 항목별 조회·중복 검사 없이 INSERT ... ON DUPLICATE KEY UPDATE 로 저장 후 전체 체크리스트 1번 조회
+     */
+    public List<MoveoutChecklistResponse> upsertMoveoutChecklists(Integer userNo, MoveoutChecklistBulkRequest request) {
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("저장할 항목이 없습니다.");
+        }
+        if (request.getItems().size() > MAX_CHECKLIST_BULK_ITEMS) {
+            throw new IllegalArgumentException("한 번에 저장할 수 있는 항목은 최대 " + MAX_CHECKLIST_BULK_ITEMS + "개입니다.");
+        }
+        // 같은 타입·항목명이 여러 번 오면 마지막 값 사용
+        Map<String, MoveoutChecklistRequest> items = new LinkedHashMap<>();
+        for (MoveoutChecklistRequest item : request.getItems()) {
+            if (item.getChecklistType() == null || item.getChecklistType().isBlank()
+                    || item.getItemName() == null || item.getItemName().isBlank()) {
+                throw new IllegalArgumentException("체크리스트 타입과 항목명은 필수입니다.");
+            }
+            if (item.getChecklistType().length() > 20 || item.getItemName().length() > 100) {
+                throw new IllegalArgumentException("체크리스트 타입 또는 항목명이 너무 깁니다.");
+            }
+            items.put(item.getChecklistType() + ":" + item.getItemName(), item);
+        }
+        if (!userRepository.existsById(userNo)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+
+        moveoutChecklistRepository.upsertAll(userNo, new ArrayList<>(items.values()));
+        return getMoveoutChecklists(userNo, null);
+    }
+
+    /** 여러 항목 완료/미완료 일괄 변경 (UPDATE 1번). 반환: 변경된 항목 */
+    public List<MoveoutChecklistResponse> updateMoveoutChecklistCompletion(Integer userNo, MoveoutChecklistCompletionRequest request) {
+        if (request.getIds() == null || request.getIds().isEmpty() || request.getIsCompleted() == null) {
+            throw new IllegalArgumentException("변경할 항목과 완료 여부는 필수입니다.");
+        }
+        if (request.getIds().size() > MAX_CHECKLIST_BULK_ITEMS) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 항목은 최대 " + MAX_CHECKLIST_BULK_ITEMS + "개입니다.");
+        }
+        List<Long> ids = request.getIds().stream().distinct().collect(Collectors.toList());
+        moveoutChecklistRepository.updateCompletion(userNo, ids, request.getIsCompleted());
+        return moveoutChecklistRepository.findByUserNoAndIdIn(userNo, ids).stream()
+                .map(this::toMoveoutChecklistResponse)
+                .collect(Collectors.toList());
+    }
+
     public MoveoutChecklistResponse updateMoveoutChecklist(Integer userNo, Long id, MoveoutChecklistRequest request) {
         MoveoutChecklist checklist = moveoutChecklistRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("체크리스트를 찾을 수 없습니다."));
@@ -265,13 +349,32 @@ public class MoveoutService {
                 .collect(Collectors.toList());
     }
 
+    /** 목록용 요약 (최신순 페이지, 설명 미조회) */
+    @Transactional(readOnly = true)
+    public Page<MoveoutPhotoSummaryResponse> getMoveoutPhotoSummaries(Integer userNo, int page, int size) {
+        Page<MoveoutPhotoSummaryResponse> summaries =
+                moveoutPhotoRepository.findSummariesByUserNo(userNo, pageRequest(page, size));
+        summaries.forEach(s -> {
+            s.setThumbnailUrl(imageService.thumbnailUrl(s.getPhotoUrl()));
+            s.setDisplayUrl(imageService.displayUrl(s.getPhotoUrl()));
+        });
+        return summaries;
+    }
+
+    @Transactional(readOnly = true)
+    public MoveoutPhotoResponse getMoveoutPhoto(Integer userNo, Long id) {
+        MoveoutPhoto photo = moveoutPhotoRepository.findByUserNoAndId(userNo, id)
+                .orElseThrow(() -> new IllegalArgumentException("사진을 찾을 수 없습니다."));
+        return toMoveoutPhotoResponse(photo);
+    }
+
     public MoveoutPhotoResponse createMoveoutPhoto(Integer userNo, MoveoutPhotoRequest request) {
         User user = userRepository.findById(userNo)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         MoveoutPhoto photo = MoveoutPhoto.builder()
                 .user(user)
-                .photoUrl(request.getPhotoUrl())
+                .photoUrl(imageService.acquire(request.getPhotoUrl()))
                 .photoType(request.getPhotoType())
                 .takenDate(request.getTakenDate())
                 .description(request.getDescription())
@@ -290,12 +393,15 @@ public class MoveoutService {
         }
 
         moveoutPhotoRepository.delete(photo);
+        imageService.release(photo.getPhotoUrl());
     }
 
     private MoveoutPhotoResponse toMoveoutPhotoResponse(MoveoutPhoto photo) {
         return MoveoutPhotoResponse.builder()
                 .id(photo.getId())
                 .photoUrl(photo.getPhotoUrl())
+                .thumbnailUrl(imageService.thumbnailUrl(photo.getPhotoUrl()))
+                .displayUrl(imageService.displayUrl(photo.getPhotoUrl()))
                 .photoType(photo.getPhotoType())
                 .takenDate(photo.getTakenDate())
                 .description(photo.getDescription())
@@ -325,6 +431,8 @@ public class MoveoutService {
                 .build();
 
         DisputeRecord saved = disputeRecordRepository.save(record);
+        evidenceSearchService.indexDisputeRecord(userNo, saved.getId(), saved.getDisputeType(),
+                saved.getDescription(), saved.getResolution(), saved.getDisputeDate());
         return toDisputeRecordResponse(saved);
     }
 
@@ -374,4 +482,8 @@ public class MoveoutService {
                 .documentUrl(history.getDocumentUrl())
                 .build();
     }
+
+    private static PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
 }
@@ -14,6 +14,8 @@ import java.time.LocalDate;
 public class EntryStatusRecordResponse {
     private Long id;
     private String imageUrl;
+    private String thumbnailUrl; // 목록용 축소본
+    private String displayUrl; // 상세 보기용 축소본
     private String recordType;
     private LocalDate recordDate;
     private String description;
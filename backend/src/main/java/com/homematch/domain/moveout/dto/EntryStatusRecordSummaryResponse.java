@@ -0,0 +1,28 @@
+package com.homematch.domain.moveout.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/** 입주 상태 기록 목록 요약 (JPQL 생성자 projection, 설명 미조회). 상세는 /entry-status-records/{id} */
+@Getter
+@NoArgsConstructor
+public class EntryStatusRecordSummaryResponse {
+    private Long id;
+    private String imageUrl;
+    @Setter
+    private String thumbnailUrl; // 목록용 축소본 (조회 후 채움)
+    @Setter
+    private String displayUrl; // 상세 보기용 축소본 (조회 후 채움)
+    private String recordType;
+    private LocalDate recordDate;
+
+    public EntryStatusRecordSummaryResponse(Long id, String imageUrl, String recordType, LocalDate recordDate) {
+        this.id = id;
+        this.imageUrl = imageUrl;
+        this.recordType = recordType;
+        this.recordDate = recordDate;
+    }
+}
@@ -0,0 +1,20 @@
+package com.homematch.domain.moveout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 체크리스트 여러 항목 한 번에 생성/수정 (/api/moveout/checklists/bulk).
+ * 이미 있는 항목(같은 타입·항목명)은 isCompleted/notes 중 보낸 값만 바꾸고, 보내지 않은 값은 유지
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveoutChecklistBulkRequest {
+    private List<MoveoutChecklistRequest> items;
+}
@@ -0,0 +1,18 @@
+package com.homematch.domain.moveout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** 체크리스트 여러 항목 완료/미완료 일괄 변경 */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveoutChecklistCompletionRequest {
+    private List<Long> ids;
+    private Boolean isCompleted;
+}
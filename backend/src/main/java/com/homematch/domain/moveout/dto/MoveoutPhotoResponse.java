@@ -14,6 +14,8 @@ import java.time.LocalDate;
 public class MoveoutPhotoResponse {
     private Long id;
     private String photoUrl;
+    private String thumbnailUrl; // 목록용 축소본
+    private String displayUrl; // 상세 보기용 축소본
     private String photoType;
     private LocalDate takenDate;
     private String description;
@@ -0,0 +1,28 @@
+package com.homematch.domain.moveout.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/** 퇴실 사진 목록 요약 (JPQL 생성자 projection, 설명 미조회). 상세는 /photos/{id} */
+@Getter
+@NoArgsConstructor
+public class MoveoutPhotoSummaryResponse {
+    private Long id;
+    private String photoUrl;
+    @Setter
+    private String thumbnailUrl; // 목록용 축소본 (조회 후 채움)
+    @Setter
+    private String displayUrl; // 상세 보기용 축소본 (조회 후 채움)
+    private String photoType;
+    private LocalDate takenDate;
+
+    public MoveoutPhotoSummaryResponse(Long id, String photoUrl, String photoType, LocalDate takenDate) {
+        this.id = id;
+        this.photoUrl = photoUrl;
+        this.photoType = photoType;
+        this.takenDate = takenDate;
+    }
+}
@@ -5,10 +5,16 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface HousingCostSettingsRepository extends JpaRepository<HousingCostSettings, Long> {
     @Query("SELECT h FROM HousingCostSettings h JOIN h.user u WHERE u.user_no = :userNo")
     Optional<HousingCostSettings> findByUser_User_no(@Param("userNo") Integer userNo);
+
+    /** 자동 등록 사용자 번호를 afterUserNo 다음부터 limit개 (idx_auto_register_user 범위 스캔) */
+    @Query(value = "SELECT user_id FROM housing_cost_settings "
+            + "WHERE auto_register = TRUE AND user_id > :afterUserNo ORDER BY user_id LIMIT :limit", nativeQuery = true)
+    List<Integer> findAutoRegisterUserNosAfter(@Param("afterUserNo") Integer afterUserNo, @Param("limit") int limit);
 }
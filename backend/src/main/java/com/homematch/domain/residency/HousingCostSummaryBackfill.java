@@ -0,0 +1,102 @@
+package com.homematch.domain.residency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 연도별 주거비 합계 테이블 초기 채우기.
+ * - 시작 시 사용자 번호 순으로 chunk-size명씩 전체 연도 재집계 (여러 번 실행해도 결과 같음)
+ * - 진행 위치·완료 여부는 monthly_record_generation_checkpoints 의 BACKFILL_KEY 행에 저장
+ *   → 합계 행이 이미 있어도(자동 등록이 올해 행을 먼저 만든 경우 등) 완료 표시가 없으면 이어서 집계, 완료 후에는 다시 실행되지 않음
+ * - 이후에는 월별 기록 저장/삭제 시 증감분으로 유지됨
+ */
+@Component
+public class HousingCostSummaryBackfill {
+
+    /** 체크포인트 테이블의 월(YYYY-MM) 키와 겹치지 않는 예약 키 */
+    static final String BACKFILL_KEY = "SUMMARY";
+
+    private final MonthlyHousingRecordRepository monthlyHousingRecordRepository;
+    private final HousingCostYearlySummaryRepository housingCostYearlySummaryRepository;
+    private final MonthlyRecordGenerationCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public HousingCostSummaryBackfill(
+            MonthlyHousingRecordRepository monthlyHousingRecordRepository,
+            HousingCostYearlySummaryRepository housingCostYearlySummaryRepository,
+            MonthlyRecordGenerationCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${residency.cost-summary.backfill:true}") boolean enabled,
+            @Value("${residency.auto-register.chunk-size:2000}") int chunkSize
+    ) {
+        this.monthlyHousingRecordRepository = monthlyHousingRecordRepository;
+        this.housingCostYearlySummaryRepository = housingCostYearlySummaryRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.insertIfAbsent(BACKFILL_KEY));
+        boolean completed = checkpointRepository.findById(BACKFILL_KEY)
+                .map(checkpoint -> checkpoint.getCompletedAt() != null)
+                .orElse(false);
+        if (completed) {
+            return;
+        }
+        Thread t = new Thread(this::run, "housing-cost-summary-backfill");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    void run() {
+        long users = 0;
+        try {
+            while (true) {
+                Integer processed = transactionTemplate.execute(status -> runChunk());
+                if (processed == null || processed == 0) {
+                    break;
+                }
+                users += processed;
+            }
+            System.err.println("연도별 주거비 합계 초기 집계 완료: 사용자 " + users + "명");
+        } catch (Exception e) {
+            System.err.println("연도별 주거비 합계 초기 집계 중단 (이번 실행 사용자 " + users + "명 완료, 재시작 시 이어서 처리): "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * 한 청크 재집계 후 진행 위치 저장 (체크포인트 행 잠금 → 여러 인스턴스가 같은 구간을 동시에 처리하지 않음).
+     * 반환: 처리한 사용자 수, 0이면 완료
+     */
+    private int runChunk() {
+        MonthlyRecordGenerationCheckpoint checkpoint = checkpointRepository.findForUpdate(BACKFILL_KEY)
+                .orElseThrow(() -> new IllegalStateException("합계 초기 집계 체크포인트가 없습니다."));
+        if (checkpoint.getCompletedAt() != null) {
+            return 0;
+        }
+        List<Integer> userNos = monthlyHousingRecordRepository.findUserNosAfter(checkpoint.getLastUserNo(), chunkSize);
+        if (userNos.isEmpty()) {
+            checkpointRepository.markCompleted(BACKFILL_KEY);
+            return 0;
+        }
+        int toUserNo = userNos.get(userNos.size() - 1);
+        housingCostYearlySummaryRepository.rebuildRange(checkpoint.getLastUserNo(), toUserNo, null);
+        checkpointRepository.advance(BACKFILL_KEY, toUserNo, userNos.size());
+        return userNos.size();
+    }
+}
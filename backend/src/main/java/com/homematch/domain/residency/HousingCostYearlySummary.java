@@ -0,0 +1,74 @@
+package com.homematch.domain.residency;
+
+import com.homematch.domain.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자·연도별 주거비 합계 (monthly_housing_records 집계).
+ * 월별 기록을 저장/삭제하는 같은 트랜잭션에서 증감분만 반영 → 통계 조회는 연도 수만큼의 행만 읽음
+ */
+@Entity
+@Table(name = "housing_cost_yearly_summaries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cost_summary_user_year", columnNames = {"user_id", "year"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class HousingCostYearlySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", referencedColumnName = "user_no", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(name = "record_count", nullable = false)
+    private Integer recordCount;
+
+    @Column(name = "paid_count", nullable = false)
+    private Integer paidCount;
+
+    @Column(name = "rent_total", nullable = false, precision = 17, scale = 2)
+    private BigDecimal rentTotal;
+
+    @Column(name = "maintenance_total", nullable = false, precision = 17, scale = 2)
+    private BigDecimal maintenanceTotal;
+
+    @Column(name = "utilities_total", nullable = false, precision = 17, scale = 2)
+    private BigDecimal utilitiesTotal;
+
+    @Column(name = "paid_rent", nullable = false, precision = 17, scale = 2)
+    private BigDecimal paidRent;
+
+    @Column(name = "paid_maintenance", nullable = false, precision = 17, scale = 2)
+    private BigDecimal paidMaintenance;
+
+    @Column(name = "paid_utilities", nullable = false, precision = 17, scale = 2)
+    private BigDecimal paidUtilities;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,70 @@
+package com.homematch.domain.residency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface HousingCostYearlySummaryRepository extends JpaRepository<HousingCostYearlySummary, Long> {
+
+    @Query("SELECT s FROM HousingCostYearlySummary s JOIN s.user u WHERE u.user_no = :userNo ORDER BY s.year DESC")
+    List<HousingCostYearlySummary> findByUserNoOrderByYearDesc(@Param("userNo") Integer userNo);
+
+    /** 증감분 반영. 행이 없으면 생성 (동시 저장에도 행 단위 원자적 갱신) */
+    @Modifying
+    @Query(value = "INSERT INTO housing_cost_yearly_summaries "
+            + "(user_id, year, record_count, paid_count, rent_total, maintenance_total, utilities_total, "
+            + "paid_rent, paid_maintenance, paid_utilities, created_at, updated_at) "
+            + "VALUES (:userNo, :year, :recordCount, :paidCount, :rent, :maintenance, :utilities, "
+            + ":paidRent, :paidMaintenance, :paidUtilities, NOW(), NOW()) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "record_count = record_count + VALUES(record_count), "
+            + "paid_count = paid_count + VALUES(paid_count), "
+            + "rent_total = rent_total + VALUES(rent_total), "
+            + "maintenance_total = maintenance_total + VALUES(maintenance_total), "
+            + "utilities_total = utilities_total + VALUES(utilities_total), "
+            + "paid_rent = paid_rent + VALUES(paid_rent), "
+            + "paid_maintenance = paid_maintenance + VALUES(paid_maintenance), "
+            + "paid_utilities = paid_utilities + VALUES(paid_utilities), "
+            + "updated_at = NOW()", nativeQuery = true)
+    int applyDelta(@Param("userNo") Integer userNo,
+                   @Param("year") Integer year,
+                   @Param("recordCount") int recordCount,
+                   @Param("paidCount") int paidCount,
+                   @Param("rent") BigDecimal rent,
+                   @Param("maintenance") BigDecimal maintenance,
+                   @Param("utilities") BigDecimal utilities,
+                   @Param("paidRent") BigDecimal paidRent,
+                   @Param("paidMaintenance") BigDecimal paidMaintenance,
+                   @Param("paidUtilities") BigDecimal paidUtilities);
+
+    /**
+     * 사용자 번호 (fromUserNo, toUserNo] 구간을 월별 기록에서 다시 집계해 덮어씀.
+     * year가 null이면 모든 연도. 일괄 생성(INSERT ... SELECT)처럼 행 단위 증감을 알 수 없을 때 사용
+     */
+    @Modifying
+    @Query(value = "INSERT INTO housing_cost_yearly_summaries "
+            + "(user_id, year, record_count, paid_count, rent_total, maintenance_total, utilities_total, "
+            + "paid_rent, paid_maintenance, paid_utilities, created_at, updated_at) "
+            + "SELECT m.user_id, m.year, COUNT(*), SUM(m.paid), SUM(m.rent), SUM(m.maintenance), SUM(m.utilities), "
+            + "SUM(CASE WHEN m.paid THEN m.rent ELSE 0 END), "
+            + "SUM(CASE WHEN m.paid THEN m.maintenance ELSE 0 END), "
+            + "SUM(CASE WHEN m.paid THEN m.utilities ELSE 0 END), NOW(), NOW() "
+            + "FROM monthly_housing_records m "
+            + "WHERE m.user_id > :fromUserNo AND m.user_id <= :toUserNo AND (:year IS NULL OR m.year = :year) "
+            + "GROUP BY m.user_id, m.year "
+            + "ON DUPLICATE KEY UPDATE "
+            + "record_count = VALUES(record_count), paid_count = VALUES(paid_count), "
+            + "rent_total = VALUES(rent_total), maintenance_total = VALUES(maintenance_total), "
+            + "utilities_total = VALUES(utilities_total), paid_rent = VALUES(paid_rent), "
+            + "paid_maintenance = VALUES(paid_maintenance), paid_utilities = VALUES(paid_utilities), "
+            + "updated_at = NOW()", nativeQuery = true)
+    int rebuildRange(@Param("fromUserNo") Integer fromUserNo,
+                     @Param("toUserNo") Integer toUserNo,
+                     @Param("year") Integer year);
+}
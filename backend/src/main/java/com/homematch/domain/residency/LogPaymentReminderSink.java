@@ -0,0 +1,20 @@
+package com.homematch.domain.residency;
+
+import org.springframework.stereotype.Component;
+
+/** 기본 채널: 서버 로그. 앱 내 알림은 발송 완료(SENT) 행을 /api/residency/payment-reminders 로 조회 */
+@Component
+public class LogPaymentReminderSink implements PaymentReminderSink {
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public void send(PaymentReminderEvent event) {
+        System.err.println("주거비 납부 알림: 사용자 " + event.getUserNo() + ", "
+                + event.getYear() + "년 " + event.getMonth() + "월, 납부일 " + event.getDueDate()
+                + ", 금액 " + event.getAmount() + "원 (시도 " + event.getAttempt() + ")");
+    }
+}
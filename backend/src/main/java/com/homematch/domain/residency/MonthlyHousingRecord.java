@@ -8,7 +8,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "monthly_housing_records")
+@Table(name = "monthly_housing_records",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_year_month", columnNames = {"user_id", "year", "month"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,127 @@
+package com.homematch.domain.residency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주거비 자동 등록(autoRegister=true) 사용자의 월별 기록 일괄 생성.
+ * - 매월 1일(cron) 해당 월 기록 생성. 시작 시에도 이번 달 작업이 끝나지 않았으면 이어서 처리
+ * - 사용자 번호 순으로 chunk-size명씩: 번호 범위 조회 → INSERT ... SELECT ... ON DUPLICATE KEY 한 번 → 진행 위치 저장
+ *   (청크와 진행 위치가 같은 트랜잭션이라 중간에 멈춰도 다음 실행이 이어서 처리, 같은 행을 두 번 만들지 않음)
+ * - 같은 청크 트랜잭션에서 해당 사용자들의 연도별 합계(housing_cost_yearly_summaries)도 다시 집계하고 납부 알림 예약
+ * - 진행 위치 행을 잠그고 처리하므로 여러 인스턴스가 동시에 실행돼도 청크가 겹치지 않음
+ * - 이번 달 작업이 끝난 뒤 자동 등록을 켠 사용자는 다음 달부터 생성됨
+ */
+@Component
+public class MonthlyHousingRecordGenerator {
+
+    private final MonthlyHousingRecordRepository monthlyHousingRecordRepository;
+    private final HousingCostSettingsRepository housingCostSettingsRepository;
+    private final MonthlyRecordGenerationCheckpointRepository checkpointRepository;
+    private final HousingCostYearlySummaryRepository housingCostYearlySummaryRepository;
+    private final PaymentReminderService paymentReminderService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final ZoneId zone;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public MonthlyHousingRecordGenerator(
+            MonthlyHousingRecordRepository monthlyHousingRecordRepository,
+            HousingCostSettingsRepository housingCostSettingsRepository,
+            MonthlyRecordGenerationCheckpointRepository checkpointRepository,
+            HousingCostYearlySummaryRepository housingCostYearlySummaryRepository,
+            PaymentReminderService paymentReminderService,
+            PlatformTransactionManager transactionManager,
+            @Value("${residency.auto-register.enabled:true}") boolean enabled,
+            @Value("${residency.auto-register.chunk-size:2000}") int chunkSize,
+            @Value("${residency.auto-register.zone:Asia/Seoul}") String zone
+    ) {
+        this.monthlyHousingRecordRepository = monthlyHousingRecordRepository;
+        this.housingCostSettingsRepository = housingCostSettingsRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.housingCostYearlySummaryRepository = housingCostYearlySummaryRepository;
+        this.paymentReminderService = paymentReminderService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.zone = ZoneId.of(zone);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread t = new Thread(this::generateCurrentMonth, "monthly-record-generator");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    @Scheduled(cron = "${residency.auto-register.cron:0 5 0 1 * *}", zone = "${residency.auto-register.zone:Asia/Seoul}")
+    public void generateCurrentMonth() {
+        if (!enabled) {
+            return;
+        }
+        generate(YearMonth.now(zone));
+    }
+
+    /** 해당 월 기록 생성. 이미 끝난 달이면 바로 반환. 반환: 처리한 행 수 (이미 있던 기록이 포함될 수 있음) */
+    public long generate(YearMonth yearMonth) {
+        if (!running.compareAndSet(false, true)) {
+            return 0L;
+        }
+        String period = yearMonth.toString();
+        long processed = 0L;
+        try {
+            transactionTemplate.executeWithoutResult(status -> checkpointRepository.insertIfAbsent(period));
+            while (true) {
+                Integer chunk = transactionTemplate.execute(status -> processChunk(yearMonth, period));
+                if (chunk == null || chunk < 0) {
+                    break;
+                }
+                processed += chunk;
+            }
+            if (processed > 0) {
+                System.err.println("월별 주거비 자동 등록 완료 (" + period + "): " + processed + "건");
+            }
+        } catch (Exception e) {
+            System.err.println("월별 주거비 자동 등록 중단 (" + period + "), 다음 실행 때 이어서 처리: " + e.getMessage());
+        } finally {
+            running.set(false);
+        }
+        return processed;
+    }
+
+    /** 청크 하나 처리. 반환: 처리한 행 수, 더 처리할 사용자가 없으면 -1 */
+    private int processChunk(YearMonth yearMonth, String period) {
+        MonthlyRecordGenerationCheckpoint checkpoint = checkpointRepository.findForUpdate(period)
+                .orElseThrow(() -> new IllegalStateException("진행 위치가 없습니다: " + period));
+        if (checkpoint.getCompletedAt() != null) {
+            return -1;
+        }
+        List<Integer> userNos = housingCostSettingsRepository.findAutoRegisterUserNosAfter(
+                checkpoint.getLastUserNo(), chunkSize);
+        if (userNos.isEmpty()) {
+            checkpointRepository.markCompleted(period);
+            return -1;
+        }
+        Integer toUserNo = userNos.get(userNos.size() - 1);
+        int processed = monthlyHousingRecordRepository.insertAutoRegistered(
+                yearMonth.getYear(), yearMonth.getMonthValue(), checkpoint.getLastUserNo(), toUserNo);
+        housingCostYearlySummaryRepository.rebuildRange(checkpoint.getLastUserNo(), toUserNo, yearMonth.getYear());
+        paymentReminderService.scheduleRange(yearMonth, checkpoint.getLastUserNo(), toUserNo);
+        checkpointRepository.advance(period, toUserNo, processed);
+        return processed;
+    }
+}
@@ -1,6 +1,10 @@
 package com.homematch.domain.residency;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,8 +23,49 @@ public interface MonthlyHousingRecordRepository extends JpaRepository<MonthlyHou
             @Param("year") Integer year,
             @Param("month") Integer month);
 
+    /**
+     * 수정·삭제용 조회 (행 잠금). 연도별 합계에서 이전 값을 빼기 전에 잠가야
+     * 같은 기록을 동시에 수정할 때 같은 이전 값을 두 번 빼지 않음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM MonthlyHousingRecord m JOIN m.user u WHERE u.user_no = :userNo AND m.year = :year AND m.month = :month")
+    Optional<MonthlyHousingRecord> findForUpdate(
+            @Param("userNo") Integer userNo,
+            @Param("year") Integer year,
+            @Param("month") Integer month);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM MonthlyHousingRecord m WHERE m.id = :id")
+    Optional<MonthlyHousingRecord> findByIdForUpdate(@Param("id") Long id);
+
+    /** 최근 기록 n건 (uk_user_year_month 역순 스캔) */
+    @Query("SELECT m FROM MonthlyHousingRecord m JOIN m.user u WHERE u.user_no = :userNo ORDER BY m.year DESC, m.month DESC")
+    List<MonthlyHousingRecord> findRecentByUserNo(@Param("userNo") Integer userNo, Pageable pageable);
+
+    /** 기록이 있는 사용자 번호를 afterUserNo 다음부터 limit개 (연도별 합계 재집계용) */
+    @Query(value = "SELECT DISTINCT user_id FROM monthly_housing_records "
+            + "WHERE user_id > :afterUserNo ORDER BY user_id LIMIT :limit", nativeQuery = true)
+    List<Integer> findUserNosAfter(@Param("afterUserNo") Integer afterUserNo, @Param("limit") int limit);
+
     @Query("SELECT m FROM MonthlyHousingRecord m JOIN m.user u WHERE u.user_no = :userNo AND m.year = :year ORDER BY m.month DESC")
     List<MonthlyHousingRecord> findByUser_User_noAndYearOrderByMonthDesc(
             @Param("userNo") Integer userNo,
             @Param("year") Integer year);
+
+    /**
+     * 자동 등록 사용자 (fromUserNo, toUserNo] 구간의 해당 월 기록을 설정값으로 한 번에 생성.
+     * 이미 있는 기록(직접 입력 포함)은 그대로 둠 (uk_user_year_month).
+     * 반환값은 드라이버 설정(useAffectedRows)에 따라 이미 있던 행도 포함될 수 있어 진행 로그 용도로만 사용
+     */
+    @Modifying
+    @Query(value = "INSERT INTO monthly_housing_records "
+            + "(user_id, year, month, rent, maintenance, utilities, payment_date, paid, created_at, updated_at) "
+            + "SELECT s.user_id, :year, :month, s.rent, s.maintenance, s.utilities, s.payment_date, FALSE, NOW(), NOW() "
+            + "FROM housing_cost_settings s "
+            + "WHERE s.auto_register = TRUE AND s.user_id > :fromUserNo AND s.user_id <= :toUserNo "
+            + "ON DUPLICATE KEY UPDATE monthly_housing_records.id = monthly_housing_records.id", nativeQuery = true)
+    int insertAutoRegistered(@Param("year") Integer year,
+                             @Param("month") Integer month,
+                             @Param("fromUserNo") Integer fromUserNo,
+                             @Param("toUserNo") Integer toUserNo);
 }
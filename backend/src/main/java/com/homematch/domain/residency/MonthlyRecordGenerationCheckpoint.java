@@ -0,0 +1,49 @@
+package com.homematch.domain.residency;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 주거비 자동 등록 진행 위치 (월당 1행). 중단된 작업은 last_user_no 다음 사용자부터 이어서 처리
+ * period 가 "SUMMARY" 인 행은 연도별 합계 초기 집계(HousingCostSummaryBackfill) 진행 위치
+ */
+@Entity
+@Table(name = "monthly_record_generation_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MonthlyRecordGenerationCheckpoint {
+
+    @Id
+    @Column(name = "period", length = 7)
+    private String period; // "2026-10"
+
+    @Column(name = "last_user_no", nullable = false)
+    private Integer lastUserNo;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
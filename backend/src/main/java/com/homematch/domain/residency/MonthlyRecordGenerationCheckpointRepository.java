@@ -0,0 +1,40 @@
+package com.homematch.domain.residency;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface MonthlyRecordGenerationCheckpointRepository extends JpaRepository<MonthlyRecordGenerationCheckpoint, String> {
+
+    /** 없을 때만 시작 위치(0)로 생성. 여러 인스턴스가 동시에 호출해도 1행 */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO monthly_record_generation_checkpoints "
+            + "(period, last_user_no, processed_count, created_at, updated_at) "
+            + "VALUES (:period, 0, 0, NOW(), NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("period") String period);
+
+    /** 청크 처리 동안 행 잠금 → 같은 달을 여러 인스턴스가 동시에 처리하지 않음 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM MonthlyRecordGenerationCheckpoint c WHERE c.period = :period")
+    Optional<MonthlyRecordGenerationCheckpoint> findForUpdate(@Param("period") String period);
+
+    @Modifying
+    @Query("UPDATE MonthlyRecordGenerationCheckpoint c SET c.lastUserNo = :lastUserNo, "
+            + "c.processedCount = c.processedCount + :processed, c.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE c.period = :period")
+    int advance(@Param("period") String period,
+                @Param("lastUserNo") Integer lastUserNo,
+                @Param("processed") long processed);
+
+    @Modifying
+    @Query("UPDATE MonthlyRecordGenerationCheckpoint c SET c.completedAt = CURRENT_TIMESTAMP, "
+            + "c.updatedAt = CURRENT_TIMESTAMP WHERE c.period = :period AND c.completedAt IS NULL")
+    int markCompleted(@Param("period") String period);
+}
@@ -0,0 +1,87 @@
+package com.homematch.domain.residency;
+
+import com.homematch.domain.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주거비 납부 알림 (월별 기록 1건당 1행).
+ * fire_at 이 가까워진 PENDING 행만 인스턴스가 임대(lease)해 메모리 타이밍 휠에 올림.
+ * 발송 전에 인스턴스가 죽으면 임대가 만료돼 다른 인스턴스가 다시 발송 (최소 1회)
+ */
+@Entity
+@Table(name = "payment_reminders",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_reminder_user_month", columnNames = {"user_id", "year", "month"}),
+        indexes = @Index(name = "idx_payment_reminder_status_fire", columnList = "status, fire_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PaymentReminder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", referencedColumnName = "user_no", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(name = "fire_at", nullable = false)
+    private LocalDateTime fireAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReminderStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "lease_owner", length = 36)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "dismissed_at")
+    private LocalDateTime dismissedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum ReminderStatus {
+        PENDING,    // 발송 대기
+        SENT,       // 발송 완료 (앱 알림함에 표시)
+        CANCELLED,  // 납부 완료·기록 삭제로 취소
+        FAILED      // 재시도 횟수 초과
+    }
+}
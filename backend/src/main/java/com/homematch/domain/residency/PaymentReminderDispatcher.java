@@ -0,0 +1,192 @@
+package com.homematch.domain.residency;
+
+import com.homematch.global.scheduling.HashedTimingWheel;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 납부 알림 발송.
+ * - load-interval 마다 horizon 안에 발송할 PENDING 알림만 인덱스 범위로 읽어 임대(lease) 후 타이밍 휠에 예약
+ *   (전체 테이블을 매분 훑지 않음. 먼 미래 알림은 DB에만 있음)
+ * - 휠에서 만기되면 먼저 조건부 UPDATE로 예약 당시 그대로인지 확인 (그 사이 재예약·취소된 알림은 휠 항목을 버림)
+ *   → 납부 여부를 다시 확인하고 모든 PaymentReminderSink에 발송 → SENT
+ * - 발송 실패 시 지수 백오프로 fire_at을 미뤄 다시 대기, max-attempts 초과 시 FAILED
+ * - 발송 후 SENT 기록 전에 죽거나 임대가 만료되면 다시 발송될 수 있음 (최소 1회)
+ */
+@Component
+public class PaymentReminderDispatcher {
+
+    private static final long MAX_BACKOFF_MINUTES = 60;
+
+    private final PaymentReminderRepository paymentReminderRepository;
+    private final MonthlyHousingRecordRepository monthlyHousingRecordRepository;
+    private final List<PaymentReminderSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final HashedTimingWheel wheel;
+    private final ExecutorService dispatchExecutor;
+    private final String owner = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final ZoneId zone;
+    private final Duration horizon;
+    private final Duration lease;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public PaymentReminderDispatcher(
+            PaymentReminderRepository paymentReminderRepository,
+            MonthlyHousingRecordRepository monthlyHousingRecordRepository,
+            List<PaymentReminderSink> sinks,
+            PlatformTransactionManager transactionManager,
+            @Value("${residency.reminder.enabled:true}") boolean enabled,
+            @Value("${residency.reminder.zone:Asia/Seoul}") String zone,
+            @Value("${residency.reminder.horizon-seconds:120}") long horizonSeconds,
+            @Value("${residency.reminder.lease-seconds:600}") long leaseSeconds,
+            @Value("${residency.reminder.batch-size:500}") int batchSize,
+            @Value("${residency.reminder.max-attempts:5}") int maxAttempts,
+            @Value("${residency.reminder.tick-millis:1000}") long tickMillis,
+            @Value("${residency.reminder.wheel-size:512}") int wheelSize,
+            @Value("${residency.reminder.dispatch-workers:2}") int dispatchWorkers
+    ) {
+        this.paymentReminderRepository = paymentReminderRepository;
+        this.monthlyHousingRecordRepository = monthlyHousingRecordRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.zone = ZoneId.of(zone);
+        this.horizon = Duration.ofSeconds(Math.max(1, horizonSeconds));
+        // 휠에서 기다리는 동안 다른 인스턴스가 가져가지 않도록 임대는 horizon보다 길게
+        this.lease = Duration.ofSeconds(Math.max(leaseSeconds, horizonSeconds * 2));
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.dispatchExecutor = Executors.newFixedThreadPool(Math.max(1, dispatchWorkers), r -> {
+            Thread t = new Thread(r, "payment-reminder-dispatch");
+            t.setDaemon(true);
+            return t;
+        });
+        this.wheel = new HashedTimingWheel("payment-reminder-wheel", tickMillis, wheelSize, dispatchExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+        dispatchExecutor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${residency.reminder.load-interval-millis:60000}")
+    public void loadDue() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            while (true) {
+                LocalDateTime now = LocalDateTime.now(zone);
+                List<PaymentReminder> leased = transactionTemplate.execute(status -> {
+                    List<Long> ids = paymentReminderRepository.findDueIds(now.plus(horizon), now, batchSize);
+                    if (ids.isEmpty()) {
+                        return List.<PaymentReminder>of();
+                    }
+                    paymentReminderRepository.lease(ids, owner, now.plus(lease), now);
+                    return paymentReminderRepository.findLeased(ids, owner);
+                });
+                if (leased == null || leased.isEmpty()) {
+                    return;
+                }
+                for (PaymentReminder reminder : leased) {
+                    long delayMillis = Duration.between(now, reminder.getFireAt()).toMillis();
+                    wheel.schedule(() -> dispatch(reminder), delayMillis);
+                }
+                if (leased.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("납부 알림 불러오기 실패: " + e.getMessage());
+        }
+    }
+
+    private void dispatch(PaymentReminder reminder) {
+        if (!claim(reminder)) {
+            return;
+        }
+        Integer userNo = reminder.getUser().getUserNo();
+        try {
+            Optional<MonthlyHousingRecord> record = monthlyHousingRecordRepository.findByUser_User_noAndYearAndMonth(
+                    userNo, reminder.getYear(), reminder.getMonth());
+            if (record.isEmpty() || Boolean.TRUE.equals(record.get().getPaid())) {
+                complete(reminder, PaymentReminder.ReminderStatus.CANCELLED, null);
+                return;
+            }
+            MonthlyHousingRecord r = record.get();
+            PaymentReminderEvent event = PaymentReminderEvent.builder()
+                    .reminderId(reminder.getId())
+                    .userNo(userNo)
+                    .year(reminder.getYear())
+                    .month(reminder.getMonth())
+                    .dueDate(reminder.getDueDate())
+                    .amount(amountOf(r))
+                    .attempt(reminder.getAttempts() + 1)
+                    .build();
+            for (PaymentReminderSink sink : sinks) {
+                sink.send(event);
+            }
+            complete(reminder, PaymentReminder.ReminderStatus.SENT, LocalDateTime.now(zone));
+        } catch (Exception e) {
+            System.err.println("납부 알림 발송 실패 (id=" + reminder.getId() + "): " + e.getMessage());
+            retryOrFail(reminder);
+        }
+    }
+
+    /** 휠에 올린 뒤 sync·재예약·취소로 바뀐 알림이면 false (새 상태는 다음 loadDue가 다시 예약) */
+    private boolean claim(PaymentReminder reminder) {
+        try {
+            LocalDateTime claimUntil = LocalDateTime.now(zone).plus(lease);
+            Integer claimed = transactionTemplate.execute(s -> paymentReminderRepository.claim(
+                    reminder.getId(), owner, reminder.getLeaseUntil(), reminder.getFireAt(), claimUntil));
+            return claimed != null && claimed > 0;
+        } catch (Exception e) {
+            // 확인 못 하면 보내지 않음 (임대 만료 후 다시 예약됨)
+            System.err.println("납부 알림 발송 확인 실패 (id=" + reminder.getId() + "): " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void complete(PaymentReminder reminder, PaymentReminder.ReminderStatus status, LocalDateTime sentAt) {
+        transactionTemplate.executeWithoutResult(s ->
+                paymentReminderRepository.complete(reminder.getId(), owner, status, sentAt));
+    }
+
+    private void retryOrFail(PaymentReminder reminder) {
+        try {
+            int attempts = reminder.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                complete(reminder, PaymentReminder.ReminderStatus.FAILED, null);
+                return;
+            }
+            long backoffMinutes = Math.min(MAX_BACKOFF_MINUTES, 1L << Math.min(attempts, 6));
+            LocalDateTime next = LocalDateTime.now(zone).plusMinutes(backoffMinutes);
+            transactionTemplate.executeWithoutResult(s ->
+                    paymentReminderRepository.retryLater(reminder.getId(), owner, next));
+        } catch (Exception e) {
+            // 상태를 못 남겨도 임대 만료 후 다시 발송됨
+            System.err.println("납부 알림 재시도 예약 실패 (id=" + reminder.getId() + "): " + e.getMessage());
+        }
+    }
+
+    private static BigDecimal amountOf(MonthlyHousingRecord record) {
+        return record.getRent().add(record.getMaintenance()).add(record.getUtilities());
+    }
+}
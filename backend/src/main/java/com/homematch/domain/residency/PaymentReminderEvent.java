@@ -0,0 +1,22 @@
+package com.homematch.domain.residency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** 납부 알림 발송 이벤트. 같은 reminderId가 두 번 이상 올 수 있으므로 sink는 중복에 안전해야 함 */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PaymentReminderEvent {
+    private final Long reminderId;
+    private final Integer userNo;
+    private final Integer year;
+    private final Integer month;
+    private final LocalDate dueDate;
+    private final BigDecimal amount;
+    private final int attempt;
+}
@@ -0,0 +1,141 @@
+package com.homematch.domain.residency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PaymentReminderRepository extends JpaRepository<PaymentReminder, Long> {
+
+    @Query("SELECT r FROM PaymentReminder r JOIN r.user u WHERE u.user_no = :userNo AND r.year = :year AND r.month = :month")
+    Optional<PaymentReminder> findByUserNoAndYearAndMonth(
+            @Param("userNo") Integer userNo,
+            @Param("year") Integer year,
+            @Param("month") Integer month);
+
+    /** 앱 알림함: 발송됐고 아직 닫지 않은 알림 */
+    @Query("SELECT r FROM PaymentReminder r JOIN r.user u WHERE u.user_no = :userNo "
+            + "AND r.status = com.homematch.domain.residency.PaymentReminder.ReminderStatus.SENT "
+            + "AND r.dismissedAt IS NULL ORDER BY r.dueDate DESC")
+    List<PaymentReminder> findInboxByUserNo(@Param("userNo") Integer userNo);
+
+    /** 없을 때만 생성 (동시 저장에도 1행) */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO payment_reminders "
+            + "(user_id, year, month, due_date, fire_at, status, attempts, created_at, updated_at) "
+            + "VALUES (:userNo, :year, :month, :dueDate, :fireAt, 'PENDING', 0, NOW(), NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("userNo") Integer userNo,
+                       @Param("year") Integer year,
+                       @Param("month") Integer month,
+                       @Param("dueDate") LocalDate dueDate,
+                       @Param("fireAt") LocalDateTime fireAt);
+
+    /** 납부일 변경·취소 후 미납으로 되돌린 경우 다시 발송 대기 */
+    @Modifying
+    @Query("UPDATE PaymentReminder r SET r.dueDate = :dueDate, r.fireAt = :fireAt, "
+            + "r.status = com.homematch.domain.residency.PaymentReminder.ReminderStatus.PENDING, "
+            + "r.attempts = 0, r.leaseOwner = NULL, r.leaseUntil = NULL, r.sentAt = NULL, r.dismissedAt = NULL, "
+            + "r.updatedAt = CURRENT_TIMESTAMP WHERE r.id = :id")
+    int reschedule(@Param("id") Long id,
+                   @Param("dueDate") LocalDate dueDate,
+                   @Param("fireAt") LocalDateTime fireAt);
+
+    @Modifying
+    @Query(value = "UPDATE payment_reminders SET status = 'CANCELLED', lease_owner = NULL, lease_until = NULL, "
+            + "updated_at = NOW() WHERE user_id = :userNo AND year = :year AND month = :month "
+            + "AND status = 'PENDING'", nativeQuery = true)
+    int cancel(@Param("userNo") Integer userNo,
+               @Param("year") Integer year,
+               @Param("month") Integer month);
+
+    /**
+     * 자동 등록으로 만든 미납 기록의 알림 일괄 생성 (사용자 번호 (fromUserNo, toUserNo] 구간).
+     * 납부일이 그 달 마지막 날보다 크면 마지막 날로 맞춤. 납부일이 이미 지난 기록(today 이전)은 건너뜀 (sync와 같은 기준).
+     * 이미 있는 알림은 그대로 둠
+     */
+    @Modifying
+    @Query(value = "INSERT INTO payment_reminders "
+            + "(user_id, year, month, due_date, fire_at, status, attempts, created_at, updated_at) "
+            + "SELECT m.user_id, m.year, m.month, "
+            + "LEAST(:monthStart + INTERVAL (m.payment_date - 1) DAY, :monthEnd), "
+            + "LEAST(:monthStart + INTERVAL (m.payment_date - 1) DAY, :monthEnd) "
+            + "- INTERVAL :leadDays DAY + INTERVAL :fireHour HOUR, "
+            + "'PENDING', 0, NOW(), NOW() "
+            + "FROM monthly_housing_records m "
+            + "WHERE m.user_id > :fromUserNo AND m.user_id <= :toUserNo AND m.year = :year AND m.month = :month "
+            + "AND m.paid = FALSE "
+            + "AND LEAST(:monthStart + INTERVAL (m.payment_date - 1) DAY, :monthEnd) >= :today "
+            + "ON DUPLICATE KEY UPDATE payment_reminders.id = payment_reminders.id", nativeQuery = true)
+    int insertForRange(@Param("year") Integer year,
+                       @Param("month") Integer month,
+                       @Param("monthStart") LocalDate monthStart,
+                       @Param("monthEnd") LocalDate monthEnd,
+                       @Param("leadDays") int leadDays,
+                       @Param("fireHour") int fireHour,
+                       @Param("today") LocalDate today,
+                       @Param("fromUserNo") Integer fromUserNo,
+                       @Param("toUserNo") Integer toUserNo);
+
+    /** horizon 안에 발송할 PENDING 중 임대 없는 것 (idx_payment_reminder_status_fire 범위 스캔) */
+    @Query(value = "SELECT id FROM payment_reminders WHERE status = 'PENDING' AND fire_at <= :horizon "
+            + "AND (lease_until IS NULL OR lease_until < :now) ORDER BY fire_at LIMIT :limit", nativeQuery = true)
+    List<Long> findDueIds(@Param("horizon") LocalDateTime horizon,
+                          @Param("now") LocalDateTime now,
+                          @Param("limit") int limit);
+
+    /** 임대 획득. 다른 인스턴스가 먼저 가져간 행은 조건에서 빠짐 */
+    @Modifying
+    @Query(value = "UPDATE payment_reminders SET lease_owner = :owner, lease_until = :leaseUntil "
+            + "WHERE id IN (:ids) AND status = 'PENDING' AND (lease_until IS NULL OR lease_until < :now)", nativeQuery = true)
+    int lease(@Param("ids") List<Long> ids,
+              @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+
+    @Query("SELECT r FROM PaymentReminder r JOIN FETCH r.user WHERE r.id IN :ids AND r.leaseOwner = :owner")
+    List<PaymentReminder> findLeased(@Param("ids") List<Long> ids, @Param("owner") String owner);
+
+    /**
+     * 휠에서 만기된 알림 발송 직전 확인. 예약할 때 읽은 임대(lease_until)·발송 시각 그대로인 PENDING 행만 임대를 연장하고 1 반환.
+     * 그 사이 재예약·취소·납부 처리됐거나 다시 임대된 행이면 0 (휠에 남은 예전 항목 → 발송하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE PaymentReminder r SET r.leaseUntil = :claimUntil, r.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE r.id = :id AND r.leaseOwner = :owner AND r.leaseUntil = :leaseUntil AND r.fireAt = :fireAt "
+            + "AND r.status = com.homematch.domain.residency.PaymentReminder.ReminderStatus.PENDING")
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("fireAt") LocalDateTime fireAt,
+              @Param("claimUntil") LocalDateTime claimUntil);
+
+    @Modifying
+    @Query("UPDATE PaymentReminder r SET r.status = :status, r.sentAt = :sentAt, "
+            + "r.leaseOwner = NULL, r.leaseUntil = NULL, r.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE r.id = :id AND r.leaseOwner = :owner "
+            + "AND r.status = com.homematch.domain.residency.PaymentReminder.ReminderStatus.PENDING")
+    int complete(@Param("id") Long id,
+                 @Param("owner") String owner,
+                 @Param("status") PaymentReminder.ReminderStatus status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE PaymentReminder r SET r.attempts = r.attempts + 1, r.fireAt = :nextFireAt, "
+            + "r.leaseOwner = NULL, r.leaseUntil = NULL, r.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE r.id = :id AND r.leaseOwner = :owner")
+    int retryLater(@Param("id") Long id,
+                   @Param("owner") String owner,
+                   @Param("nextFireAt") LocalDateTime nextFireAt);
+
+    @Modifying
+    @Query(value = "UPDATE payment_reminders SET dismissed_at = NOW(), updated_at = NOW() "
+            + "WHERE id = :id AND user_id = :userNo AND dismissed_at IS NULL", nativeQuery = true)
+    int dismiss(@Param("id") Long id, @Param("userNo") Integer userNo);
+}
@@ -0,0 +1,106 @@
+package com.homematch.domain.residency;
+
+import com.homematch.domain.residency.dto.PaymentReminderResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 납부 알림 예약 관리. 월별 기록 저장/삭제와 같은 트랜잭션에서 알림 행을 만들거나 취소.
+ * 발송 시각 = 납부일(그 달에 없는 날이면 말일) lead-days 전 fire-hour 시
+ */
+@Service
+@Transactional
+public class PaymentReminderService {
+
+    private final PaymentReminderRepository paymentReminderRepository;
+    private final int leadDays;
+    private final int fireHour;
+    private final ZoneId zone;
+
+    public PaymentReminderService(
+            PaymentReminderRepository paymentReminderRepository,
+            @Value("${residency.reminder.lead-days:3}") int leadDays,
+            @Value("${residency.reminder.fire-hour:9}") int fireHour,
+            @Value("${residency.reminder.zone:Asia/Seoul}") String zone
+    ) {
+        this.paymentReminderRepository = paymentReminderRepository;
+        this.leadDays = Math.max(0, leadDays);
+        this.fireHour = Math.min(23, Math.max(0, fireHour));
+        this.zone = ZoneId.of(zone);
+    }
+
+    /** 월별 기록 저장 후 호출. 미납이고 납부일이 지나지 않았으면 알림 예약, 아니면 대기 중 알림 취소 */
+    public void sync(Integer userNo, MonthlyHousingRecord record) {
+        YearMonth yearMonth = YearMonth.of(record.getYear(), record.getMonth());
+        LocalDate dueDate = dueDate(yearMonth, record.getPaymentDate());
+        if (Boolean.TRUE.equals(record.getPaid()) || dueDate.isBefore(LocalDate.now(zone))) {
+            cancel(userNo, record.getYear(), record.getMonth());
+            return;
+        }
+        LocalDateTime fireAt = fireAt(dueDate);
+        Optional<PaymentReminder> existing = paymentReminderRepository.findByUserNoAndYearAndMonth(
+                userNo, record.getYear(), record.getMonth());
+        if (existing.isEmpty()) {
+            paymentReminderRepository.insertIfAbsent(userNo, record.getYear(), record.getMonth(), dueDate, fireAt);
+            return;
+        }
+        PaymentReminder reminder = existing.get();
+        boolean sameDueDate = dueDate.equals(reminder.getDueDate());
+        // 같은 납부일로 이미 보냈거나 대기 중이면 그대로 (금액만 바뀐 저장 등)
+        if (sameDueDate && reminder.getStatus() != PaymentReminder.ReminderStatus.CANCELLED) {
+            return;
+        }
+        paymentReminderRepository.reschedule(reminder.getId(), dueDate, fireAt);
+    }
+
+    public void cancel(Integer userNo, Integer year, Integer month) {
+        paymentReminderRepository.cancel(userNo, year, month);
+    }
+
+    /** 자동 등록 일괄 생성 청크와 같은 트랜잭션에서 호출. 납부일 경과 판단은 sync와 같이 알림 기준 시간대의 오늘 */
+    public int scheduleRange(YearMonth yearMonth, Integer fromUserNo, Integer toUserNo) {
+        return paymentReminderRepository.insertForRange(yearMonth.getYear(), yearMonth.getMonthValue(),
+                yearMonth.atDay(1), yearMonth.atEndOfMonth(), leadDays, fireHour, LocalDate.now(zone),
+                fromUserNo, toUserNo);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PaymentReminderResponse> getInbox(Integer userNo) {
+        return paymentReminderRepository.findInboxByUserNo(userNo).stream()
+                .map(this::toPaymentReminderResponse)
+                .collect(Collectors.toList());
+    }
+
+    public void dismiss(Integer userNo, Long id) {
+        if (paymentReminderRepository.dismiss(id, userNo) == 0) {
+            throw new IllegalArgumentException("알림을 찾을 수 없습니다.");
+        }
+    }
+
+    private LocalDate dueDate(YearMonth yearMonth, Integer paymentDate) {
+        return yearMonth.atDay(Math.min(paymentDate, yearMonth.lengthOfMonth()));
+    }
+
+    private LocalDateTime fireAt(LocalDate dueDate) {
+        return dueDate.minusDays(leadDays).atTime(fireHour, 0);
+    }
+
+    private PaymentReminderResponse toPaymentReminderResponse(PaymentReminder reminder) {
+        return PaymentReminderResponse.builder()
+                .id(reminder.getId())
+                .year(reminder.getYear())
+                .month(reminder.getMonth())
+                .dueDate(reminder.getDueDate())
+                .sentAt(reminder.getSentAt())
+                .build();
+    }
+}
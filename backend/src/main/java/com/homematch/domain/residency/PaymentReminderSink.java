@@ -0,0 +1,12 @@
+package com.homematch.domain.residency;
+
+/**
+ * 납부 알림 발송 채널. 빈으로 등록하면 발송 파이프라인에 자동 포함 (메일·푸시 등 추가 시 구현)
+ * 예외를 던지면 해당 알림 전체를 나중에 다시 발송 → 이미 성공한 채널도 다시 받을 수 있음
+ */
+public interface PaymentReminderSink {
+
+    String getName();
+
+    void send(PaymentReminderEvent event) throws Exception;
+}
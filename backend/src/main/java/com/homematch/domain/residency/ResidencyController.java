@@ -5,11 +5,13 @@ import com.homematch.domain.user.User;
 import com.homematch.domain.user.UserRepository;
 import com.homematch.global.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/residency")
@@ -17,6 +19,8 @@ import java.util.List;
 public class ResidencyController {
 
     private final ResidencyService residencyService;
+    private final ResidencyDashboardService residencyDashboardService;
+    private final PaymentReminderService paymentReminderService;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
 
@@ -54,6 +58,32 @@ public class ResidencyController {
         }
     }
 
+    // ========== Dashboard ==========
+    /**
+     * 거주 관리 화면 초기 데이터 한 번에 조회 (토큰 확인·사용자 조회 1회, 섹션은 병렬 조회)
+     * sections: contract,costSettings,monthlyRecords,defectIssues,agreementRecords,entryStatusRecords 중 쉼표 구분 (생략 시 전체)
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<?> getDashboard(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam(required = false) String sections) {
+        Set<ResidencyDashboardService.Section> requested;
+        try {
+            requested = ResidencyDashboardService.Section.parse(sections);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("{\"error\": \"" + e.getMessage() + "\"}");
+        }
+        Integer userNo;
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            userNo = getUserIdFromToken(token);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(residencyDashboardService.getDashboard(userNo, requested));
+    }
+
     // ========== Housing Contract ==========
     @GetMapping("/contract")
     public ResponseEntity<HousingContractResponse> getHousingContract(
@@ -215,6 +245,50 @@ public class ResidencyController {
         }
     }
 
+    /** 연도별 합계·납부/미납·전월 대비 증감 (월별 기록 전체를 내려받지 않고 통계만 조회) */
+    @GetMapping("/costs/summary")
+    public ResponseEntity<HousingCostSummaryResponse> getHousingCostSummary(
+            @RequestHeader("Authorization") String authHeader) {
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            HousingCostSummaryResponse summary = residencyService.getHousingCostSummary(userNo);
+            return ResponseEntity.ok(summary);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    // ========== Payment Reminders ==========
+    /** 앱 알림함: 발송된 납부 알림 중 닫지 않은 것 */
+    @GetMapping("/payment-reminders")
+    public ResponseEntity<List<PaymentReminderResponse>> getPaymentReminders(
+            @RequestHeader("Authorization") String authHeader) {
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            return ResponseEntity.ok(paymentReminderService.getInbox(userNo));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    @PostMapping("/payment-reminders/{id}/dismiss")
+    public ResponseEntity<Void> dismissPaymentReminder(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long id) {
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            paymentReminderService.dismiss(userNo, id);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
     // ========== Residency Defect Issues ==========
     @GetMapping("/defect-issues")
     public ResponseEntity<List<ResidencyDefectIssueResponse>> getResidencyDefectIssues(
@@ -242,6 +316,47 @@ public class ResidencyController {
         }
     }
 
+    /**
+     * 하자 이슈 목록 요약 (최신순 페이지, 메모 없이 썸네일만). status로 필터
+     */
+    @GetMapping("/defect-issues/summaries")
+    public ResponseEntity<Page<ResidencyDefectIssueSummaryResponse>> getResidencyDefectIssueSummaries(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        ResidencyDefectIssue.IssueStatus issueStatus = null;
+        if (status != null && !status.isEmpty()) {
+            try {
+                issueStatus = ResidencyDefectIssue.IssueStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            }
+        }
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            return ResponseEntity.ok(residencyService.getResidencyDefectIssueSummaries(userNo, issueStatus, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    @GetMapping("/defect-issues/{id}")
+    public ResponseEntity<ResidencyDefectIssueResponse> getResidencyDefectIssue(
+            @RequestHeader("Authorization") String authHeader,
+            @PathVariable Long id) {
+        try {
+            String token = authHeader.replace("Bearer ", "");
+            Integer userNo = getUserIdFromToken(token);
+            return ResponseEntity.ok(residencyService.getResidencyDefectIssue(userNo, id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
     @PostMapping("/defect-issues")
     public ResponseEntity<?> createResidencyDefectIssue(
             @RequestHeader("Authorization") String authHeader,
@@ -0,0 +1,181 @@
+package com.homematch.domain.residency;
+
+import com.homematch.domain.moveout.MoveoutService;
+import com.homematch.domain.moveout.dto.EntryStatusRecordSummaryResponse;
+import com.homematch.domain.residency.dto.HousingContractResponse;
+import com.homematch.domain.residency.dto.HousingCostSettingsResponse;
+import com.homematch.domain.residency.dto.MonthlyHousingRecordResponse;
+import com.homematch.domain.residency.dto.ResidencyAgreementRecordResponse;
+import com.homematch.domain.residency.dto.ResidencyDashboardResponse;
+import com.homematch.domain.residency.dto.ResidencyDefectIssueSummaryResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 거주 관리 화면 초기 데이터를 한 번에 조회.
+ * - 섹션별 조회는 서로 독립이라 고정 크기 풀에서 병렬 실행, 각 섹션은 읽기 전용 트랜잭션 하나
+ * - 풀과 대기열이 가득 차면 그 섹션은 실행하지 않고 failedSections에 표시 (요청 스레드에서 직접 실행하지 않음)
+ * - 한 섹션이 실패하거나 timeout-millis를 넘기면 나머지 섹션만 응답하고 failedSections에 표시
+ *   (시간 초과 섹션은 취소: 대기열에 있으면 실행하지 않고, 실행 중이면 인터럽트)
+ * - 동시 실행 수(parallelism)는 DB 커넥션 풀 크기보다 작게 유지
+ */
+@Service
+public class ResidencyDashboardService {
+
+    private static final int LIST_SIZE = 100;
+    private static final int AGREEMENT_LIMIT = 10;
+
+    public enum Section {
+        CONTRACT("contract"),
+        COST_SETTINGS("costSettings"),
+        MONTHLY_RECORDS("monthlyRecords"),
+        DEFECT_ISSUES("defectIssues"),
+        AGREEMENT_RECORDS("agreementRecords"),
+        ENTRY_STATUS_RECORDS("entryStatusRecords");
+
+        private final String key;
+
+        Section(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /** "contract,defectIssues" 형식. 비어 있으면 전체 */
+        public static Set<Section> parse(String csv) {
+            if (csv == null || csv.isBlank()) {
+                return EnumSet.allOf(Section.class);
+            }
+            Set<Section> sections = EnumSet.noneOf(Section.class);
+            for (String token : csv.split(",")) {
+                String key = token.trim();
+                if (key.isEmpty()) continue;
+                Section section = Arrays.stream(values())
+                        .filter(s -> s.key.equalsIgnoreCase(key))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("알 수 없는 섹션입니다: " + key));
+                sections.add(section);
+            }
+            return sections.isEmpty() ? EnumSet.allOf(Section.class) : sections;
+        }
+    }
+
+    private final ResidencyService residencyService;
+    private final MoveoutService moveoutService;
+    private final TransactionTemplate readOnlyTx;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public ResidencyDashboardService(
+            ResidencyService residencyService,
+            MoveoutService moveoutService,
+            PlatformTransactionManager transactionManager,
+            @Value("${residency.dashboard.parallelism:4}") int parallelism,
+            @Value("${residency.dashboard.queue-capacity:50}") int queueCapacity,
+            @Value("${residency.dashboard.timeout-millis:5000}") long timeoutMillis
+    ) {
+        this.residencyService = residencyService;
+        this.moveoutService = moveoutService;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.timeoutMillis = timeoutMillis;
+        int poolSize = Math.max(1, parallelism);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread t = new Thread(r, "residency-dashboard");
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public ResidencyDashboardResponse getDashboard(Integer userNo, Set<Section> sections) {
+        // 요청한 섹션만 먼저 모두 제출한 뒤 결과를 모음
+        Future<HousingContractResponse> contract = submitIf(sections, Section.CONTRACT,
+                () -> residencyService.getHousingContract(userNo));
+        Future<HousingCostSettingsResponse> costSettings = submitIf(sections, Section.COST_SETTINGS,
+                () -> residencyService.getHousingCostSettings(userNo));
+        Future<List<MonthlyHousingRecordResponse>> monthlyRecords = submitIf(sections, Section.MONTHLY_RECORDS,
+                () -> residencyService.getMonthlyHousingRecords(userNo));
+        Future<List<ResidencyDefectIssueSummaryResponse>> defectIssues = submitIf(sections, Section.DEFECT_ISSUES,
+                () -> residencyService.getResidencyDefectIssueSummaries(userNo, null, 0, LIST_SIZE).getContent());
+        Future<List<ResidencyAgreementRecordResponse>> agreementRecords = submitIf(sections, Section.AGREEMENT_RECORDS,
+                () -> residencyService.getAgreementRecords(userNo, AGREEMENT_LIMIT));
+        Future<List<EntryStatusRecordSummaryResponse>> entryStatusRecords = submitIf(sections, Section.ENTRY_STATUS_RECORDS,
+                () -> moveoutService.getEntryStatusRecordSummaries(userNo, 0, LIST_SIZE).getContent());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        ResidencyDashboardResponse response = new ResidencyDashboardResponse();
+        List<String> failed = new ArrayList<>();
+        collect(contract, Section.CONTRACT, response::setContract, deadline, failed);
+        collect(costSettings, Section.COST_SETTINGS, response::setCostSettings, deadline, failed);
+        collect(monthlyRecords, Section.MONTHLY_RECORDS, response::setMonthlyRecords, deadline, failed);
+        collect(defectIssues, Section.DEFECT_ISSUES, response::setDefectIssues, deadline, failed);
+        collect(agreementRecords, Section.AGREEMENT_RECORDS, response::setAgreementRecords, deadline, failed);
+        collect(entryStatusRecords, Section.ENTRY_STATUS_RECORDS, response::setEntryStatusRecords, deadline, failed);
+        if (!failed.isEmpty()) {
+            response.setFailedSections(failed);
+        }
+        return response;
+    }
+
+    /** FutureTask로 제출해야 cancel(true)가 실행 중인 스레드를 인터럽트함 (CompletableFuture는 인터럽트하지 않음) */
+    private <T> Future<T> submitIf(Set<Section> sections, Section section, Supplier<T> query) {
+        if (!sections.contains(section)) {
+            return null;
+        }
+        try {
+            return executor.submit(() -> readOnlyTx.execute(status -> query.get()));
+        } catch (RejectedExecutionException e) {
+            System.err.println("대시보드 섹션 실행 거절 (대기열 초과): " + section.getKey());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /** 남은 시간 안에 끝난 섹션만 응답에 담음 (요청 스레드에서만 응답 객체를 채움) */
+    private <T> void collect(Future<T> future, Section section, Consumer<T> setter,
+                             long deadline, List<String> failed) {
+        if (future == null) {
+            return;
+        }
+        try {
+            long remaining = Math.max(0L, deadline - System.nanoTime());
+            setter.accept(future.get(remaining, TimeUnit.NANOSECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            failed.add(section.getKey());
+        } catch (TimeoutException e) {
+            System.err.println("대시보드 섹션 조회 시간 초과: " + section.getKey());
+            future.cancel(true);
+            failed.add(section.getKey());
+        } catch (Exception e) {
+            System.err.println("대시보드 섹션 조회 실패 (" + section.getKey() + "): " + e.getMessage());
+            failed.add(section.getKey());
+        }
+    }
+}
@@ -26,7 +26,7 @@ public class ResidencyDefectIssue {
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(name = "image_url", nullable = false, columnDefinition = "MEDIUMTEXT")
+    @Column(name = "image_url", nullable = false, length = 500)
     private String imageUrl;
 
     @Column(name = "issue_date", nullable = false)
@@ -43,6 +43,11 @@ public class ResidencyDefectIssue {
     @Column(name = "last_notified_at")
     private LocalDateTime lastNotifiedAt;
 
+    // 마지막 타임라인 이벤트 (연속 중복 방지용). 생성 후에는 조건부 UPDATE로만 변경 → 이슈 저장이 덮어쓰지 않음
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_event_type", length = 20, updatable = false)
+    private ResidencyIssueTimeline.EventType lastEventType;
+
     @Column(columnDefinition = "TEXT")
     private String memo;
 
@@ -1,11 +1,18 @@
 package com.homematch.domain.residency;
 
+import com.homematch.domain.residency.dto.ResidencyDefectIssueSummaryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ResidencyDefectIssueRepository extends JpaRepository<ResidencyDefectIssue, Long> {
@@ -16,4 +23,49 @@ public interface ResidencyDefectIssueRepository extends JpaRepository<ResidencyD
     List<ResidencyDefectIssue> findByUser_User_noAndStatusOrderByIssueDateDesc(
             @Param("userNo") Integer userNo,
             @Param("status") ResidencyDefectIssue.IssueStatus status);
+
+    // data URL(base64) 이미지 이전 작업용: 본문 없이 id만 조회
+    @Query("SELECT r.id FROM ResidencyDefectIssue r WHERE r.id > :afterId AND r.imageUrl LIKE 'data:%' ORDER BY r.id")
+    List<Long> findDataUrlImageIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT r.imageUrl FROM ResidencyDefectIssue r WHERE r.id = :id")
+    Optional<String> findImageUrlById(@Param("id") Long id);
+
+    // 이전 도중 사용자가 사진을 바꿨으면 덮어쓰지 않음 (0 반환)
+    @Modifying
+    @Transactional
+    @Query("UPDATE ResidencyDefectIssue r SET r.imageUrl = :imageUrl WHERE r.id = :id AND r.imageUrl LIKE 'data:%'")
+    int replaceDataUrlImage(@Param("id") Long id, @Param("imageUrl") String imageUrl);
+
+    // status가 null이면 전체
+    @Query(value = "SELECT new com.homematch.domain.residency.dto.ResidencyDefectIssueSummaryResponse(" +
+            "r.id, r.title, r.imageUrl, r.issueDate, r.status, r.riskLevel, r.lastNotifiedAt) " +
+            "FROM ResidencyDefectIssue r JOIN r.user u WHERE u.user_no = :userNo AND (:status IS NULL OR r.status = :status) " +
+            "ORDER BY r.issueDate DESC, r.createdAt DESC, r.id DESC",
+            countQuery = "SELECT COUNT(r) FROM ResidencyDefectIssue r JOIN r.user u " +
+                    "WHERE u.user_no = :userNo AND (:status IS NULL OR r.status = :status)")
+    Page<ResidencyDefectIssueSummaryResponse> findSummariesByUserNo(
+            @Param("userNo") Integer userNo,
+            @Param("status") ResidencyDefectIssue.IssueStatus status,
+            Pageable pageable);
+
+    @Query("SELECT r FROM ResidencyDefectIssue r JOIN r.user u WHERE u.user_no = :userNo AND r.id = :id")
+    Optional<ResidencyDefectIssue> findByUserNoAndId(@Param("userNo") Integer userNo, @Param("id") Long id);
+
+    /**
+     * 마지막 이벤트가 eventType과 다를 때만 갱신 (연속 중복 검사와 갱신을 한 문장으로, 행 잠금으로 동시 요청도 1건만 통과).
+     * notified면 last_notified_at도 함께 갱신. 반환 0이면 연속 중복
+     */
+    @Modifying
+    @Query(value = "UPDATE residency_defect_issues SET last_event_type = :eventType, "
+            + "last_notified_at = IF(:notified, :now, last_notified_at) "
+            + "WHERE id = :id AND (last_event_type IS NULL OR last_event_type <> :eventType)", nativeQuery = true)
+    int advanceLastEventType(@Param("id") Long id,
+                             @Param("eventType") String eventType,
+                             @Param("notified") boolean notified,
+                             @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ResidencyDefectIssue i SET i.lastNotifiedAt = :now WHERE i.id = :id")
+    int updateLastNotifiedAt(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
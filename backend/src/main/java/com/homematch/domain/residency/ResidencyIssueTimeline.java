@@ -6,7 +6,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "residency_issue_timelines")
+@Table(name = "residency_issue_timelines",
+        indexes = @Index(name = "idx_issue_timeline_issue_created", columnList = "defect_issue_id, created_at, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
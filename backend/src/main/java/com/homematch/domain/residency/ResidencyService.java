@@ -1,14 +1,19 @@
 package com.homematch.domain.residency;
 
+import com.homematch.domain.evidence.EvidenceSourceType;
+import com.homematch.domain.evidence.service.EvidenceSearchService;
+import com.homematch.domain.image.service.ImageService;
 import com.homematch.domain.residency.dto.*;
 import com.homematch.domain.user.User;
 import com.homematch.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,13 +25,19 @@ import java.util.stream.Collectors;
 @Transactional
 public class ResidencyService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final HousingContractRepository housingContractRepository;
     private final HousingCostSettingsRepository housingCostSettingsRepository;
     private final MonthlyHousingRecordRepository monthlyHousingRecordRepository;
+    private final HousingCostYearlySummaryRepository housingCostYearlySummaryRepository;
+    private final PaymentReminderService paymentReminderService;
     private final ResidencyDefectIssueRepository residencyDefectIssueRepository;
     private final ResidencyIssueTimelineRepository residencyIssueTimelineRepository;
     private final ResidencyAgreementRecordRepository residencyAgreementRecordRepository;
     private final UserRepository userRepository;
+    private final ImageService imageService;
+    private final EvidenceSearchService evidenceSearchService;
 
     // ========== Housing Contract ==========
     public HousingContractResponse getHousingContract(Integer userNo) {
@@ -173,11 +184,13 @@ public class ResidencyService {
             throw new IllegalArgumentException("납부일은 1~31 사이여야 합니다.");
         }
 
-        Optional<MonthlyHousingRecord> existing = monthlyHousingRecordRepository.findByUser_User_noAndYearAndMonth(
+        // 이전 값을 합계에서 빼야 하므로 잠근 채로 읽음
+        Optional<MonthlyHousingRecord> existing = monthlyHousingRecordRepository.findForUpdate(
                 userNo, request.getYear(), request.getMonth());
 
         if (existing.isPresent()) {
             MonthlyHousingRecord record = existing.get();
+            applyYearlySummary(userNo, record, -1);
             record = MonthlyHousingRecord.builder()
                     .id(record.getId())
                     .user(user)
@@ -193,6 +206,8 @@ public class ResidencyService {
                     .createdAt(record.getCreatedAt())
                     .build();
             MonthlyHousingRecord saved = monthlyHousingRecordRepository.save(record);
+            applyYearlySummary(userNo, saved, 1);
+            paymentReminderService.sync(userNo, saved);
             return toMonthlyHousingRecordResponse(saved);
         } else {
             MonthlyHousingRecord record = MonthlyHousingRecord.builder()
@@ -208,12 +223,14 @@ public class ResidencyService {
                     .notes(request.getNotes())
                     .build();
             MonthlyHousingRecord saved = monthlyHousingRecordRepository.save(record);
+            applyYearlySummary(userNo, saved, 1);
+            paymentReminderService.sync(userNo, saved);
             return toMonthlyHousingRecordResponse(saved);
         }
     }
 
     public void deleteMonthlyHousingRecord(Integer userNo, Long id) {
-        MonthlyHousingRecord record = monthlyHousingRecordRepository.findById(id)
+        MonthlyHousingRecord record = monthlyHousingRecordRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new IllegalArgumentException("기록을 찾을 수 없습니다."));
 
         if (!record.getUser().getUserNo().equals(userNo)) {
@@ -221,6 +238,72 @@ public class ResidencyService {
         }
 
         monthlyHousingRecordRepository.delete(record);
+        applyYearlySummary(userNo, record, -1);
+        paymentReminderService.cancel(userNo, record.getYear(), record.getMonth());
+    }
+
+    /** 연도별 합계 + 최근 2개월 증감. 월별 기록 전체 대신 연도 수만큼의 합계 행과 최근 기록 2건만 읽음 */
+    @Transactional(readOnly = true)
+    public HousingCostSummaryResponse getHousingCostSummary(Integer userNo) {
+        List<YearlyHousingCostResponse> years = housingCostYearlySummaryRepository.findByUserNoOrderByYearDesc(userNo)
+                .stream()
+                .filter(summary -> summary.getRecordCount() > 0)
+                .map(this::toYearlyHousingCostResponse)
+                .collect(Collectors.toList());
+
+        List<MonthlyHousingRecord> recent = monthlyHousingRecordRepository.findRecentByUserNo(userNo, PageRequest.of(0, 2));
+        MonthlyHousingRecordResponse latest = recent.size() > 0 ? toMonthlyHousingRecordResponse(recent.get(0)) : null;
+        MonthlyHousingRecordResponse previous = recent.size() > 1 ? toMonthlyHousingRecordResponse(recent.get(1)) : null;
+        BigDecimal change = latest != null && previous != null
+                ? monthlyTotal(latest.getRent(), latest.getMaintenance(), latest.getUtilities())
+                        .subtract(monthlyTotal(previous.getRent(), previous.getMaintenance(), previous.getUtilities()))
+                : null;
+
+        return HousingCostSummaryResponse.builder()
+                .years(years)
+                .latestMonth(latest)
+                .previousMonth(previous)
+                .monthOverMonthChange(change)
+                .build();
+    }
+
+    /** 월별 기록 1건을 연도별 합계에 더하거나(sign=1) 뺌(sign=-1). 기록 저장과 같은 트랜잭션 */
+    private void applyYearlySummary(Integer userNo, MonthlyHousingRecord record, int sign) {
+        BigDecimal factor = BigDecimal.valueOf(sign);
+        boolean paid = Boolean.TRUE.equals(record.getPaid());
+        BigDecimal rent = record.getRent().multiply(factor);
+        BigDecimal maintenance = record.getMaintenance().multiply(factor);
+        BigDecimal utilities = record.getUtilities().multiply(factor);
+        housingCostYearlySummaryRepository.applyDelta(userNo, record.getYear(), sign, paid ? sign : 0,
+                rent, maintenance, utilities,
+                paid ? rent : BigDecimal.ZERO,
+                paid ? maintenance : BigDecimal.ZERO,
+                paid ? utilities : BigDecimal.ZERO);
+    }
+
+    private YearlyHousingCostResponse toYearlyHousingCostResponse(HousingCostYearlySummary summary) {
+        BigDecimal total = monthlyTotal(summary.getRentTotal(), summary.getMaintenanceTotal(), summary.getUtilitiesTotal());
+        BigDecimal paidTotal = monthlyTotal(summary.getPaidRent(), summary.getPaidMaintenance(), summary.getPaidUtilities());
+        return YearlyHousingCostResponse.builder()
+                .year(summary.getYear())
+                .recordCount(summary.getRecordCount())
+                .paidCount(summary.getPaidCount())
+                .unpaidCount(summary.getRecordCount() - summary.getPaidCount())
+                .rentTotal(summary.getRentTotal())
+                .maintenanceTotal(summary.getMaintenanceTotal())
+                .utilitiesTotal(summary.getUtilitiesTotal())
+                .total(total)
+                .paidRent(summary.getPaidRent())
+                .paidMaintenance(summary.getPaidMaintenance())
+                .paidUtilities(summary.getPaidUtilities())
+                .paidTotal(paidTotal)
+                .unpaidTotal(total.subtract(paidTotal))
+                .monthlyAverage(total.divide(BigDecimal.valueOf(summary.getRecordCount()), 2, RoundingMode.HALF_UP))
+                .build();
+    }
+
+    private static BigDecimal monthlyTotal(BigDecimal rent, BigDecimal maintenance, BigDecimal utilities) {
+        return rent.add(maintenance).add(utilities);
     }
 
     private MonthlyHousingRecordResponse toMonthlyHousingRecordResponse(MonthlyHousingRecord record) {
@@ -253,6 +336,27 @@ public class ResidencyService {
                 .collect(Collectors.toList());
     }
 
+    /** 목록용 요약 (최신순 페이지, 메모 미조회). status가 null이면 전체 */
+    @Transactional(readOnly = true)
+    public Page<ResidencyDefectIssueSummaryResponse> getResidencyDefectIssueSummaries(
+            Integer userNo, ResidencyDefectIssue.IssueStatus status, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Page<ResidencyDefectIssueSummaryResponse> summaries = residencyDefectIssueRepository
+                .findSummariesByUserNo(userNo, status, PageRequest.of(Math.max(0, page), pageSize));
+        summaries.forEach(s -> {
+            s.setThumbnailUrl(imageService.thumbnailUrl(s.getImageUrl()));
+            s.setDisplayUrl(imageService.displayUrl(s.getImageUrl()));
+        });
+        return summaries;
+    }
+
+    @Transactional(readOnly = true)
+    public ResidencyDefectIssueResponse getResidencyDefectIssue(Integer userNo, Long id) {
+        ResidencyDefectIssue issue = residencyDefectIssueRepository.findByUserNoAndId(userNo, id)
+                .orElseThrow(() -> new IllegalArgumentException("이슈를 찾을 수 없습니다."));
+        return toResidencyDefectIssueResponse(issue);
+    }
+
     public ResidencyDefectIssueResponse createResidencyDefectIssue(Integer userNo, ResidencyDefectIssueRequest request) {
         User user = userRepository.findById(userNo)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -260,15 +364,21 @@ public class ResidencyService {
         ResidencyDefectIssue issue = ResidencyDefectIssue.builder()
                 .user(user)
                 .title(request.getTitle())
-                .imageUrl(request.getImageUrl())
+                .imageUrl(imageService.acquire(request.getImageUrl()))
                 .issueDate(request.getIssueDate())
                 .status(request.getStatus() != null ? request.getStatus() : ResidencyDefectIssue.IssueStatus.RECEIVED)
                 .riskLevel(request.getRiskLevel())
                 .memo(request.getMemo())
+                .lastEventType(ResidencyIssueTimeline.EventType.CREATED)
                 .build();
 
         ResidencyDefectIssue saved = residencyDefectIssueRepository.save(issue);
-        appendTimelineIfNotDuplicate(saved, ResidencyIssueTimeline.EventType.CREATED, null);
+        // 새 이슈라 중복 검사 없이 바로 기록
+        residencyIssueTimelineRepository.save(ResidencyIssueTimeline.builder()
+                .defectIssue(saved)
+                .eventType(ResidencyIssueTimeline.EventType.CREATED)
+                .build());
+        evidenceSearchService.indexDefectIssue(userNo, saved.getId(), saved.getTitle(), saved.getMemo(), saved.getIssueDate());
         return toResidencyDefectIssueResponse(saved);
     }
 
@@ -283,11 +393,17 @@ public class ResidencyService {
         ResidencyDefectIssue.IssueStatus previousStatus = issue.getStatus();
         ResidencyDefectIssue.IssueStatus nextStatus = request.getStatus() != null ? request.getStatus() : issue.getStatus();
 
+        // 사진이 바뀐 경우에만 새 참조 확보, 이전 사진은 저장 후 해제
+        String previousImageUrl = issue.getImageUrl();
+        String nextImageUrl = request.getImageUrl() != null && !request.getImageUrl().equals(previousImageUrl)
+                ? imageService.acquire(request.getImageUrl())
+                : previousImageUrl;
+
         issue = ResidencyDefectIssue.builder()
                 .id(issue.getId())
                 .user(issue.getUser())
                 .title(request.getTitle() != null ? request.getTitle() : issue.getTitle())
-                .imageUrl(request.getImageUrl() != null ? request.getImageUrl() : issue.getImageUrl())
+                .imageUrl(nextImageUrl)
                 .issueDate(request.getIssueDate() != null ? request.getIssueDate() : issue.getIssueDate())
                 .status(nextStatus)
                 .riskLevel(request.getRiskLevel() != null ? request.getRiskLevel() : issue.getRiskLevel())
@@ -297,6 +413,10 @@ public class ResidencyService {
                 .build();
 
         ResidencyDefectIssue saved = residencyDefectIssueRepository.save(issue);
+        evidenceSearchService.indexDefectIssue(userNo, saved.getId(), saved.getTitle(), saved.getMemo(), saved.getIssueDate());
+        if (!nextImageUrl.equals(previousImageUrl)) {
+            imageService.release(previousImageUrl);
+        }
 
         if (previousStatus != ResidencyDefectIssue.IssueStatus.COMPLETED
                 && saved.getStatus() == ResidencyDefectIssue.IssueStatus.COMPLETED) {
@@ -315,6 +435,9 @@ public class ResidencyService {
         }
 
         residencyDefectIssueRepository.delete(issue);
+        evidenceSearchService.remove(EvidenceSourceType.DEFECT_ISSUE, id);
+        evidenceSearchService.removeByParent(EvidenceSourceType.ISSUE_TIMELINE, id);
+        imageService.release(issue.getImageUrl());
     }
 
     private ResidencyDefectIssueResponse toResidencyDefectIssueResponse(ResidencyDefectIssue issue) {
@@ -322,6 +445,8 @@ public class ResidencyService {
                 .id(issue.getId())
                 .title(issue.getTitle())
                 .imageUrl(issue.getImageUrl())
+                .thumbnailUrl(imageService.thumbnailUrl(issue.getImageUrl()))
+                .displayUrl(imageService.displayUrl(issue.getImageUrl()))
                 .issueDate(issue.getIssueDate())
                 .status(issue.getStatus())
                 .riskLevel(issue.getRiskLevel())
@@ -359,13 +484,12 @@ public class ResidencyService {
             throw new IllegalArgumentException("권한이 없습니다.");
         }
 
-        if (request.getEventType() == ResidencyIssueTimeline.EventType.NOTIFIED) {
-            issue.updateLastNotifiedAt(LocalDateTime.now());
-            residencyDefectIssueRepository.save(issue);
-        }
-
         ResidencyIssueTimeline created = appendTimelineIfNotDuplicate(issue, request.getEventType(), request.getNote());
         if (created == null) {
+            if (request.getEventType() == ResidencyIssueTimeline.EventType.NOTIFIED) {
+                // 연속 중복이어도 마지막 통보 시각은 갱신
+                residencyDefectIssueRepository.updateLastNotifiedAt(defectIssueId, LocalDateTime.now());
+            }
             // 연속 중복인 경우: 마지막 이벤트를 그대로 반환
             ResidencyIssueTimeline last = residencyIssueTimelineRepository
                     .findTopByDefectIssue_IdOrderByCreatedAtDescIdDesc(defectIssueId)
@@ -388,17 +512,17 @@ public class ResidencyService {
 
     /**
      * 동일 이슈에 대해 같은 eventType이 "연속"으로 중복 저장되지 않게 방지.
-     * (마지막 이벤트가 동일하면 skip)
+     * (이슈의 last_event_type이 동일하면 skip. 타임라인을 다시 읽지 않고 조건부 UPDATE 1번으로 판단)
+     * NOTIFIED면 같은 UPDATE에서 last_notified_at도 갱신
      *
      * @return 생성된 타임라인(스킵되면 null)
      */
     private ResidencyIssueTimeline appendTimelineIfNotDuplicate(ResidencyDefectIssue issue,
                                                                ResidencyIssueTimeline.EventType eventType,
                                                                String note) {
-        Optional<ResidencyIssueTimeline> last = residencyIssueTimelineRepository
-                .findTopByDefectIssue_IdOrderByCreatedAtDescIdDesc(issue.getId());
-
-        if (last.isPresent() && last.get().getEventType() == eventType) {
+        int advanced = residencyDefectIssueRepository.advanceLastEventType(issue.getId(), eventType.name(),
+                eventType == ResidencyIssueTimeline.EventType.NOTIFIED, LocalDateTime.now());
+        if (advanced == 0) {
             return null;
         }
 
@@ -408,7 +532,12 @@ public class ResidencyService {
                 .note(note)
                 .build();
 
-        return residencyIssueTimelineRepository.save(timeline);
+        ResidencyIssueTimeline saved = residencyIssueTimelineRepository.save(timeline);
+        if (note != null && !note.isBlank()) {
+            evidenceSearchService.indexTimeline(issue.getUser().getUserNo(), saved.getId(), issue.getId(),
+                    note, saved.getCreatedAt());
+        }
+        return saved;
     }
 
     // ========== Agreement Records ==========
@@ -455,6 +584,8 @@ public class ResidencyService {
                 .build();
 
         ResidencyAgreementRecord saved = residencyAgreementRecordRepository.save(record);
+        evidenceSearchService.indexAgreementRecord(userNo, saved.getId(), request.getDefectIssueId(),
+                saved.getSummary(), saved.getCreatedAt());
         return toResidencyAgreementRecordResponse(saved);
     }
 
@@ -0,0 +1,24 @@
+package com.homematch.domain.residency.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 주거비 통계 (/api/residency/costs/summary).
+ * years: 최신 연도순 합계, latestMonth/previousMonth: 가장 최근 기록 2건과 총액 증감 (전월 대비)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HousingCostSummaryResponse {
+    private List<YearlyHousingCostResponse> years;
+    private MonthlyHousingRecordResponse latestMonth;
+    private MonthlyHousingRecordResponse previousMonth;
+    private BigDecimal monthOverMonthChange;
+}
@@ -0,0 +1,21 @@
+package com.homematch.domain.residency.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentReminderResponse {
+    private Long id;
+    private Integer year;
+    private Integer month;
+    private LocalDate dueDate;
+    private LocalDateTime sentAt;
+}
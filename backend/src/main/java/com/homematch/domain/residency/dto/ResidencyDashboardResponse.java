@@ -0,0 +1,29 @@
+package com.homematch.domain.residency.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.homematch.domain.moveout.dto.EntryStatusRecordSummaryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 거주 관리 화면 초기 데이터 (/api/residency/dashboard).
+ * 요청하지 않은 섹션은 응답에서 빠짐. 조회에 실패한 섹션은 failedSections에 이름만 담김
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResidencyDashboardResponse {
+    private HousingContractResponse contract;
+    private HousingCostSettingsResponse costSettings;
+    private List<MonthlyHousingRecordResponse> monthlyRecords;
+    private List<ResidencyDefectIssueSummaryResponse> defectIssues;
+    private List<ResidencyAgreementRecordResponse> agreementRecords;
+    private List<EntryStatusRecordSummaryResponse> entryStatusRecords;
+    private List<String> failedSections;
+}
@@ -17,6 +17,8 @@ public class ResidencyDefectIssueResponse {
     private Long id;
     private String title;
     private String imageUrl;
+    private String thumbnailUrl; // 목록용 축소본
+    private String displayUrl; // 상세 보기용 축소본
     private LocalDate issueDate;
     private ResidencyDefectIssue.IssueStatus status;
     private ResidencyDefectIssue.RiskLevel riskLevel;
@@ -0,0 +1,39 @@
+package com.homematch.domain.residency.dto;
+
+import com.homematch.domain.residency.ResidencyDefectIssue;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** 하자 이슈 목록 요약 (JPQL 생성자 projection, 메모 미조회). 상세는 /defect-issues/{id} */
+@Getter
+@NoArgsConstructor
+public class ResidencyDefectIssueSummaryResponse {
+    private Long id;
+    private String title;
+    private String imageUrl;
+    @Setter
+    private String thumbnailUrl; // 목록용 축소본 (조회 후 채움)
+    @Setter
+    private String displayUrl; // 상세 보기용 축소본 (조회 후 채움)
+    private LocalDate issueDate;
+    private ResidencyDefectIssue.IssueStatus status;
+    private ResidencyDefectIssue.RiskLevel riskLevel;
+    private LocalDateTime lastNotifiedAt;
+
+    public ResidencyDefectIssueSummaryResponse(Long id, String title, String imageUrl, LocalDate issueDate,
+                                               ResidencyDefectIssue.IssueStatus status,
+                                               ResidencyDefectIssue.RiskLevel riskLevel,
+                                               LocalDateTime lastNotifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.imageUrl = imageUrl;
+        this.issueDate = issueDate;
+        this.status = status;
+        this.riskLevel = riskLevel;
+        this.lastNotifiedAt = lastNotifiedAt;
+    }
+}
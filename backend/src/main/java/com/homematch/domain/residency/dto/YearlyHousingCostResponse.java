@@ -0,0 +1,30 @@
+package com.homematch.domain.residency.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/** 연도별 주거비 합계 (미납 = 합계 - 납부) */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class YearlyHousingCostResponse {
+    private Integer year;
+    private Integer recordCount;
+    private Integer paidCount;
+    private Integer unpaidCount;
+    private BigDecimal rentTotal;
+    private BigDecimal maintenanceTotal;
+    private BigDecimal utilitiesTotal;
+    private BigDecimal total;
+    private BigDecimal paidRent;
+    private BigDecimal paidMaintenance;
+    private BigDecimal paidUtilities;
+    private BigDecimal paidTotal;
+    private BigDecimal unpaidTotal;
+    private BigDecimal monthlyAverage;
+}
@@ -0,0 +1,10 @@
+package com.homematch.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** @Scheduled 작업 활성화 (FastAPI 헬스 체크 등) */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
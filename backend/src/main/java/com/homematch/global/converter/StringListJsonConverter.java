@@ -0,0 +1,46 @@
+package com.homematch.global.converter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * List&lt;String&gt; ↔ JSON 배열 문자열 컬럼 변환.
+ * 엔티티 로딩 시 한 번만 파싱되므로 서비스에서 매번 TypeReference로 파싱할 필요 없음.
+ * 깨진 JSON은 빈 목록으로 읽음 (기존 toResponse 동작과 동일)
+ */
+@Converter
+public class StringListJsonConverter implements AttributeConverter<List<String>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> LIST_TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<String> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(attribute);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("목록을 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            List<String> list = OBJECT_MAPPER.readValue(dbData, LIST_TYPE);
+            return list != null ? list : new ArrayList<>();
+        } catch (Exception e) {
+            return new ArrayList<>();
+        }
+    }
+}
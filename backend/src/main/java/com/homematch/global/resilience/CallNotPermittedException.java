@@ -0,0 +1,9 @@
+package com.homematch.global.resilience;
+
+/** 서킷 브레이커가 열려 있어 호출을 보내지 않았을 때 */
+public class CallNotPermittedException extends RuntimeException {
+
+    public CallNotPermittedException(String name) {
+        super(name + " 서킷이 열려 있어 요청을 보내지 않았습니다.");
+    }
+}
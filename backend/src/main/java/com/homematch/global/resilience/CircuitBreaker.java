@@ -0,0 +1,168 @@
+package com.homematch.global.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 오류율·지연 백분위 기반 서킷 브레이커.
+ * - CLOSED: 최근 windowSize건 중 오류율 또는 p95 지연이 임계치를 넘으면 OPEN
+ * - OPEN: openDurationMillis 동안 호출 즉시 거절 (호출측은 로컬 대체 경로 사용)
+ * - HALF_OPEN: 시험 호출 halfOpenProbes건만 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+
+    /** 최근 호출 결과 링 버퍼 (지연 ns, 실패 여부) */
+    private final long[] latencies;
+    private final boolean[] failures;
+    private int cursor;
+    private int recorded;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          long slowCallMillis, long openDurationMillis, int halfOpenProbes) {
+        if (windowSize <= 0 || minimumCalls <= 0 || halfOpenProbes <= 0) {
+            throw new IllegalArgumentException("서킷 브레이커 설정값은 0보다 커야 합니다.");
+        }
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallMillis * 1_000_000L;
+        this.openDurationNanos = openDurationMillis * 1_000_000L;
+        this.halfOpenProbes = halfOpenProbes;
+        this.latencies = new long[windowSize];
+        this.failures = new boolean[windowSize];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** 호출 가능 여부 확인 및 (HALF_OPEN이면) 시험 호출 슬롯 확보. true를 받았으면 반드시 onSuccess/onError/release 중 하나 호출 */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                // fall through
+            default:
+                if (probesInFlight + probesSucceeded >= halfOpenProbes) {
+                    return false;
+                }
+                probesInFlight++;
+                return true;
+        }
+    }
+
+    /** 슬롯을 확보하지 않고 현재 호출이 막혀 있는지만 확인 (OPEN 대기 시간이 지났으면 막히지 않은 것으로 봄) */
+    public synchronized boolean isCallPermitted() {
+        return state != State.OPEN || System.nanoTime() - openedAtNanos >= openDurationNanos;
+    }
+
+    public synchronized void onSuccess(long durationNanos) {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            probesSucceeded++;
+            if (probesSucceeded >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(durationNanos, false);
+        }
+    }
+
+    public synchronized void onError(long durationNanos) {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(durationNanos, true);
+        }
+    }
+
+    /** 결과 없이 끝난 호출(취소 등)의 슬롯 반환 */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /** 현재 창의 지연 백분위(ms). 기록이 없으면 0 */
+    public synchronized long latencyPercentileMillis(double percentile) {
+        if (recorded == 0) {
+            return 0L;
+        }
+        return percentileNanos(percentile) / 1_000_000L;
+    }
+
+    public synchronized double failureRate() {
+        if (recorded == 0) {
+            return 0.0;
+        }
+        int failed = 0;
+        for (int i = 0; i < recorded; i++) {
+            if (failures[i]) failed++;
+        }
+        return (double) failed / recorded;
+    }
+
+    private void record(long durationNanos, boolean failed) {
+        latencies[cursor] = durationNanos;
+        failures[cursor] = failed;
+        cursor = (cursor + 1) % windowSize;
+        if (recorded < windowSize) {
+            recorded++;
+        }
+        if (recorded < minimumCalls) {
+            return;
+        }
+        if (failureRate() >= failureRateThreshold || percentileNanos(0.95) >= slowCallNanos) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private long percentileNanos(double percentile) {
+        long[] sorted = Arrays.copyOf(latencies, recorded);
+        Arrays.sort(sorted);
+        int idx = (int) Math.ceil(percentile * recorded) - 1;
+        return sorted[Math.max(0, Math.min(recorded - 1, idx))];
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        probesInFlight = 0;
+        probesSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        if (next == State.CLOSED) {
+            // 장애 구간 기록은 버리고 새로 집계
+            cursor = 0;
+            recorded = 0;
+        }
+    }
+}
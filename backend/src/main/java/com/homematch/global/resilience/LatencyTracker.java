@@ -0,0 +1,44 @@
+package com.homematch.global.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N건 응답 시간 링 버퍼 (백분위 계산용).
+ * 헤지 요청 지연처럼 "평소 응답 시간" 기준이 필요한 곳에서 사용
+ */
+public class LatencyTracker {
+
+    private final long[] latencies;
+    private int cursor;
+    private int recorded;
+
+    public LatencyTracker(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize는 0보다 커야 합니다.");
+        }
+        this.latencies = new long[windowSize];
+    }
+
+    public synchronized void record(long durationNanos) {
+        latencies[cursor] = durationNanos;
+        cursor = (cursor + 1) % latencies.length;
+        if (recorded < latencies.length) {
+            recorded++;
+        }
+    }
+
+    public synchronized int size() {
+        return recorded;
+    }
+
+    /** 지연 백분위(ms). 기록이 없으면 0 */
+    public synchronized long percentileMillis(double percentile) {
+        if (recorded == 0) {
+            return 0L;
+        }
+        long[] sorted = Arrays.copyOf(latencies, recorded);
+        Arrays.sort(sorted);
+        int idx = (int) Math.ceil(percentile * recorded) - 1;
+        return sorted[Math.max(0, Math.min(recorded - 1, idx))] / 1_000_000L;
+    }
+}
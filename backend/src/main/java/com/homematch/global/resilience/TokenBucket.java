@@ -0,0 +1,56 @@
+package com.homematch.global.resilience;
+
+/**
+ * 분당 허용량 기반 토큰 버킷.
+ * - 최대 capacity 만큼 모아 둘 수 있고, 1분 동안 capacity 만큼 균등하게 다시 채워짐
+ * - 실제 사용량이 추정치와 다르면 adjust로 보정 (음수 잔량 = 다음 요청이 그만큼 대기)
+ */
+public class TokenBucket {
+
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    private final long capacity;
+    private final double refillPerNano;
+    private double available;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacityPerMinute) {
+        if (capacityPerMinute <= 0) {
+            throw new IllegalArgumentException("capacityPerMinute는 0보다 커야 합니다.");
+        }
+        this.capacity = capacityPerMinute;
+        this.refillPerNano = (double) capacityPerMinute / NANOS_PER_MINUTE;
+        this.available = capacityPerMinute;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /** amount 만큼 꺼내려면 얼마나 기다려야 하는지(ns). 0이면 바로 가능. 용량보다 큰 요청은 가득 찼을 때 허용 */
+    public synchronized long nanosUntilAvailable(long amount) {
+        refill();
+        double need = Math.min(amount, capacity);
+        if (available >= need) {
+            return 0L;
+        }
+        return (long) Math.ceil((need - available) / refillPerNano);
+    }
+
+    public synchronized void consume(long amount) {
+        refill();
+        available -= amount;
+    }
+
+    /** 추정치와 실제 사용량 차이 보정 (delta > 0 이면 더 차감) */
+    public synchronized void adjust(long delta) {
+        refill();
+        available = Math.min(capacity, available - delta);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            available = Math.min(capacity, available + elapsed * refillPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.homematch.global.scheduling;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 타이밍 휠 (지연 작업 다수를 스레드 1개로 관리).
+ * - tick 마다 현재 칸만 확인하므로 예약 수와 무관하게 tick당 비용이 일정 (우선순위 큐처럼 log n 아님)
+ * - 오차는 tick 이내. 만기된 작업은 executor에서 실행 (휠 스레드는 막지 않음)
+ * - 메모리 전용: 재시작 시 사라지므로 영속이 필요한 작업은 DB에 두고 가까운 것만 올려야 함
+ */
+public class HashedTimingWheel {
+
+    private final long tickNanos;
+    private final List<Timeout>[] buckets;
+    private final int mask;
+    private final Executor executor;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean stopped;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickMillis, int wheelSize, Executor executor) {
+        int size = Integer.highestOneBit(Math.max(2, wheelSize - 1)) << 1; // 2의 거듭제곱으로 올림
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.mask = size - 1;
+        this.executor = executor;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /** delayMillis 뒤 task 실행 예약. 0 이하면 다음 tick에 실행 */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        if (stopped) {
+            throw new IllegalStateException("타이밍 휠이 종료되었습니다.");
+        }
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        Timeout timeout = new Timeout(task, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    public void stop() {
+        stopped = true;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (!stopped) {
+            long sleepNanos = (tick + 1) * tickNanos - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (stopped) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            transferPending(tick);
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /** 새 예약을 칸에 배치. 휠 한 바퀴보다 먼 작업은 남은 바퀴 수(rounds)를 기록 */
+    private void transferPending(long currentTick) {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long deadlineTick = Math.max(currentTick, timeout.deadlineNanos / tickNanos);
+            timeout.rounds = (deadlineTick - currentTick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> bucket) {
+        Iterator<Timeout> it = bucket.iterator();
+        while (it.hasNext()) {
+            Timeout timeout = it.next();
+            if (timeout.cancelled) {
+                it.remove();
+            } else if (timeout.rounds <= 0) {
+                it.remove();
+                try {
+                    executor.execute(timeout.task);
+                } catch (RuntimeException e) {
+                    System.err.println("타이밍 휠 작업 실행 실패: " + e.getMessage());
+                }
+            } else {
+                timeout.rounds--;
+            }
+        }
+    }
+
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadlineNanos;
+        private long rounds;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.homematch.global.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 내용 주소(SHA-256) 기반 파일 저장소.
+ * - 같은 내용은 한 번만 저장하고 참조 수(ref count)로 관리, 참조가 0이 되면 삭제
+ * - 구현: LocalBlobStore (로컬 디스크). 오브젝트 스토리지는 같은 인터페이스로 추가
+ */
+public interface BlobStore {
+
+    /** DB 등에 저장할 참조 문자열 접두어 ("blob:" + sha256) */
+    String REF_PREFIX = "blob:";
+
+    /**
+     * 업로드 스테이징 경로 (아직 파일은 없음).
+     * 여기로 받은 파일을 put(Path)로 넘기면 같은 파일시스템 안에서 이동만 일어남
+     */
+    Path newStagingPath() throws IOException;
+
+    /** 스테이징 파일을 저장소로 이동하고 참조 1 증가. 반환: SHA-256 (hex) */
+    String put(Path stagedFile, String contentType) throws IOException;
+
+    /** 스트림을 읽으면서 해시를 계산해 저장하고 참조 1 증가. 반환: SHA-256 (hex) */
+    String put(InputStream in, String contentType) throws IOException;
+
+    /** 저장된 내용. Range 요청은 Resource 그대로 ResourceRegion으로 잘라서 응답 */
+    Optional<Resource> get(String hash);
+
+    Optional<String> contentType(String hash);
+
+    /** 같은 내용을 다른 곳에서 추가로 참조 */
+    void retain(String hash);
+
+    /** 참조 해제. 참조가 0이 되면 파일 삭제 */
+    void release(String hash);
+
+    static String toRef(String hash) {
+        return REF_PREFIX + hash;
+    }
+
+    static boolean isRef(String value) {
+        return value != null && value.startsWith(REF_PREFIX);
+    }
+
+    static String hashOf(String ref) {
+        return ref.substring(REF_PREFIX.length());
+    }
+}
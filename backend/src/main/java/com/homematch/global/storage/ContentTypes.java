@@ -0,0 +1,61 @@
+package com.homematch.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * 파일 앞부분(매직 넘버)으로 형식 판별. 클라이언트가 보낸 Content-Type은 믿지 않음
+ * (BlobStore에 기록하는 형식은 모두 여기서 판별한 값 → /api/images 응답 형식도 이 값만 나감)
+ */
+public final class ContentTypes {
+
+    public static final String JPEG = "image/jpeg";
+    public static final String PNG = "image/png";
+    public static final String GIF = "image/gif";
+    public static final String WEBP = "image/webp";
+    public static final String PDF = "application/pdf";
+    public static final String OCTET_STREAM = "application/octet-stream";
+
+    /** 사진(ImageService)으로 저장·응답하는 형식 */
+    public static final Set<String> IMAGES = Set.of(JPEG, PNG, GIF, WEBP);
+
+    /** 판별에 필요한 앞부분 길이 */
+    public static final int HEAD_LENGTH = 12;
+
+    private ContentTypes() {
+    }
+
+    /** 알 수 없는 형식이면 null */
+    public static String detect(byte[] head) {
+        if (head.length >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return JPEG;
+        }
+        if (head.length >= 8 && (head[0] & 0xFF) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+            return PNG;
+        }
+        if (head.length >= 6 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F' && head[3] == '8') {
+            return GIF;
+        }
+        if (head.length >= 12 && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return WEBP;
+        }
+        if (head.length >= 5 && head[0] == '%' && head[1] == 'P' && head[2] == 'D' && head[3] == 'F' && head[4] == '-') {
+            return PDF;
+        }
+        return null;
+    }
+
+    public static String detect(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return detect(in.readNBytes(HEAD_LENGTH));
+        }
+    }
+
+    public static boolean isImage(String contentType) {
+        return contentType != null && IMAGES.contains(contentType);
+    }
+}
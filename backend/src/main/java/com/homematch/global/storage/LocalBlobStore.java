@@ -0,0 +1,183 @@
+package com.homematch.global.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 로컬 디스크 BlobStore.
+ * - 경로: {root}/ab/cd/abcd...(sha256) — 앞 2바이트로 2단계 샤딩해 디렉토리당 파일 수 제한
+ * - 스테이징: {root}/tmp (같은 파일시스템이라 저장 시 rename만 발생)
+ * - 참조 수는 stored_blobs 테이블, 같은 해시의 저장/삭제는 해시별 락으로 직렬화 (단일 인스턴스 기준)
+ */
+@Component
+public class LocalBlobStore implements BlobStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final StoredBlobRepository storedBlobRepository;
+    private final Path root;
+    private final Path stagingDir;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public LocalBlobStore(
+            StoredBlobRepository storedBlobRepository,
+            @Value("${storage.local.root:uploads/blobs}") String root
+    ) {
+        this.storedBlobRepository = storedBlobRepository;
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.stagingDir = this.root.resolve("tmp");
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public Path newStagingPath() throws IOException {
+        Files.createDirectories(stagingDir);
+        return stagingDir.resolve(UUID.randomUUID() + ".part");
+    }
+
+    @Override
+    public String put(Path stagedFile, String contentType) throws IOException {
+        try {
+            return store(stagedFile, ContentHash.sha256(stagedFile), contentType);
+        } finally {
+            Files.deleteIfExists(stagedFile);
+        }
+    }
+
+    @Override
+    public String put(InputStream in, String contentType) throws IOException {
+        Path staged = newStagingPath();
+        try {
+            MessageDigest digest = ContentHash.newDigest();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            try (ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel out = FileChannel.open(staged, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+            return store(staged, HexFormat.of().formatHex(digest.digest()), contentType);
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(String hash) {
+        if (!isValidHash(hash)) {
+            return Optional.empty();
+        }
+        Path path = pathOf(hash);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(new FileSystemResource(path));
+    }
+
+    @Override
+    public Optional<String> contentType(String hash) {
+        if (!isValidHash(hash)) {
+            return Optional.empty();
+        }
+        return storedBlobRepository.findById(hash).map(StoredBlob::getContentType);
+    }
+
+    @Override
+    public void retain(String hash) {
+        if (!isValidHash(hash)) {
+            throw new IllegalArgumentException("잘못된 파일 해시입니다: " + hash);
+        }
+        synchronized (lockFor(hash)) {
+            if (storedBlobRepository.incrementRefCount(hash) == 0) {
+                throw new IllegalArgumentException("저장된 파일을 찾을 수 없습니다: " + hash);
+            }
+        }
+    }
+
+    @Override
+    public void release(String hash) {
+        if (!isValidHash(hash)) {
+            return;
+        }
+        synchronized (lockFor(hash)) {
+            storedBlobRepository.decrementRefCount(hash);
+            if (storedBlobRepository.deleteIfUnreferenced(hash) > 0) {
+                try {
+                    Files.deleteIfExists(pathOf(hash));
+                } catch (IOException e) {
+                    // 행은 지워졌으므로 남은 파일은 다음 같은 내용 저장 시 재사용됨
+                    System.err.println("저장 파일 삭제 실패 (" + hash + "): " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private String store(Path stagedFile, String hash, String contentType) throws IOException {
+        Path target = pathOf(hash);
+        long size = Files.size(stagedFile);
+        synchronized (lockFor(hash)) {
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(stagedFile, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException ignored) {
+                    // 같은 내용이 이미 저장됨 (스테이징 파일은 호출측에서 삭제)
+                }
+            }
+            if (storedBlobRepository.incrementRefCount(hash) == 0) {
+                try {
+                    storedBlobRepository.save(StoredBlob.builder()
+                            .hash(hash)
+                            .sizeBytes(size)
+                            .contentType(contentType)
+                            .refCount(1)
+                            .build());
+                } catch (DataIntegrityViolationException e) {
+                    // 다른 인스턴스가 먼저 행을 만든 경우
+                    storedBlobRepository.incrementRefCount(hash);
+                }
+            }
+        }
+        return hash;
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static boolean isValidHash(String hash) {
+        return hash != null && hash.matches("[0-9a-f]{64}");
+    }
+}
@@ -0,0 +1,54 @@
+package com.homematch.domain.evidence.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NgramTokenizerTest {
+
+    @Test
+    void splitsKoreanWordsIntoBigrams() {
+        Map<String, Integer> terms = NgramTokenizer.termFrequencies("곰팡이 발생");
+
+        assertEquals(List.of("곰팡", "팡이", "발생"), List.copyOf(terms.keySet()));
+        assertEquals(Map.of("곰팡", 1, "팡이", 1, "발생", 1), terms);
+    }
+
+    @Test
+    void countsRepeatedTerms() {
+        Map<String, Integer> terms = NgramTokenizer.termFrequencies("곰팡이, 벽지 곰팡이");
+
+        assertEquals(Map.of("곰팡", 2, "팡이", 2, "벽지", 1), terms);
+    }
+
+    @Test
+    void singleCharacterWordIsItsOwnTerm() {
+        Map<String, Integer> terms = NgramTokenizer.termFrequencies("벽 a 1 누수");
+
+        assertEquals(List.of("벽", "a", "1", "누수"), List.copyOf(terms.keySet()));
+    }
+
+    @Test
+    void splitsOnPunctuationAndNormalizesCase() {
+        Map<String, Integer> terms = NgramTokenizer.termFrequencies("Ａ동-302호! OK");
+
+        // NFKC(전각 → 반각) + 소문자, 글자·숫자가 아닌 문자에서 끊음
+        assertEquals(List.of("a동", "30", "02", "2호", "ok"), List.copyOf(terms.keySet()));
+    }
+
+    @Test
+    void queryTermsAreDistinctInOrder() {
+        assertEquals(List.of("곰팡", "팡이", "발생"),
+                List.copyOf(NgramTokenizer.queryTerms("곰팡이 발생 곰팡이")));
+    }
+
+    @Test
+    void blankTextHasNoTerms() {
+        assertTrue(NgramTokenizer.termFrequencies(null).isEmpty());
+        assertTrue(NgramTokenizer.queryTerms("  ,. ").isEmpty());
+    }
+}
@@ -0,0 +1,118 @@
+package com.homematch.global.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = 1_000_000L; // 1ms
+    private static final long OPEN_MILLIS = 50;
+
+    /** 창 4건, 최소 4건, 오류율 50%, 느린 호출 100ms, OPEN 50ms, 시험 호출 2건 */
+    private CircuitBreaker newBreaker() {
+        return new CircuitBreaker("test", 4, 4, 0.5, 100, OPEN_MILLIS, 2);
+    }
+
+    private CircuitBreaker openBreaker() {
+        CircuitBreaker breaker = newBreaker();
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onError(FAST);
+        breaker.onError(FAST);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+
+    private static void waitOpenDuration() throws InterruptedException {
+        Thread.sleep(OPEN_MILLIS + 30);
+    }
+
+    @Test
+    void staysClosedUntilMinimumCalls() {
+        CircuitBreaker breaker = newBreaker();
+        breaker.onError(FAST);
+        breaker.onError(FAST);
+        breaker.onError(FAST);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = openBreaker();
+
+        assertFalse(breaker.tryAcquire());
+        assertFalse(breaker.isCallPermitted());
+    }
+
+    @Test
+    void opensWhenP95LatencyIsSlow() {
+        CircuitBreaker breaker = newBreaker();
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(200 * FAST);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void moveToHalfOpenAfterOpenDurationAndLimitsProbes() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker();
+        waitOpenDuration();
+
+        assertTrue(breaker.isCallPermitted());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState()); // 확인만으로는 전이하지 않음
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire()); // 시험 호출 2건까지만
+    }
+
+    @Test
+    void closesWhenAllProbesSucceed() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker();
+        waitOpenDuration();
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess(FAST);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess(FAST);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0.0, breaker.failureRate()); // 장애 구간 기록은 버림
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void reopensWhenProbeFails() throws InterruptedException {
+        CircuitBreaker breaker = openBreaker();
+        waitOpenDuration();
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onError(FAST);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire()); // OPEN 대기 시간을 새로 시작
+    }
+
+    @Test
+    void releaseReturnsProbeSlot() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", 4, 4, 0.5, 100, OPEN_MILLIS, 1);
+        for (int i = 0; i < 4; i++) {
+            breaker.onError(FAST);
+        }
+        waitOpenDuration();
+
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.release();
+        assertTrue(breaker.tryAcquire());
+    }
+}
@@ -0,0 +1,73 @@
+package com.homematch.global.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    @Test
+    void startsFullAndWaitsAfterCapacityIsConsumed() {
+        TokenBucket bucket = new TokenBucket(60); // 초당 1개
+
+        assertEquals(0L, bucket.nanosUntilAvailable(60));
+        bucket.consume(60);
+
+        long wait = bucket.nanosUntilAvailable(1);
+        assertTrue(wait > TimeUnit.MILLISECONDS.toNanos(900), "wait=" + wait);
+        assertTrue(wait <= TimeUnit.SECONDS.toNanos(1), "wait=" + wait);
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(600_000); // ms당 10개
+        bucket.consume(600_000);
+        assertTrue(bucket.nanosUntilAvailable(300) > 0);
+
+        Thread.sleep(50); // 약 500개 다시 채워짐
+
+        assertEquals(0L, bucket.nanosUntilAvailable(300));
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(600_000);
+        Thread.sleep(20);
+        bucket.adjust(-1_000_000); // 사용량을 크게 낮춰 잡아도 capacity 이상 쌓이지 않음
+
+        bucket.consume(600_000);
+        assertTrue(bucket.nanosUntilAvailable(1_000) > 0);
+    }
+
+    @Test
+    void negativeBalanceDelaysNextRequest() {
+        TokenBucket bucket = new TokenBucket(60);
+        bucket.consume(60);
+        bucket.adjust(30); // 실제 사용량이 30 더 많았음 → 잔량 -30
+
+        long wait = bucket.nanosUntilAvailable(1);
+        assertTrue(wait > TimeUnit.SECONDS.toNanos(30), "wait=" + wait);
+        assertTrue(wait <= TimeUnit.SECONDS.toNanos(31), "wait=" + wait);
+    }
+
+    @Test
+    void requestLargerThanCapacityIsAllowedWhenFull() {
+        TokenBucket bucket = new TokenBucket(100);
+
+        assertEquals(0L, bucket.nanosUntilAvailable(1_000));
+        bucket.consume(1_000); // 잔량 -900
+
+        long wait = bucket.nanosUntilAvailable(1_000); // 가득 찰 때까지(1000개분) 대기
+        assertTrue(wait > TimeUnit.SECONDS.toNanos(599), "wait=" + wait);
+        assertTrue(wait <= TimeUnit.SECONDS.toNanos(600), "wait=" + wait);
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0));
+    }
+}
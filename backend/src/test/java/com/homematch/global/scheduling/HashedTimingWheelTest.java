@@ -0,0 +1,96 @@
+package com.homematch.global.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimingWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+
+    /** 칸 4개 → 한 바퀴 40ms */
+    private final HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", TICK_MILLIS, 4, Runnable::run);
+
+    @AfterEach
+    void stop() {
+        wheel.stop();
+    }
+
+    @Test
+    void firesAfterSeveralFullTurns() throws InterruptedException {
+        long start = System.nanoTime();
+        AtomicLong firedAt = new AtomicLong();
+        CountDownLatch fired = new CountDownLatch(1);
+
+        wheel.schedule(() -> {
+            firedAt.set(System.nanoTime());
+            fired.countDown();
+        }, 130); // 3바퀴 + 1칸
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(firedAt.get() - start);
+        assertTrue(elapsedMillis >= 130, "elapsed=" + elapsedMillis);
+        assertTrue(elapsedMillis < 130 + 10 * TICK_MILLIS, "elapsed=" + elapsedMillis);
+    }
+
+    @Test
+    void laterRoundInSameBucketWaitsForItsTurn() throws InterruptedException {
+        long start = System.nanoTime();
+        AtomicLong nearAt = new AtomicLong();
+        AtomicLong farAt = new AtomicLong();
+        CountDownLatch fired = new CountDownLatch(2);
+
+        // 20ms와 60ms는 한 바퀴(40ms) 차이라 같은 칸에 들어감
+        wheel.schedule(() -> {
+            nearAt.set(System.nanoTime());
+            fired.countDown();
+        }, 20);
+        wheel.schedule(() -> {
+            farAt.set(System.nanoTime());
+            fired.countDown();
+        }, 60);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(nearAt.get() - start) >= 20);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(farAt.get() - start) >= 60,
+                "far task fired one turn early");
+    }
+
+    @Test
+    void zeroDelayRunsOnNextTick() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+
+        wheel.schedule(fired::countDown, 0);
+
+        assertTrue(fired.await(10 * TICK_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void cancelledTaskDoesNotRun() throws InterruptedException {
+        AtomicBoolean cancelledRan = new AtomicBoolean();
+        CountDownLatch later = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout timeout = wheel.schedule(() -> cancelledRan.set(true), 30);
+        timeout.cancel();
+        wheel.schedule(later::countDown, 80);
+
+        assertTrue(later.await(2, TimeUnit.SECONDS));
+        assertTrue(timeout.isCancelled());
+        assertFalse(cancelledRan.get());
+    }
+
+    @Test
+    void rejectsScheduleAfterStop() {
+        wheel.stop();
+
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(() -> { }, 10));
+    }
+}
@@ -4,7 +4,7 @@ from __future__ import annotations
 import json
 import re
 import sys, os
-from typing import Any, Dict, Optional, Tuple
+from typing import Any, Dict, List, Optional, Tuple
 
 
 from fastapi import FastAPI, HTTPException
@@ -28,6 +28,11 @@ except Exception as e:
 
 _chain: Any = None
 _llm: Any = None
+_generation_chain: Any = None
+
+# 배치 분석 시 조항당 LLM 호출 동시 실행 수 / 요청당 최대 조항 수
+BATCH_LLM_CONCURRENCY = int(os.getenv("RAG_BATCH_LLM_CONCURRENCY", "4"))
+BATCH_MAX_CLAUSES = int(os.getenv("RAG_BATCH_MAX_CLAUSES", "32"))
 
 
 def _get_chain_and_llm():
@@ -80,7 +85,17 @@ class AnalyzeResponse(BaseModel):
     error_message: Optional[str] = None
 
 
-<<<<<<< HEAD
+class BatchAnalyzeRequest(BaseModel):
+    clauses: List[str]
+    rag_params: Optional[Dict[str, Any]] = None
+    strict: bool = False  # 배치에서는 조항 단위로 ok=false 처리 (요청 전체는 실패시키지 않음)
+    debug: bool = False
+
+
+class BatchAnalyzeResponse(BaseModel):
+    results: List[AnalyzeResponse]  # clauses와 같은 순서
+
+
 _CODE_FENCE_RE = re.compile(r"^\s*```(?:json)?\s*|\s*```\s*$", re.IGNORECASE)
 
 
@@ -151,6 +166,34 @@ def _parse_rag_params(rag_params: Optional[Dict[str, Any]]) -> RagParams:
         raise HTTPException(status_code=400, detail=f"invalid rag_params: {e!r}")
 
 
+def _get_generation_chain():
+    global _generation_chain
+    if _generation_chain is None:
+        from langchain_step_names import build_generation_chain  # type: ignore
+
+        _generation_chain = build_generation_chain()
+    return _generation_chain
+
+
+def _to_analyze_response(answer_raw: str, strict: bool) -> AnalyzeResponse:
+    """배치용: 파싱 실패/빈 응답도 예외 대신 조항별 결과로 반환."""
+    if not answer_raw:
+        return AnalyzeResponse(
+            ok=False, answer_raw="", parse_error=True, error_message="empty answer from llm"
+        )
+    try:
+        answer_json, _ = _safe_parse_json(answer_raw)
+        return AnalyzeResponse(ok=True, answer_raw=answer_raw, answer_json=answer_json)
+    except Exception as e:
+        return AnalyzeResponse(
+            ok=not strict,
+            answer_raw=answer_raw,
+            answer_json=None,
+            parse_error=True,
+            error_message=f"json_parse_failed: {e!r}",
+        )
+
+
 def _invoke_chain(*, clause_text: str, params: Any) -> str:
     chain, llm = _get_chain_and_llm()
     out = chain.invoke(
@@ -214,6 +257,64 @@ def analyze(req: AnalyzeRequest) -> AnalyzeResponse:
         )
 
 
+@app.post("/analyze/batch", response_model=BatchAnalyzeResponse)
+def analyze_batch(req: BatchAnalyzeRequest) -> BatchAnalyzeResponse:
+    """
+    여러 조항을 한 번에 분석.
+    - 임베딩/Chroma 검색/판례 전문 조회는 조항 전체에 대해 한 번씩 수행 (run_layered_rag_batch)
+    - LLM 생성은 조항별로 BATCH_LLM_CONCURRENCY개씩 병렬
+    - 조항 하나가 실패해도 나머지 결과는 그대로 반환 (ok=false + error_message)
+    """
+    clauses = [c.strip() for c in req.clauses]
+    if not clauses:
+        raise HTTPException(status_code=400, detail="clauses is empty")
+    if len(clauses) > BATCH_MAX_CLAUSES:
+        raise HTTPException(status_code=400, detail=f"too many clauses (max {BATCH_MAX_CLAUSES})")
+    if any(not c for c in clauses):
+        raise HTTPException(status_code=400, detail="clause_text is empty")
+
+    params = _parse_rag_params(req.rag_params)
+    _, llm = _get_chain_and_llm()
+
+    try:
+        from service_rag import run_layered_rag_batch  # type: ignore
+
+        rag_results = run_layered_rag_batch(
+            clauses,
+            top_k_law=params.top_k_law,
+            top_k_precedent=params.top_k_precedent,
+            top_k_mediation=params.top_k_mediation,
+            top_n_evidence_raw=params.top_n_evidence_raw,
+            top_n_evidence_final=params.top_n_evidence_final,
+        )
+    except HTTPException:
+        raise
+    except Exception as e:
+        raise HTTPException(status_code=503, detail=f"RAG batch retrieval failed: {e!r}")
+
+    inputs = [
+        {"clause_text": c, "rag_params": params, "llm": llm, "rag_result": r}
+        for c, r in zip(clauses, rag_results)
+    ]
+    outs = _get_generation_chain().batch(
+        inputs,
+        config={"max_concurrency": BATCH_LLM_CONCURRENCY},
+        return_exceptions=True,
+    )
+
+    results: List[AnalyzeResponse] = []
+    for out in outs:
+        if isinstance(out, Exception):
+            results.append(
+                AnalyzeResponse(
+                    ok=False, answer_raw="", parse_error=True, error_message=f"llm_failed: {out!r}"
+                )
+            )
+            continue
+        results.append(_to_analyze_response((out.get("answer") or "").strip(), req.strict))
+    return BatchAnalyzeResponse(results=results)
+
+
 # (선택) 디버그 전용: 기존 /analyze_raw 호환을 원하면 남겨두기
 @app.post("/analyze_raw")
 def analyze_raw(req: AnalyzeRequest):
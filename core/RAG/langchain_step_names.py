@@ -212,15 +212,26 @@ def step_llm(inp: Dict[str, Any]) -> Dict[str, Any]:
     return {**inp, "answer": answer}
 
 
-def build_chain() -> RunnableSequence:
-    rag = RunnableLambda(step_rag).with_config(run_name="01_rag_layered")
+def _generation_steps() -> List[RunnableLambda]:
     prompt = RunnableLambda(step_build_messages).with_config(
         run_name="02_prompt_messages"
     )
     llm = RunnableLambda(step_llm).with_config(run_name="03_llm_groq_generate")
     post = RunnableLambda(step_postprocess).with_config(run_name="04_postprocess")
+    return [prompt, llm, post]
+
+
+def build_chain() -> RunnableSequence:
+    rag = RunnableLambda(step_rag).with_config(run_name="01_rag_layered")
+    return RunnableSequence(rag, *_generation_steps())
+
 
-    return RunnableSequence(rag, prompt, llm, post)
+def build_generation_chain() -> RunnableSequence:
+    """
+    rag_result가 이미 채워진 입력용 체인 (배치 분석: RAG는 run_layered_rag_batch로 한 번에 수행).
+    입력: {"clause_text", "rag_params", "llm", "rag_result"}
+    """
+    return RunnableSequence(*_generation_steps())
 
 
 def main() -> None:
@@ -37,6 +37,28 @@ def embed_query(model: SentenceTransformer, text: str) -> List[float]:
     return vec.tolist()
 
 
+def embed_queries(model: SentenceTransformer, texts: List[str]) -> List[List[float]]:
+    """여러 질의를 한 번의 encode 호출로 임베딩 (배치 분석용)."""
+    if not texts:
+        return []
+    vecs = model.encode(texts, normalize_embeddings=True, show_progress_bar=False)
+    return [v.tolist() for v in vecs]
+
+
+def _hits_from_result(res: Dict[str, Any], qi: int) -> List[SearchHit]:
+    ids = (res.get("ids") or [[]])[qi]
+    docs = (res.get("documents") or [[]])[qi]
+    metas = (res.get("metadatas") or [[]])[qi]
+    dists = (res.get("distances") or [[]])[qi]
+
+    hits: List[SearchHit] = []
+    for i in range(len(ids)):
+        meta: Dict[str, Any] = metas[i] or {}
+        doc = Document(page_content=docs[i] or "", metadata=meta)
+        hits.append(SearchHit(doc=doc, distance=float(dists[i]), chroma_id=str(ids[i])))
+    return hits
+
+
 def search_chroma(
     *,
     collection_name: str,
@@ -64,15 +86,26 @@ def search_chroma(
         include=["documents", "metadatas", "distances"],
     )
 
-    ids = res.get("ids", [[]])[0]
-    docs = res.get("documents", [[]])[0]
-    metas = res.get("metadatas", [[]])[0]
-    dists = res.get("distances", [[]])[0]
+    return _hits_from_result(res, 0)
 
-    hits: List[SearchHit] = []
-    for i in range(len(ids)):
-        meta: Dict[str, Any] = metas[i] or {}
-        doc = Document(page_content=docs[i] or "", metadata=meta)
-        hits.append(SearchHit(doc=doc, distance=float(dists[i]), chroma_id=str(ids[i])))
 
-    return hits
+def search_chroma_batch(
+    *,
+    collection_name: str,
+    query_embeddings: List[List[float]],
+    top_k: int = 5,
+) -> List[List[SearchHit]]:
+    """
+    이미 임베딩된 여러 질의를 Chroma query 한 번으로 검색.
+    반환 리스트는 query_embeddings 순서와 같다.
+    """
+    if not query_embeddings:
+        return []
+
+    col = get_collection(collection_name)
+    res = col.query(
+        query_embeddings=query_embeddings,
+        n_results=top_k,
+        include=["documents", "metadatas", "distances"],
+    )
+    return [_hits_from_result(res, qi) for qi in range(len(query_embeddings))]
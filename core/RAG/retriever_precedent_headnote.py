@@ -8,7 +8,7 @@ from langchain_core.documents import Document
 from sentence_transformers import SentenceTransformer
 
 from config import RAG
-from retriever_chroma import SearchHit, search_chroma
+from retriever_chroma import SearchHit, search_chroma, search_chroma_batch
 
 
 @dataclass(frozen=True)
@@ -52,7 +52,27 @@ def retrieve_precedent_headnote(
         top_k=raw_top_k,
         model=model,
     )
+    return _dedupe_by_precedent(hits, top_k)
 
+
+def retrieve_precedent_headnote_batch(
+    query_embeddings: List[List[float]],
+    *,
+    top_k: int = 8,
+) -> List[List[PrecedentHeadnoteHit]]:
+    """여러 조항의 임베딩으로 판례 요지를 한 번에 검색 (결과는 입력 순서)."""
+    col_name = RAG.datasets["precedent"].collection_name
+    raw_top_k = max(top_k * 3, top_k)
+
+    per_query = search_chroma_batch(
+        collection_name=col_name,
+        query_embeddings=query_embeddings,
+        top_k=raw_top_k,
+    )
+    return [_dedupe_by_precedent(hits, top_k) for hits in per_query]
+
+
+def _dedupe_by_precedent(hits: List[SearchHit], top_k: int) -> List[PrecedentHeadnoteHit]:
     # precedent_id별로 가장 좋은(distance 가장 낮은) hit만 유지
     best_by_pid: Dict[str, PrecedentHeadnoteHit] = {}
 
@@ -7,9 +7,10 @@ from typing import Any, Dict, List, Optional
 from sentence_transformers import SentenceTransformer
 
 from config import RAG
-from retriever_chroma import search_chroma, SearchHit
+from retriever_chroma import search_chroma, search_chroma_batch, embed_queries, SearchHit
 from retriever_precedent_headnote import (
     retrieve_precedent_headnote,
+    retrieve_precedent_headnote_batch,
     PrecedentHeadnoteHit,
 )
 from precedent_repo import fetch_precedents_by_ids, PrecedentRecord
@@ -17,6 +18,17 @@ from evidence_extractor_bm25 import extract_evidence_bm25, EvidenceSpan
 from evidence_filters import rerank_and_filter_evidence, ScoredEvidence
 
 
+_EMBEDDING_MODEL: Optional[SentenceTransformer] = None
+
+
+def get_embedding_model() -> SentenceTransformer:
+    """임베딩 모델은 로드 비용이 커서 프로세스당 1회만 로드해 재사용."""
+    global _EMBEDDING_MODEL
+    if _EMBEDDING_MODEL is None:
+        _EMBEDDING_MODEL = SentenceTransformer(RAG.embedding_model_name)
+    return _EMBEDDING_MODEL
+
+
 @dataclass(frozen=True)
 class LayeredRAGResult:
     clause_text: str
@@ -49,7 +61,7 @@ def run_layered_rag(
     if not clause_text.strip():
         raise ValueError("clause_text is empty")
 
-    _model = model or SentenceTransformer(RAG.embedding_model_name)
+    _model = model or get_embedding_model()
 
     # 1) LAW layer
     law_col = RAG.datasets["law"].collection_name
@@ -72,6 +84,41 @@ def run_layered_rag(
     prec_map = fetch_precedents_by_ids(precedent_ids, include_full_text=True)
 
     # 4) evidence extract (BM25) + filter/rerank
+    ev_map_final = _extract_evidence(
+        clause_text,
+        precedent_ids,
+        prec_map,
+        top_n_evidence_raw=top_n_evidence_raw,
+        top_n_evidence_final=top_n_evidence_final,
+    )
+
+    # 5) MEDIATION layer
+    med_col = RAG.datasets["mediation"].collection_name
+    mediation_hits = search_chroma(
+        collection_name=med_col,
+        query_text=clause_text,
+        top_k=top_k_mediation,
+        model=_model,
+    )
+
+    return LayeredRAGResult(
+        clause_text=clause_text,
+        law_hits=law_hits,
+        mediation_hits=mediation_hits,
+        precedent_headnote_hits=prec_hits,
+        precedent_fulltext=prec_map,
+        precedent_evidence=ev_map_final,
+    )
+
+
+def _extract_evidence(
+    clause_text: str,
+    precedent_ids: List[str],
+    prec_map: Dict[str, PrecedentRecord],
+    *,
+    top_n_evidence_raw: int,
+    top_n_evidence_final: int,
+) -> Dict[str, List[ScoredEvidence]]:
     records: List[PrecedentRecord] = []
     for pid in precedent_ids:
         rec = prec_map.get(pid)
@@ -93,24 +140,76 @@ def run_layered_rag(
             min_adjusted_score=0.2,
         )
         ev_map_final[pid] = ranked[:top_n_evidence_final]
+    return ev_map_final
 
-    # 5) MEDIATION layer
-    med_col = RAG.datasets["mediation"].collection_name
-    mediation_hits = search_chroma(
-        collection_name=med_col,
-        query_text=clause_text,
+
+def run_layered_rag_batch(
+    clause_texts: List[str],
+    *,
+    top_k_law: int = 4,
+    top_k_precedent: int = 8,
+    top_k_mediation: int = 4,
+    top_n_evidence_raw: int = 8,
+    top_n_evidence_final: int = 3,
+    model: Optional[SentenceTransformer] = None,
+) -> List[LayeredRAGResult]:
+    """
+    여러 조항의 근거 패키지를 한 번에 생성 (결과는 입력 순서).
+    - 임베딩: encode 1회
+    - law / precedent / mediation: 컬렉션별 Chroma query 1회
+    - 판례 전문: 전체 조항의 precedent_id 합집합으로 DB 조회 1회
+    - BM25 근거 추출만 조항별로 수행
+    """
+    if any(not t.strip() for t in clause_texts):
+        raise ValueError("clause_text is empty")
+    if not clause_texts:
+        return []
+
+    _model = model or get_embedding_model()
+    embeddings = embed_queries(_model, clause_texts)
+
+    law_hits_all = search_chroma_batch(
+        collection_name=RAG.datasets["law"].collection_name,
+        query_embeddings=embeddings,
+        top_k=top_k_law,
+    )
+    prec_hits_all = retrieve_precedent_headnote_batch(embeddings, top_k=top_k_precedent)
+    mediation_hits_all = search_chroma_batch(
+        collection_name=RAG.datasets["mediation"].collection_name,
+        query_embeddings=embeddings,
         top_k=top_k_mediation,
-        model=_model,
     )
 
-    return LayeredRAGResult(
-        clause_text=clause_text,
-        law_hits=law_hits,
-        mediation_hits=mediation_hits,
-        precedent_headnote_hits=prec_hits,
-        precedent_fulltext=prec_map,
-        precedent_evidence=ev_map_final,
-    )
+    all_ids: List[str] = []
+    seen = set()
+    for hits in prec_hits_all:
+        for h in hits:
+            if h.precedent_id not in seen:
+                seen.add(h.precedent_id)
+                all_ids.append(h.precedent_id)
+    prec_map_all = fetch_precedents_by_ids(all_ids, include_full_text=True)
+
+    results: List[LayeredRAGResult] = []
+    for i, clause_text in enumerate(clause_texts):
+        precedent_ids = [h.precedent_id for h in prec_hits_all[i]]
+        prec_map = {pid: prec_map_all[pid] for pid in precedent_ids if pid in prec_map_all}
+        results.append(
+            LayeredRAGResult(
+                clause_text=clause_text,
+                law_hits=law_hits_all[i],
+                mediation_hits=mediation_hits_all[i],
+                precedent_headnote_hits=prec_hits_all[i],
+                precedent_fulltext=prec_map,
+                precedent_evidence=_extract_evidence(
+                    clause_text,
+                    precedent_ids,
+                    prec_map,
+                    top_n_evidence_raw=top_n_evidence_raw,
+                    top_n_evidence_final=top_n_evidence_final,
+                ),
+            )
+        )
+    return results
 
 
 if __name__ == "__main__":
@@ -293,16 +293,23 @@ export default function FloatingChatbot() {
       const reader = response.body?.getReader()
       if (!reader) throw new Error('스트리밍 응답을 읽을 수 없습니다.')
       const FINAL_PREFIX = '[FINAL]\n'
+      const PREVIEW_PREFIX = '[PREVIEW]\n'
+      // 가이드 미리보기가 떠 있는 동안 첫 LLM 청크가 오면 미리보기를 지우고 새로 채움
+      let showingPreview = false
       await consumeStream(reader, (delta) => {
+        const isPreview = delta.startsWith(PREVIEW_PREFIX)
+        const replace = isPreview || showingPreview || delta.startsWith(FINAL_PREFIX)
+        const text = isPreview
+          ? delta.slice(PREVIEW_PREFIX.length)
+          : delta.startsWith(FINAL_PREFIX)
+            ? delta.slice(FINAL_PREFIX.length)
+            : delta
+        showingPreview = isPreview
         setMessages((prev) => {
           const i = prev.findIndex((m) => m.id === botId)
           if (i < 0) return prev
           const next = [...prev]
-          if (delta.startsWith(FINAL_PREFIX)) {
-            next[i] = { ...next[i], text: delta.slice(FINAL_PREFIX.length) }
-          } else {
-            next[i] = { ...next[i], text: (next[i].text || '') + delta }
-          }
+          next[i] = { ...next[i], text: replace ? text : (next[i].text || '') + text }
           return next
         })
       })
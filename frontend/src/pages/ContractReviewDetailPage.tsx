@@ -15,6 +15,7 @@ type DetailLocationState = {
   reviewId?: number
   startedAt?: number
   specialTerms: string[]
+  saved?: boolean // 서버에 저장된 계약서 점검이면 true (분석 결과도 저장·재사용)
 }
 
 type AnswerJson = {
@@ -48,12 +49,16 @@ export default function ContractReviewDetailPage() {
   const state = (location.state || {}) as Partial<DetailLocationState>
   const reviewId = state.reviewId ?? Number(searchParams.get('reviewId') || 0)
   const specialTerms = Array.isArray(state.specialTerms) ? state.specialTerms : []
+  // 목록에서 들어왔거나(특약 state 없음) 업로드 후 저장된 점검이면 서버에 저장된 분석 결과 사용
+  const useStoredAnalysis = reviewId > 0 && (state.saved === true || specialTerms.length === 0)
 
   const [selectedClause, setSelectedClause] = useState(0)
 
   const [loading, setLoading] = useState(true)
   const [apiError, setApiError] = useState<string | null>(null)
   const [results, setResults] = useState<ApiClauseResult[]>([])
+  // 분석 작업 진행 중이면 받은 조항 수 / 전체 조항 수
+  const [progress, setProgress] = useState<{ done: number; total: number } | null>(null)
 
   // 경과시간
   const startedAt = state.startedAt ?? Date.now()
@@ -65,7 +70,85 @@ export default function ContractReviewDetailPage() {
   // ✅ dev StrictMode에서 effect 2번 실행 방지용
   const didRequestRef = useRef(false)
 
-  const requestContractCheck = async (terms: string[]) => {
+  // 점검 작업 결과 수신 (SSE): 조항이 끝날 때마다 'result', 작업이 끝나면 'done'
+  // 본인 작업만 조회되므로 Authorization 헤더가 필요 → EventSource 대신 fetch 스트림으로 읽음
+  const streamCheckJob = async (jobId: string, onResult: (r: ApiClauseResult) => void) => {
+    const token = localStorage.getItem('accessToken')
+    if (!token) {
+      throw new Error('로그인이 필요합니다.')
+    }
+
+    const res = await fetch(`http://localhost:8080/api/contract/check/${jobId}/events`, {
+      headers: { Authorization: `Bearer ${token}`, Accept: 'text/event-stream' },
+      signal: abortRef.current?.signal,
+    }).catch((e) => {
+      if (e instanceof DOMException && e.name === 'AbortError') {
+        throw new Error('요청이 취소되었습니다. (타임아웃 또는 사용자 취소)')
+      }
+      throw e
+    })
+    if (!res.ok || !res.body) {
+      throw new Error(`분석 결과를 받을 수 없습니다. (${res.status})`)
+    }
+
+    const reader = res.body.getReader()
+    const decoder = new TextDecoder()
+    let buffer = ''
+    try {
+      while (true) {
+        const { done, value } = await reader.read()
+        if (done) break
+        buffer += decoder.decode(value, { stream: true }).replace(/\r\n/g, '\n')
+
+        // 이벤트는 빈 줄로 구분 ("event: ...\ndata: ...\n\n")
+        let sep = buffer.indexOf('\n\n')
+        while (sep >= 0) {
+          const block = buffer.slice(0, sep)
+          buffer = buffer.slice(sep + 2)
+          sep = buffer.indexOf('\n\n')
+
+          let event = 'message'
+          const data: string[] = []
+          for (const line of block.split('\n')) {
+            if (line.startsWith('event:')) event = line.slice(6).trim()
+            else if (line.startsWith('data:')) data.push(line.slice(5).replace(/^ /, ''))
+          }
+          if (data.length === 0) continue
+
+          if (event === 'result') {
+            onResult(JSON.parse(data.join('\n')) as ApiClauseResult)
+          } else if (event === 'done') {
+            const job = JSON.parse(data.join('\n')) as { status?: string; errorMessage?: string | null }
+            if (job.status === 'FAILED') {
+              throw new Error(job.errorMessage || '분석 작업이 실패했습니다.')
+            }
+            if (job.status !== 'DONE') {
+              throw new Error('분석 작업이 중단되었습니다. 다시 시도해 주세요.')
+            }
+            return
+          }
+        }
+      }
+    } catch (e) {
+      if (e instanceof DOMException && e.name === 'AbortError') {
+        throw new Error('요청이 취소되었습니다. (타임아웃 또는 사용자 취소)')
+      }
+      throw e
+    } finally {
+      reader.cancel().catch(() => {})
+    }
+    throw new Error('분석 결과 수신이 끊어졌습니다. 다시 시도해 주세요.')
+  }
+
+  // 같은 index 결과는 교체, 특약 순서대로 정렬
+  const mergeResult = (prev: ApiClauseResult[], r: ApiClauseResult) =>
+    [...prev.filter((p) => p.index !== r.index), r].sort((a, b) => a.index - b.index)
+
+  // 저장하지 않은 특약 점검: 작업 등록(POST /check/jobs) 후 SSE로 조항 결과를 받음
+  const requestContractCheck = async (
+    terms: string[],
+    onUpdate: (results: ApiClauseResult[], total: number) => void,
+  ) => {
     const clauses = terms.map((t) => t.trim()).filter(Boolean)
 
     // 이전 요청이 남아있다면 정리
@@ -73,47 +156,107 @@ export default function ContractReviewDetailPage() {
     const controller = new AbortController()
     abortRef.current = controller
 
-    // 클라 타임아웃 (예: 90초) — 필요하면 180초로
-    const TIMEOUT_MS = 90_000
-    const timeoutId = window.setTimeout(() => {
-      controller.abort(new DOMException('Request timeout', 'AbortError'))
-    }, TIMEOUT_MS)
+    const token = localStorage.getItem('accessToken')
+    if (!token) {
+      throw new Error('로그인이 필요합니다.')
+    }
 
-    // "왜 오래걸리는지" 프론트에서 볼 수 있는 최소 정보:
-    // - fetch 시작 ~ 응답 헤더 도착까지
-    // - json 파싱까지
     const t0 = performance.now()
 
-    try {
-      const res = await fetch(`http://localhost:8080/api/contract/check`, {
-        method: 'POST',
-        headers: { 'Content-Type': 'application/json' },
-        body: JSON.stringify({ clauses, strict: false }),
+    const res = await fetch(`http://localhost:8080/api/contract/check/jobs`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json', Authorization: `Bearer ${token}` },
+      body: JSON.stringify({ clauses, strict: false }),
+      signal: controller.signal,
+    }).catch((e) => {
+      // AbortError면: 사용자 취소
+      if (e instanceof DOMException && e.name === 'AbortError') {
+        throw new Error('요청이 취소되었습니다. (타임아웃 또는 사용자 취소)')
+      }
+      throw e
+    })
+
+    if (!res.ok) {
+      const text = await res.text().catch(() => '')
+      throw new Error(`API 요청 실패 (${res.status}) ${text}`)
+    }
+
+    const job = (await res.json()) as { jobId: string; totalClauses?: number }
+    const total = job.totalClauses ?? clauses.length
+    console.log(`[contract/check/jobs] job ${job.jobId} accepted: ${Math.round(performance.now() - t0)}ms`)
+
+    let current: ApiClauseResult[] = []
+    onUpdate(current, total)
+    await streamCheckJob(job.jobId, (r) => {
+      if (current.length === 0) {
+        console.log(`[contract/check/jobs] first result: ${Math.round(performance.now() - t0)}ms`)
+      }
+      current = mergeResult(current, r)
+      onUpdate(current, total)
+    })
+    console.log(`[contract/check/jobs] done: ${Math.round(performance.now() - t0)}ms`)
+    return current
+  }
+
+  // 저장된 계약서 점검의 분석 결과 조회
+  // GET은 저장된 결과만 반환 → 없거나 바뀐 조항(staleClauses)이 있으면 POST로 분석 작업을 시작하고 SSE로 결과를 받음
+  const requestStoredAnalysis = async (
+    id: number,
+    onUpdate: (results: ApiClauseResult[], total: number) => void,
+  ) => {
+    const token = localStorage.getItem('accessToken')
+    if (!token) {
+      throw new Error('로그인이 필요합니다.')
+    }
+
+    abortRef.current?.abort()
+    const controller = new AbortController()
+    abortRef.current = controller
+
+    type StoredAnalysis = {
+      totalClauses?: number
+      staleClauses?: number[]
+      jobId?: string | null
+      results?: ApiClauseResult[]
+    }
+
+    const call = async (method: 'GET' | 'POST') => {
+      const res = await fetch(`http://localhost:8080/api/contract/review/${id}/analysis`, {
+        method,
+        headers: { Authorization: `Bearer ${token}` },
         signal: controller.signal,
+      }).catch((e) => {
+        if (e instanceof DOMException && e.name === 'AbortError') {
+          throw new Error('요청이 취소되었습니다. (타임아웃 또는 사용자 취소)')
+        }
+        throw e
       })
 
-      const t1 = performance.now()
-      console.log(`[contract/check] headers received: ${Math.round(t1 - t0)}ms`)
-
       if (!res.ok) {
         const text = await res.text().catch(() => '')
         throw new Error(`API 요청 실패 (${res.status}) ${text}`)
       }
+      return (await res.json()) as StoredAnalysis
+    }
 
-      const data = (await res.json()) as ApiClauseResult[]
-      const t2 = performance.now()
-      console.log(`[contract/check] json parsed: ${Math.round(t2 - t1)}ms (total ${Math.round(t2 - t0)}ms)`)
+    const stored = await call('GET')
+    const total = stored.totalClauses ?? 0
+    let current = Array.isArray(stored.results) ? stored.results : []
+    onUpdate(current, total)
 
-      return data
-    } catch (e) {
-      // AbortError면: 타임아웃 or 사용자 취소
-      if (e instanceof DOMException && e.name === 'AbortError') {
-        throw new Error('요청이 취소되었습니다. (타임아웃 또는 사용자 취소)')
-      }
-      throw e
-    } finally {
-      window.clearTimeout(timeoutId)
+    let jobId = stored.jobId ?? null
+    if (!jobId && (stored.staleClauses ?? []).length > 0) {
+      jobId = (await call('POST')).jobId ?? null
+    }
+    console.log(`[contract/review/analysis] stale clauses: ${(stored.staleClauses ?? []).length}, job: ${jobId ?? '-'}`)
+
+    if (jobId) {
+      await streamCheckJob(jobId, (r) => {
+        current = mergeResult(current, r)
+        onUpdate(current, total)
+      })
     }
+    return current
   }
 
   // ✅ 로딩 중에만 타이머
@@ -150,12 +293,26 @@ export default function ContractReviewDetailPage() {
         setLoading(true)
         setApiError(null)
 
-        const cleaned = specialTerms.map((t) => t.trim()).filter(Boolean)
-        if (cleaned.length === 0) {
-          throw new Error('특약사항이 없습니다. 이전 화면에서 특약을 입력해 주세요.')
+        // 결과가 하나라도 오면 바로 보여주고, 나머지는 도착하는 대로 채움
+        const onUpdate = (partial: ApiClauseResult[], total: number) => {
+          if (cancelled) return
+          setProgress({ done: partial.length, total })
+          if (partial.length > 0) {
+            setResults(partial)
+            setLoading(false)
+          }
         }
 
-        const data = await requestContractCheck(cleaned)
+        let data: ApiClauseResult[]
+        if (useStoredAnalysis) {
+          data = await requestStoredAnalysis(reviewId, onUpdate)
+        } else {
+          const cleaned = specialTerms.map((t) => t.trim()).filter(Boolean)
+          if (cleaned.length === 0) {
+            throw new Error('특약사항이 없습니다. 이전 화면에서 특약을 입력해 주세요.')
+          }
+          data = await requestContractCheck(cleaned, onUpdate)
+        }
         console.log('[contract/check response]', data)
 
         if (!cancelled) {
@@ -165,12 +322,13 @@ export default function ContractReviewDetailPage() {
       } catch (e) {
         console.error('[contract/check error]', e)
         if (!cancelled) {
-          setResults([])
+          // 이미 받은 조항 결과는 그대로 보여줌
           setApiError(e instanceof Error ? e.message : '분석 요청 중 오류')
         }
       } finally {
         if (!cancelled) setLoading(false)
         if (!cancelled) setIsCancelling(false)
+        if (!cancelled) setProgress(null)
       }
     }
 
@@ -202,10 +360,10 @@ export default function ContractReviewDetailPage() {
     // 1) 네트워크 요청 중단 시도
     abortRef.current?.abort()
 
-    // 2) UX는 즉시 로딩 종료 (fetch reject를 기다리지 않음)
+    // 2) UX는 즉시 로딩 종료 (fetch reject를 기다리지 않음). 이미 받은 조항 결과는 유지
     setApiError('사용자가 분석을 취소했습니다.')
-    setResults([])
     setLoading(false)
+    setProgress(null)
 
     // 3) 버튼 상태 원복
     setIsCancelling(false)
@@ -271,6 +429,25 @@ export default function ContractReviewDetailPage() {
             </div>
           </div>
 
+          {progress && progress.done < progress.total && (
+            <div className="flex items-center justify-between gap-3 rounded-xl border border-gray-200 bg-white px-4 py-3 text-sm">
+              <div className="flex items-center gap-3">
+                <div className="w-4 h-4 border-2 border-gray-300 border-t-primary-600 rounded-full animate-spin" />
+                <span className="text-gray-700">
+                  나머지 특약 분석중... ({progress.done}/{progress.total})
+                </span>
+              </div>
+              <button
+                type="button"
+                onClick={cancelRequest}
+                disabled={isCancelling}
+                className="rounded-lg border border-gray-300 px-3 py-1.5 text-xs text-gray-700 hover:bg-gray-50 disabled:opacity-60"
+              >
+                {isCancelling ? '취소 중...' : '분석 취소'}
+              </button>
+            </div>
+          )}
+
           {apiError && (
             <div className="rounded-xl border border-red-200 bg-red-50 text-red-800 px-4 py-3 text-sm">
               분석을 불러오지 못했습니다: {apiError}
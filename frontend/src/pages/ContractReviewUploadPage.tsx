@@ -86,16 +86,17 @@ export default function ContractReviewUploadPage() {
         throw new Error(errorData.error || '파일 업로드에 실패했습니다.')
       }
 
-      await response.json()
+      const created = (await response.json()) as { id: number }
 
-      // 업로드 성공 후 분석 페이지로 이동
-      const reviewId = Date.now()
+      // 업로드 성공 후 분석 페이지로 이동 (저장된 점검이라 분석 결과도 서버에 저장됨)
+      const reviewId = created.id
       const startedAt = Date.now()
       navigate(`/contract/review/detail?reviewId=${reviewId}`, {
         state: {
           reviewId,
           startedAt,
           specialTerms: finalSpecialTerms,
+          saved: true,
         },
       })
     } catch (error) {
@@ -154,7 +155,7 @@ export default function ContractReviewUploadPage() {
               <input
                 ref={fileInputRef}
                 type="file"
-                accept="image/*,.pdf"
+                accept="image/jpeg,image/png,.pdf,application/pdf"
                 multiple
                 className="hidden"
                 onChange={(e) => addFiles(Array.from(e.target.files || []))}
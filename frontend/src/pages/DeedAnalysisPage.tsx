@@ -12,7 +12,7 @@ import {
   Loader2,
 } from 'lucide-react'
 
-// 개발 시 Vite 프록시 사용: /api/deed → localhost:8000 (core/RAG/api_server.py 실행 필요)
+// 개발 시 Vite 프록시 사용: /api/deed → Spring(8080) 게이트웨이 → core/register (core/RAG/api_server.py 실행 필요)
 const DEED_API_URL = import.meta.env.VITE_DEED_API_URL ?? ''
 const DEED_BASE = DEED_API_URL || '/api/deed'
 
@@ -36,7 +36,7 @@ const CHECK_ITEMS_TEMPLATE: CheckItem[] = [
 ]
 
 interface UploadResponse {
-  document_id: number
+  document_id: string
   extracted_text: string
   parsed_data: Record<string, unknown>
   sections: { pyojebu?: string; gapgu?: string; eulgu?: string }
@@ -51,7 +51,7 @@ interface CheckItemResponse {
 
 interface RiskAnalysisResponse {
   success: boolean
-  document_id: number
+  document_id: string
   structured: Record<string, unknown>
   risk_flags: string[]
   explanation: string
@@ -110,6 +110,11 @@ export default function DeedAnalysisPage() {
 
   const runAnalysis = async () => {
     if (!uploadedFile) return
+    const token = localStorage.getItem('accessToken')
+    if (!token) {
+      setError('로그인이 필요합니다.')
+      return
+    }
     setError(null)
     setIsAnalyzing(true)
     try {
@@ -120,8 +125,12 @@ export default function DeedAnalysisPage() {
 
       const uploadRes = await fetch(`${DEED_BASE}/upload`, {
         method: 'POST',
+        headers: { Authorization: `Bearer ${token}` },
         body: form,
       })
+      if (uploadRes.status === 401) {
+        throw new Error('로그인이 만료되었습니다. 다시 로그인해 주세요.')
+      }
       if (!uploadRes.ok) {
         const t = await uploadRes.text()
         throw new Error(t || `업로드 실패 (${uploadRes.status})`)
@@ -129,9 +138,9 @@ export default function DeedAnalysisPage() {
       const uploadData: UploadResponse = await uploadRes.json()
       setUploadResult(uploadData)
 
-      const riskRes = await fetch(`${DEED_BASE}/documents/${uploadData.document_id}/risk-analysis`, {
+      const riskRes = await fetch(`${DEED_BASE}/documents/${encodeURIComponent(uploadData.document_id)}/risk-analysis`, {
         method: 'POST',
-        headers: { 'Content-Type': 'application/json' },
+        headers: { 'Content-Type': 'application/json', Authorization: `Bearer ${token}` },
       })
       if (!riskRes.ok) {
         const t = await riskRes.text()
@@ -4,7 +4,9 @@ import './MoveOutPage.css'
 
 interface EntryStatusRecord {
   id: string
-  imageUrl: string
+  imageUrl: string // 원본 (다운로드용)
+  thumbnailUrl?: string // 200px 축소본
+  displayUrl?: string // 1024px 축소본
   date: string
   type: string
   description?: string
@@ -296,33 +298,22 @@ export default function MoveOutPage() {
         '조명·콘센트·스위치 정상 작동',
       ]
 
-      // 체크리스트 생성 (순차적으로 실행)
-      for (const item of moveOutItems) {
-        await fetch('http://localhost:8080/api/moveout/checklists', {
-          method: 'POST',
-          headers: getAuthHeaders(),
-          body: JSON.stringify({
-            checklistType: 'MOVE_OUT',
-            itemName: item,
-            isCompleted: false
-          })
-        })
-      }
+      // 체크리스트 한 번에 생성 (이미 있는 항목은 그대로 유지)
+      const items = [
+        ...moveOutItems.map((itemName) => ({ checklistType: 'MOVE_OUT', itemName })),
+        ...restorationItems.map((itemName) => ({ checklistType: 'RESTORATION', itemName })),
+      ]
+      const response = await fetch('http://localhost:8080/api/moveout/checklists/bulk', {
+        method: 'POST',
+        headers: getAuthHeaders(),
+        body: JSON.stringify({ items })
+      })
 
-      for (const item of restorationItems) {
-        await fetch('http://localhost:8080/api/moveout/checklists', {
-          method: 'POST',
-          headers: getAuthHeaders(),
-          body: JSON.stringify({
-            checklistType: 'RESTORATION',
-            itemName: item,
-            isCompleted: false
-          })
-        })
+      if (response.ok) {
+        setMoveoutChecklists(await response.json())
+      } else {
+        throw new Error(`체크리스트 생성 실패: ${response.status}`)
       }
-
-      // 생성 후 다시 불러오기
-      await loadChecklists()
     } catch (error) {
       console.error('체크리스트 초기화 실패:', error)
       hasInitialized.current = false // 실패 시 다시 시도할 수 있도록
@@ -337,18 +328,20 @@ export default function MoveOutPage() {
       const token = localStorage.getItem('accessToken')
       if (!token) return
 
-      const response = await fetch('http://localhost:8080/api/moveout/entry-status-records', {
+      // 목록은 요약(설명 제외, 축소본 주소 포함)만 받음
+      const response = await fetch('http://localhost:8080/api/moveout/entry-status-records/summaries?size=100', {
         headers: getAuthHeaders()
       })
 
       if (response.ok) {
         const data = await response.json()
-        const records: EntryStatusRecord[] = data.map((record: any) => ({
+        const records: EntryStatusRecord[] = data.content.map((record: any) => ({
           id: record.id.toString(),
           imageUrl: record.imageUrl,
+          thumbnailUrl: record.thumbnailUrl,
+          displayUrl: record.displayUrl,
           date: record.recordDate,
-          type: record.recordType,
-          description: record.description
+          type: record.recordType
         }))
         setEntryStatusRecords(records)
       } else if (response.status === 404) {
@@ -476,7 +469,11 @@ export default function MoveOutPage() {
             {entryStatusRecords.map((record) => (
               <div key={record.id} className="border border-gray-200 rounded-lg p-4">
                 <img
-                  src={record.imageUrl}
+                  src={record.thumbnailUrl || record.imageUrl}
+                  srcSet={record.thumbnailUrl && record.displayUrl
+                    ? `${record.thumbnailUrl} 200w, ${record.displayUrl} 1024w`
+                    : undefined}
+                  sizes="(min-width: 768px) 25vw, 100vw"
                   alt={record.type}
                   className="w-full h-48 object-cover rounded mb-3 border border-gray-200"
                 />
@@ -23,6 +23,7 @@ interface MonthlyRecord {
 interface EntryStatusRecord {
   id: string
   imageUrl: string
+  thumbnailUrl?: string // 목록용 축소본 (없으면 원본)
   date: string
   type: string
   description?: string
@@ -53,26 +54,31 @@ export default function ResidencyManagementPage() {
   const [entryStatusRecords, setEntryStatusRecords] = useState<EntryStatusRecord[]>([])
   const [isDragging, setIsDragging] = useState<boolean>(false)
   
+  const applyEntryStatusRecords = (list: any[]) => {
+    const records: EntryStatusRecord[] = list.map((r: any) => ({
+      id: r.id.toString(),
+      imageUrl: r.imageUrl,
+      thumbnailUrl: r.thumbnailUrl,
+      date: r.recordDate,
+      type: r.recordType
+    }))
+    setEntryStatusRecords(records)
+  }
+
   // 입주 상태 기록 불러오기 (MoveOutPage API 사용)
   const loadEntryStatusRecords = async () => {
     try {
       const token = localStorage.getItem('accessToken')
       if (!token) return
 
-      const response = await fetch('http://localhost:8080/api/moveout/entry-status-records', {
+      // 목록은 요약(설명 제외, 썸네일 주소 포함)만 받음
+      const response = await fetch('http://localhost:8080/api/moveout/entry-status-records/summaries?size=100', {
         headers: getAuthHeaders()
       })
 
       if (response.ok) {
         const data = await response.json()
-        const records: EntryStatusRecord[] = data.map((r: any) => ({
-          id: r.id.toString(),
-          imageUrl: r.imageUrl,
-          date: r.recordDate,
-          type: r.recordType,
-          description: r.description
-        }))
-        setEntryStatusRecords(records)
+        applyEntryStatusRecords(data.content)
       } else if (response.status === 404) {
         // 데이터가 없으면 빈 배열
         setEntryStatusRecords([])
@@ -102,6 +108,7 @@ export default function ResidencyManagementPage() {
   interface DefectIssue {
     id: string
     imageUrl: string
+    thumbnailUrl?: string // 목록용 축소본 (없으면 원본)
     title: string
     date: string
     status: '처리 중' | '접수 완료' | '처리 완료' | '거절'
@@ -180,6 +187,32 @@ export default function ResidencyManagementPage() {
     }
   }
 
+  // 압축한 data URL 이미지를 서버 파일로 업로드하고 기록에 저장할 짧은 URL을 받음 (이미 업로드된 URL은 그대로)
+  const uploadImage = async (imageUrl: string): Promise<string> => {
+    if (!imageUrl.startsWith('data:')) return imageUrl
+    const blob = await (await fetch(imageUrl)).blob()
+    const formData = new FormData()
+    formData.append('file', blob, 'image.jpg')
+    const token = localStorage.getItem('accessToken')
+    const response = await fetch('http://localhost:8080/api/images', {
+      method: 'POST',
+      headers: { 'Authorization': `Bearer ${token || ''}` },
+      body: formData
+    })
+    if (!response.ok) {
+      throw new Error(`이미지 업로드 실패: ${response.status}`)
+    }
+    const data = await response.json()
+    return data.url
+  }
+
+  const applyContract = (data: any) => {
+    if (data) {
+      setSavedContractStartDate(data.contractStartDate)
+      setSavedContractEndDate(data.contractEndDate)
+    }
+  }
+
   // 계약 기간 불러오기
   const loadContract = async () => {
     try {
@@ -192,10 +225,7 @@ export default function ResidencyManagementPage() {
 
       if (response.ok) {
         const data = await response.json()
-        if (data) {
-          setSavedContractStartDate(data.contractStartDate)
-          setSavedContractEndDate(data.contractEndDate)
-        }
+        applyContract(data)
       } else if (response.status === 404) {
         // 데이터가 없으면 그냥 넘어감 (정상)
       }
@@ -204,6 +234,18 @@ export default function ResidencyManagementPage() {
     }
   }
 
+  const applyCostSettings = (data: any) => {
+    if (data) {
+      setHousingCost({
+        rent: Number(data.rent),
+        maintenance: Number(data.maintenance),
+        utilities: Number(data.utilities),
+        paymentDate: data.paymentDate,
+        autoRegister: data.autoRegister
+      })
+    }
+  }
+
   // 주거비 설정 불러오기
   const loadCostSettings = async () => {
     try {
@@ -216,15 +258,7 @@ export default function ResidencyManagementPage() {
 
       if (response.ok) {
         const data = await response.json()
-        if (data) {
-          setHousingCost({
-            rent: Number(data.rent),
-            maintenance: Number(data.maintenance),
-            utilities: Number(data.utilities),
-            paymentDate: data.paymentDate,
-            autoRegister: data.autoRegister
-          })
-        }
+        applyCostSettings(data)
       } else if (response.status === 404) {
         // 데이터가 없으면 그냥 넘어감 (정상)
       }
@@ -233,6 +267,20 @@ export default function ResidencyManagementPage() {
     }
   }
 
+  const applyMonthlyRecords = (list: any[]) => {
+    const records: MonthlyRecord[] = list.map((r: any) => ({
+      id: r.id,
+      year: r.year,
+      month: r.month,
+      rent: Number(r.rent),
+      maintenance: Number(r.maintenance),
+      utilities: Number(r.utilities),
+      paymentDate: r.paymentDate,
+      paid: r.paid
+    }))
+    setMonthlyRecords(records)
+  }
+
   // 월별 주거비 기록 불러오기
   const loadMonthlyRecords = async () => {
     try {
@@ -245,17 +293,7 @@ export default function ResidencyManagementPage() {
 
       if (response.ok) {
         const data = await response.json()
-        const records: MonthlyRecord[] = data.map((r: any) => ({
-          id: r.id,
-          year: r.year,
-          month: r.month,
-          rent: Number(r.rent),
-          maintenance: Number(r.maintenance),
-          utilities: Number(r.utilities),
-          paymentDate: r.paymentDate,
-          paid: r.paid
-        }))
-        setMonthlyRecords(records)
+        applyMonthlyRecords(data)
       } else if (response.status === 404) {
         // 데이터가 없으면 빈 배열
         setMonthlyRecords([])
@@ -265,28 +303,34 @@ export default function ResidencyManagementPage() {
     }
   }
 
+  const applyDefectIssues = (list: any[]) => {
+    const issues: DefectIssue[] = list.map((r: any) => ({
+      id: r.id.toString(),
+      imageUrl: r.imageUrl,
+      thumbnailUrl: r.thumbnailUrl,
+      title: r.title,
+      date: r.issueDate,
+      status: mapStatusToKorean(r.status),
+      riskLevel: r.riskLevel ?? null,
+      lastNotifiedAt: r.lastNotifiedAt ?? null,
+    }))
+    setDefectIssues(issues)
+  }
+
   // 거주 중 이슈 기록 불러오기
   const loadDefectIssues = async () => {
     try {
       const token = localStorage.getItem('accessToken')
       if (!token) return
 
-      const response = await fetch('http://localhost:8080/api/residency/defect-issues', {
+      // 목록은 요약(메모 제외, 썸네일 주소 포함)만 받음
+      const response = await fetch('http://localhost:8080/api/residency/defect-issues/summaries?size=100', {
         headers: getAuthHeaders()
       })
 
       if (response.ok) {
         const data = await response.json()
-        const issues: DefectIssue[] = data.map((r: any) => ({
-          id: r.id.toString(),
-          imageUrl: r.imageUrl,
-          title: r.title,
-          date: r.issueDate,
-          status: mapStatusToKorean(r.status),
-          riskLevel: r.riskLevel ?? null,
-          lastNotifiedAt: r.lastNotifiedAt ?? null,
-        }))
-        setDefectIssues(issues)
+        applyDefectIssues(data.content)
       } else if (response.status === 404) {
         // 데이터가 없으면 빈 배열
         setDefectIssues([])
@@ -296,6 +340,18 @@ export default function ResidencyManagementPage() {
     }
   }
 
+  const applyAgreementRecords = (list: any[]) => {
+    const records: AgreementRecord[] = list.map((r: any) => ({
+      id: r.id.toString(),
+      defectIssueId: r.defectIssueId != null ? r.defectIssueId.toString() : null,
+      counterpart: r.counterpart,
+      communicationType: r.communicationType,
+      summary: r.summary,
+      createdAt: r.createdAt
+    }))
+    setAgreementRecords(records)
+  }
+
   const loadAgreementRecords = async () => {
     try {
       const token = localStorage.getItem('accessToken')
@@ -307,15 +363,7 @@ export default function ResidencyManagementPage() {
 
       if (response.ok) {
         const data = await response.json()
-        const records: AgreementRecord[] = data.map((r: any) => ({
-          id: r.id.toString(),
-          defectIssueId: r.defectIssueId != null ? r.defectIssueId.toString() : null,
-          counterpart: r.counterpart,
-          communicationType: r.communicationType,
-          summary: r.summary,
-          createdAt: r.createdAt
-        }))
-        setAgreementRecords(records)
+        applyAgreementRecords(data)
       }
     } catch (error) {
       console.error('연락/합의 기록 불러오기 실패:', error)
@@ -551,14 +599,45 @@ export default function ResidencyManagementPage() {
     return d.toLocaleString('ko-KR', { year: 'numeric', month: '2-digit', day: '2-digit', hour: '2-digit', minute: '2-digit' })
   }
 
+  // 초기 데이터 한 번에 불러오기 (실패한 섹션만 개별 API로 다시 시도)
+  const loadDashboard = async () => {
+    const token = localStorage.getItem('accessToken')
+    if (!token) return
+
+    const reloaders: Record<string, () => Promise<void>> = {
+      contract: loadContract,
+      costSettings: loadCostSettings,
+      monthlyRecords: loadMonthlyRecords,
+      defectIssues: loadDefectIssues,
+      agreementRecords: loadAgreementRecords,
+      entryStatusRecords: loadEntryStatusRecords
+    }
+
+    try {
+      const response = await fetch('http://localhost:8080/api/residency/dashboard', {
+        headers: getAuthHeaders()
+      })
+      if (!response.ok) {
+        Object.values(reloaders).forEach((reload) => reload())
+        return
+      }
+      const data = await response.json()
+      applyContract(data.contract)
+      applyCostSettings(data.costSettings)
+      if (data.monthlyRecords) applyMonthlyRecords(data.monthlyRecords)
+      if (data.defectIssues) applyDefectIssues(data.defectIssues)
+      if (data.agreementRecords) applyAgreementRecords(data.agreementRecords)
+      if (data.entryStatusRecords) applyEntryStatusRecords(data.entryStatusRecords)
+      const failedSections: string[] = data.failedSections ?? []
+      failedSections.forEach((section) => reloaders[section]?.())
+    } catch (error) {
+      console.error('거주 관리 데이터 불러오기 실패:', error)
+    }
+  }
+
   // 초기 데이터 로드
   useEffect(() => {
-    loadContract()
-    loadCostSettings()
-    loadMonthlyRecords()
-    loadDefectIssues()
-    loadAgreementRecords()
-    loadEntryStatusRecords()
+    loadDashboard()
   }, [])
 
   const handleDateSave = async () => {
@@ -974,11 +1053,13 @@ export default function ResidencyManagementPage() {
         return
       }
 
+      const storedImageUrl = await uploadImage(pendingEntryStatus.imageUrl)
+
       const response = await fetch('http://localhost:8080/api/moveout/entry-status-records', {
         method: 'POST',
         headers: getAuthHeaders(),
         body: JSON.stringify({
-          imageUrl: pendingEntryStatus.imageUrl,
+          imageUrl: storedImageUrl,
           recordType: finalType,
           recordDate: pendingEntryStatus.date.split('T')[0], // YYYY-MM-DD 형식으로 변환
           description: null
@@ -996,6 +1077,7 @@ export default function ResidencyManagementPage() {
         const newRecord: EntryStatusRecord = {
           id: data.id.toString(),
           imageUrl: data.imageUrl,
+          thumbnailUrl: data.thumbnailUrl,
           date: data.recordDate,
           type: data.recordType,
           description: data.description
@@ -1144,13 +1226,26 @@ export default function ResidencyManagementPage() {
   }
 
   // 이슈 수정 모달 열기
-  const handleEditIssue = (issue: DefectIssue) => {
+  const handleEditIssue = async (issue: DefectIssue) => {
     setEditingIssueId(issue.id)
     setIssueRecordTitle(issue.title)
     setIssueRecordStatus(issue.status)
     setResidencyIssueImage(issue.imageUrl)
-    setResidencyIssueMemo('') // 메모는 별도로 불러와야 할 수도 있음
+    setResidencyIssueMemo('')
     setIsIssueRecordModalOpen(true)
+
+    // 목록 요약에는 메모가 없으므로 상세 조회로 채움
+    try {
+      const response = await fetch(`http://localhost:8080/api/residency/defect-issues/${issue.id}`, {
+        headers: getAuthHeaders()
+      })
+      if (response.ok) {
+        const data = await response.json()
+        setResidencyIssueMemo(data.memo || '')
+      }
+    } catch (error) {
+      console.error('이슈 상세 조회 실패:', error)
+    }
   }
 
   // 이슈 기록 모달에서 저장 (생성 또는 수정)
@@ -1185,13 +1280,14 @@ export default function ResidencyManagementPage() {
         : 'http://localhost:8080/api/residency/defect-issues'
       
       const method = isEditing ? 'PUT' : 'POST'
+      const storedImageUrl = await uploadImage(residencyIssueImage)
 
       const response = await fetch(url, {
         method: method,
         headers: getAuthHeaders(),
         body: JSON.stringify({
           title: issueRecordTitle.trim(),
-          imageUrl: residencyIssueImage,
+          imageUrl: storedImageUrl,
           issueDate: isEditing 
             ? defectIssues.find(i => i.id === editingIssueId)?.date || new Date().toISOString().split('T')[0]
             : new Date().toISOString().split('T')[0],
@@ -1212,6 +1308,7 @@ export default function ResidencyManagementPage() {
         const updatedIssue: DefectIssue = {
           id: data.id.toString(),
           imageUrl: data.imageUrl,
+          thumbnailUrl: data.thumbnailUrl,
           title: data.title,
           date: data.issueDate,
           status: mapStatusToKorean(data.status)
@@ -1418,7 +1515,7 @@ export default function ResidencyManagementPage() {
                     <div key={issue.id} className="border border-gray-200 rounded-lg p-4">
                       <div className="flex items-start gap-4">
                         <img
-                          src={issue.imageUrl}
+                          src={issue.thumbnailUrl || issue.imageUrl}
                           alt={issue.title}
                           className="w-16 h-16 object-cover rounded border border-gray-200 flex-shrink-0"
                         />
@@ -1683,7 +1780,7 @@ export default function ResidencyManagementPage() {
                         <Trash2 className="w-4 h-4" />
                       </button>
                       <img
-                        src={record.imageUrl}
+                        src={record.thumbnailUrl || record.imageUrl}
                         alt={record.type}
                         className="w-full h-32 object-cover rounded mb-3 border border-gray-200"
                       />
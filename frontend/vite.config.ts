@@ -6,11 +6,15 @@ export default defineConfig({
   plugins: [react()],
   server: {
     proxy: {
-      // 등기부등본 분석 API (통합 FastAPI: core/RAG/api_server.py, 포트 8000)
+      // 등기부등본 분석 API (Spring 게이트웨이 → core/register, 같은 파일은 저장된 결과 반환)
       '/api/deed': {
-        target: 'http://localhost:8000',
+        target: 'http://localhost:8080',
+        changeOrigin: true,
+      },
+      // 입주 상태·하자 사진 (기록에는 /api/images/{sha256} 경로만 저장)
+      '/api/images': {
+        target: 'http://localhost:8080',
         changeOrigin: true,
-        rewrite: (path) => path.replace(/^\/api\/deed/, ''),
       },
     },
   },